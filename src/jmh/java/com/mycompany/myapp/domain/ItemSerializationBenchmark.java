@@ -0,0 +1,76 @@
+package com.mycompany.myapp.domain;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Per-request cost of (de)serializing a page of {@link Item}s, with reflective property access and with the Blackbird
+ * module enabled by {@code application.jackson.blackbird}.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=ItemSerializationBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemSerializationBenchmark {
+
+    private static final TypeReference<List<Item>> ITEMS = new TypeReference<>() {};
+
+    @Param({ "false", "true" })
+    private boolean blackbird;
+
+    @Param({ "20", "1000" })
+    private int size;
+
+    private List<Item> items;
+
+    private byte[] json;
+
+    private ObjectWriter writer;
+
+    private ObjectReader reader;
+
+    @Setup
+    public void setup() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        if (blackbird) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+        items = new ArrayList<>(size);
+        Instant now = Instant.now();
+        for (int i = 0; i < size; i++) {
+            RefType user = new RefType(new ObjectId().toHexString(), RefType.RefTo.User);
+            Item item = new Item().id(new ObjectId().toHexString()).name("Item " + i).price(String.valueOf(i * 10));
+            item.setCategory(new RefType(new ObjectId().toHexString(), RefType.RefTo.category));
+            item.setCreateInfo(new CreateInfo(user, now.minusSeconds(i)));
+            item.setUpdateInfo(new UpdateInfo(user, now));
+            items.add(item);
+        }
+        writer = objectMapper.writerFor(ITEMS);
+        reader = objectMapper.readerFor(ITEMS);
+        json = writer.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(items);
+    }
+
+    @Benchmark
+    public List<Item> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+}
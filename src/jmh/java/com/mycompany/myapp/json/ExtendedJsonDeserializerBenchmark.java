@@ -0,0 +1,122 @@
+package com.mycompany.myapp.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.mycompany.myapp.domain.CreateInfo;
+import com.mycompany.myapp.domain.RefType;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares the streaming ObjectId and {@code $date} deserializers with the previous ones, which read a
+ * {@link JsonNode} tree per value.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=ExtendedJsonDeserializerBenchmark}; allocation rates are reported with
+ * {@code -prof gc}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtendedJsonDeserializerBenchmark {
+
+    private static final TypeReference<List<CreateInfo>> CREATE_INFOS = new TypeReference<>() {};
+
+    @Param({ "1000" })
+    private int size;
+
+    private byte[] json;
+
+    private ObjectReader streamingReader;
+
+    private ObjectReader treeReader;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder("[");
+        long now = Instant.now().toEpochMilli();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder
+                .append("{\"user\":{\"_id\":{\"$oid\":\"")
+                .append(new ObjectId().toHexString())
+                .append("\"},\"_ref\":\"User\"},\"created_date\":{\"$date\":")
+                .append(now - i)
+                .append("}}");
+        }
+        json = builder.append(']').toString().getBytes();
+
+        streamingReader = new ObjectMapper().readerFor(CREATE_INFOS);
+        treeReader =
+            new ObjectMapper()
+                .addMixIn(RefType.class, TreeRefTypeMixIn.class)
+                .addMixIn(CreateInfo.class, TreeCreateInfoMixIn.class)
+                .readerFor(CREATE_INFOS);
+    }
+
+    @Benchmark
+    public List<CreateInfo> streaming() throws IOException {
+        return streamingReader.readValue(json);
+    }
+
+    @Benchmark
+    public List<CreateInfo> tree() throws IOException {
+        return treeReader.readValue(json);
+    }
+
+    abstract static class TreeRefTypeMixIn {
+
+        @JsonDeserialize(using = TreeObjectIdDeserializer.class)
+        abstract void setId(String id);
+    }
+
+    abstract static class TreeCreateInfoMixIn {
+
+        @JsonDeserialize(using = TreeMongoDateDeserializer.class)
+        abstract void setCreatedDate(Instant createdDate);
+    }
+
+    /**
+     * The previous {@link ObjectIdToStringDeserializer}, without its debug logging.
+     */
+    static class TreeObjectIdDeserializer extends JsonDeserializer<String> {
+
+        @Override
+        public String deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+            JsonNode node = jp.getCodec().readTree(jp);
+            if (node == null || node.get("$oid") == null) {
+                return null;
+            }
+            return node.get("$oid").asText();
+        }
+    }
+
+    /**
+     * The previous {@link MongoDate2InstantDeserializer}, without its debug logging.
+     */
+    static class TreeMongoDateDeserializer extends JsonDeserializer<Instant> {
+
+        @Override
+        public Instant deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+            JsonNode node = jp.getCodec().readTree(jp);
+            if (node == null || node.get("$date") == null) {
+                return null;
+            }
+            return Instant.ofEpochMilli(node.get("$date").asLong());
+        }
+    }
+}
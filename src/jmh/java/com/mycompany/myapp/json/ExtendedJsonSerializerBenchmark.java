@@ -0,0 +1,78 @@
+package com.mycompany.myapp.json;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mycompany.myapp.domain.CreateInfo;
+import com.mycompany.myapp.domain.RefType;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares serializing ids and dates as extended JSON with plain Jackson serialization of the same values, to keep the
+ * overhead of the extended JSON serializers in check.
+ * <p>
+ * Run with {@code ./gradlew jmh -Pjmh.includes=ExtendedJsonSerializerBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtendedJsonSerializerBenchmark {
+
+    @Param({ "1000" })
+    private int size;
+
+    private List<CreateInfo> createInfos;
+
+    private ObjectWriter extendedJsonWriter;
+
+    private ObjectWriter plainWriter;
+
+    @Setup
+    public void setup() {
+        createInfos = new ArrayList<>(size);
+        Instant now = Instant.now();
+        for (int i = 0; i < size; i++) {
+            createInfos.add(new CreateInfo(new RefType(new ObjectId().toHexString(), RefType.RefTo.User), now.minusMillis(i)));
+        }
+        extendedJsonWriter = new ObjectMapper().writer();
+        plainWriter =
+            new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .addMixIn(RefType.class, PlainRefTypeMixIn.class)
+                .addMixIn(CreateInfo.class, PlainCreateInfoMixIn.class)
+                .writer();
+    }
+
+    @Benchmark
+    public byte[] extendedJson() throws IOException {
+        return extendedJsonWriter.writeValueAsBytes(createInfos);
+    }
+
+    @Benchmark
+    public byte[] plain() throws IOException {
+        return plainWriter.writeValueAsBytes(createInfos);
+    }
+
+    abstract static class PlainRefTypeMixIn {
+
+        @JsonSerialize(using = JsonSerializer.None.class)
+        abstract String getId();
+    }
+
+    abstract static class PlainCreateInfoMixIn {
+
+        @JsonSerialize(using = JsonSerializer.None.class)
+        abstract Instant getCreatedDate();
+    }
+}
@@ -0,0 +1,96 @@
+package com.mycompany.myapp.aop.logging;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Renders values for logging when, and only when, the log message is formatted, stopping at a maximum length: the
+ * elements of arrays and collections beyond it are not rendered at all.
+ */
+final class CappedRendering {
+
+    private static final String ELLIPSIS = "...";
+
+    private final Object value;
+
+    private final int maxLength;
+
+    private CappedRendering(Object value, int maxLength) {
+        this.value = value;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * @param value the value to render, possibly an array or a collection.
+     * @param maxLength the maximum length of the rendering, not counting the trailing ellipsis and element count.
+     * @return an object rendering the value in its {@code toString()}.
+     */
+    static Object of(Object value, int maxLength) {
+        return new CappedRendering(value, maxLength);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        render(builder, value);
+        return builder.toString();
+    }
+
+    private void render(StringBuilder builder, Object value) {
+        if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            renderElements(builder, collection.iterator(), collection.size());
+        } else if (value != null && value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            renderElements(builder, new Iterator<>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return index < length;
+                }
+
+                @Override
+                public Object next() {
+                    return Array.get(value, index++);
+                }
+            }, length);
+        } else {
+            append(builder, String.valueOf(value));
+        }
+    }
+
+    private void renderElements(StringBuilder builder, Iterator<?> elements, int size) {
+        builder.append('[');
+        boolean first = true;
+        while (elements.hasNext()) {
+            if (isFull(builder)) {
+                if (builder.lastIndexOf(ELLIPSIS) != builder.length() - ELLIPSIS.length()) {
+                    builder.append(ELLIPSIS);
+                }
+                builder.append(" (").append(size).append(" elements)");
+                break;
+            }
+            if (!first) {
+                builder.append(", ");
+            }
+            first = false;
+            render(builder, elements.next());
+        }
+        builder.append(']');
+    }
+
+    private void append(StringBuilder builder, String rendering) {
+        int remaining = maxLength - builder.length();
+        if (rendering.length() <= remaining) {
+            builder.append(rendering);
+        } else {
+            builder.append(rendering, 0, Math.max(remaining, 0)).append(ELLIPSIS);
+        }
+    }
+
+    private boolean isFull(StringBuilder builder) {
+        return builder.length() >= maxLength;
+    }
+}
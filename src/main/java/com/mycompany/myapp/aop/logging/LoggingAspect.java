@@ -1,54 +1,117 @@
 package com.mycompany.myapp.aop.logging;
 
-import java.util.Arrays;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.AfterThrowing;
-import org.aspectj.lang.annotation.Around;
-import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.Profiles;
+import org.springframework.util.ClassUtils;
 import tech.jhipster.config.JHipsterConstants;
 
 /**
  * Aspect for logging execution of service and repository Spring components.
  *
- * By default, it only runs with the "dev" profile.
+ * By default, it only runs with the "dev" profile, see {@code application.logging-aspect}. Calls are logged at the
+ * sampling rate of their type, and their arguments and results are only rendered, up to a maximum length, when a call
+ * is logged.
+ * <p>
+ * The type of a call is the application class or interface behind the proxy called, so that the methods a repository
+ * inherits from Spring Data are logged, and sampled, as the repository.
+ * <p>
+ * The aspect is applied by an advisor of {@link #pointcutExpression(Collection)}, so that the types excluded from it,
+ * such as hot repositories, are not proxied at all.
  */
-@Aspect
-public class LoggingAspect {
+public class LoggingAspect implements MethodInterceptor {
+
+    private static final String APPLICATION_PACKAGE = "com.mycompany.myapp.";
 
     private final Environment env;
 
-    public LoggingAspect(Environment env) {
+    private final Map<String, Double> samplingRates;
+
+    private final double defaultSamplingRate;
+
+    private final int maxArgumentLength;
+
+    private final ClassValue<TypeLogging> typeLoggings = new ClassValue<>() {
+        @Override
+        protected TypeLogging computeValue(Class<?> proxyType) {
+            String typeName = typeName(proxyType);
+            return new TypeLogging(LoggerFactory.getLogger(typeName), samplingRate(typeName));
+        }
+    };
+
+    /**
+     * @param env the environment.
+     * @param samplingRates the share of the calls logged by package or type name prefix.
+     * @param defaultSamplingRate the share of the calls logged for the types not matched by a prefix.
+     * @param maxArgumentLength the characters rendered for the arguments and the result of a call.
+     */
+    public LoggingAspect(Environment env, Map<String, Double> samplingRates, double defaultSamplingRate, int maxArgumentLength) {
         this.env = env;
+        this.samplingRates = Map.copyOf(samplingRates);
+        this.defaultSamplingRate = defaultSamplingRate;
+        this.maxArgumentLength = maxArgumentLength;
+    }
+
+    double samplingRate(String typeName) {
+        String longestPrefix = null;
+        for (String prefix : samplingRates.keySet()) {
+            if (
+                (typeName.equals(prefix) || typeName.startsWith(prefix + ".") || typeName.startsWith(prefix + "$")) &&
+                (longestPrefix == null || prefix.length() > longestPrefix.length())
+            ) {
+                longestPrefix = prefix;
+            }
+        }
+        return longestPrefix == null ? defaultSamplingRate : samplingRates.get(longestPrefix);
     }
 
     /**
-     * Pointcut that matches all repositories, services and Web REST endpoints.
+     * @return the name of the application class or interface behind a proxy class.
      */
-    @Pointcut(
-        "within(@org.springframework.stereotype.Repository *)" +
-        " || within(@org.springframework.stereotype.Service *)" +
-        " || within(@org.springframework.web.bind.annotation.RestController *)"
-    )
-    public void springBeanPointcut() {
-        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    private static String typeName(Class<?> proxyType) {
+        if (Proxy.isProxyClass(proxyType)) {
+            for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(proxyType)) {
+                if (type.getName().startsWith(APPLICATION_PACKAGE)) {
+                    return type.getName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(proxyType).getName();
     }
 
     /**
-     * Pointcut that matches all Spring beans in the application's main packages.
+     * Pointcut expression matching the repositories, services and Web REST endpoints of the application's main packages,
+     * and the Spring Data repositories, including the methods they inherit.
+     *
+     * @param excludedTypes the names of the types not to advise, such as hot repositories.
+     * @return the pointcut expression.
      */
-    @Pointcut(
-        "within(com.mycompany.myapp.repository..*)" +
-        " || within(com.mycompany.myapp.service..*)" +
-        " || within(com.mycompany.myapp.web.rest..*)"
-    )
-    public void applicationPackagePointcut() {
-        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    public static String pointcutExpression(Collection<String> excludedTypes) {
+        StringBuilder expression = new StringBuilder(
+            "(((within(@org.springframework.stereotype.Repository *)" +
+            " || within(@org.springframework.stereotype.Service *)" +
+            " || within(@org.springframework.web.bind.annotation.RestController *))" +
+            " && (within(com.mycompany.myapp.repository..*)" +
+            " || within(com.mycompany.myapp.service..*)" +
+            " || within(com.mycompany.myapp.web.rest..*)))" +
+            " || this(org.springframework.data.repository.Repository))"
+        );
+        for (String excludedType : excludedTypes) {
+            // with its subtypes, so that the Spring Data proxies of a repository and the methods they inherit are excluded
+            expression.append(" && !within(").append(excludedType).append("+)");
+        }
+        return expression.toString();
     }
 
     /**
@@ -58,7 +121,29 @@ public class LoggingAspect {
      * @return {@link Logger} associated to the given {@link JoinPoint}.
      */
     private Logger logger(JoinPoint joinPoint) {
-        return LoggerFactory.getLogger(joinPoint.getSignature().getDeclaringTypeName());
+        return typeLogging(joinPoint).log;
+    }
+
+    private TypeLogging typeLogging(JoinPoint joinPoint) {
+        return typeLoggings.get(joinPoint.getThis().getClass());
+    }
+
+    /**
+     * Advice that logs when a method is entered and exited, and when it throws an exception.
+     *
+     * @param invocation the method invocation.
+     * @return result.
+     * @throws Throwable the exception of the method.
+     */
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ProceedingJoinPoint joinPoint = new MethodInvocationProceedingJoinPoint((ProxyMethodInvocation) invocation);
+        try {
+            return logAround(joinPoint);
+        } catch (Throwable e) {
+            logAfterThrowing(joinPoint, e);
+            throw e;
+        }
     }
 
     /**
@@ -67,8 +152,7 @@ public class LoggingAspect {
      * @param joinPoint join point for advice.
      * @param e exception.
      */
-    @AfterThrowing(pointcut = "applicationPackagePointcut() && springBeanPointcut()", throwing = "e")
-    public void logAfterThrowing(JoinPoint joinPoint, Throwable e) {
+    private void logAfterThrowing(JoinPoint joinPoint, Throwable e) {
         if (env.acceptsProfiles(Profiles.of(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT))) {
             logger(joinPoint)
                 .error(
@@ -95,21 +179,42 @@ public class LoggingAspect {
      * @return result.
      * @throws Throwable throws {@link IllegalArgumentException}.
      */
-    @Around("applicationPackagePointcut() && springBeanPointcut()")
-    public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        Logger log = logger(joinPoint);
-        if (log.isDebugEnabled()) {
-            log.debug("Enter: {}() with argument[s] = {}", joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
+    private Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        TypeLogging typeLogging = typeLogging(joinPoint);
+        Logger log = typeLogging.log;
+        boolean logged = log.isDebugEnabled() && typeLogging.isSampled();
+        if (logged) {
+            log.debug("Enter: {}() with argument[s] = {}", joinPoint.getSignature().getName(), render(joinPoint.getArgs()));
         }
         try {
             Object result = joinPoint.proceed();
-            if (log.isDebugEnabled()) {
-                log.debug("Exit: {}() with result = {}", joinPoint.getSignature().getName(), result);
+            if (logged) {
+                log.debug("Exit: {}() with result = {}", joinPoint.getSignature().getName(), render(result));
             }
             return result;
         } catch (IllegalArgumentException e) {
-            log.error("Illegal argument: {} in {}()", Arrays.toString(joinPoint.getArgs()), joinPoint.getSignature().getName());
+            log.error("Illegal argument: {} in {}()", render(joinPoint.getArgs()), joinPoint.getSignature().getName());
             throw e;
         }
     }
+
+    private Object render(Object value) {
+        return CappedRendering.of(value, maxArgumentLength);
+    }
+
+    private static final class TypeLogging {
+
+        private final Logger log;
+
+        private final double samplingRate;
+
+        TypeLogging(Logger log, double samplingRate) {
+            this.log = log;
+            this.samplingRate = samplingRate;
+        }
+
+        boolean isSampled() {
+            return samplingRate >= 1 || (samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate);
+        }
+    }
 }
@@ -0,0 +1,118 @@
+package com.mycompany.myapp.aop.timing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.noop.NoopTimer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Aspect timing the calls to services and repositories, so that the time spent in a request can be broken down. Timers
+ * are tagged with the class, the method, the outcome and the exception of the calls. The Feign clients are timed by
+ * feign-micrometer instead.
+ * <p>
+ * Timers are looked up once per method. When the registry denies them, calls are not timed at all.
+ */
+@Aspect
+public class TimingAspect {
+
+    public static final String METER_NAME = "method.timed";
+
+    private static final String APPLICATION_PACKAGE = "com.mycompany.myapp.";
+
+    private final MeterRegistry registry;
+
+    private final ClassValue<Map<Method, Timer>> successTimers = new ClassValue<>() {
+        @Override
+        protected Map<Method, Timer> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final ClassValue<String> classNames = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return className(type);
+        }
+    };
+
+    public TimingAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Pointcut that matches the application services.
+     */
+    @Pointcut("within(com.mycompany.myapp.service..*) && within(@org.springframework.stereotype.Service *)")
+    public void servicePointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Pointcut that matches the Spring Data repositories, including the methods they inherit.
+     */
+    @Pointcut("this(org.springframework.data.repository.Repository)")
+    public void repositoryPointcut() {
+        // Method is empty as this is just a Pointcut, the implementations are in the advices.
+    }
+
+    /**
+     * Advice that times a method.
+     *
+     * @param joinPoint join point for advice.
+     * @return result.
+     * @throws Throwable the exception of the method.
+     */
+    @Around("servicePointcut() || repositoryPointcut()")
+    public Object timeAround(ProceedingJoinPoint joinPoint) throws Throwable {
+        Class<?> type = joinPoint.getThis().getClass();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Timer timer = successTimers.get(type).computeIfAbsent(method, m -> timer(type, m, "success", "none"));
+        if (timer instanceof NoopTimer) {
+            return joinPoint.proceed();
+        }
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(type, method, "error", e.getClass().getSimpleName()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(Class<?> type, Method method, String outcome, String exception) {
+        return Timer
+            .builder(METER_NAME)
+            .description("Duration of service and repository calls")
+            .tag("class", classNames.get(type))
+            .tag("method", method.getName())
+            .tag("outcome", outcome)
+            .tag("exception", exception)
+            .register(registry);
+    }
+
+    /**
+     * @return the simple name of the application class or interface behind a proxy class.
+     */
+    private static String className(Class<?> proxyType) {
+        if (Proxy.isProxyClass(proxyType)) {
+            for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(proxyType)) {
+                if (type.getName().startsWith(APPLICATION_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+        }
+        return ClassUtils.getUserClass(proxyType).getSimpleName();
+    }
+}
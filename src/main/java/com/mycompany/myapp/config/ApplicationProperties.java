@@ -1,5 +1,11 @@
 package com.mycompany.myapp.config;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -9,4 +15,1144 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * See {@link tech.jhipster.config.JHipsterProperties} for a good example.
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
-public class ApplicationProperties {}
+public class ApplicationProperties {
+
+    private final Security security = new Security();
+
+    private final Jackson jackson = new Jackson();
+
+    private final LoggingAspect loggingAspect = new LoggingAspect();
+
+    private final TimingAspect timingAspect = new TimingAspect();
+
+    private final Feign feign = new Feign();
+
+    private final Mongo mongo = new Mongo();
+
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+
+    private final Restheart restheart = new Restheart();
+
+    private final Async async = new Async();
+
+    private final Mail mail = new Mail();
+
+    private final ChangeFeed changeFeed = new ChangeFeed();
+
+    private final Search search = new Search();
+
+    private final CatalogIndex catalogIndex = new CatalogIndex();
+
+    private final CatalogStats catalogStats = new CatalogStats();
+
+    public Security getSecurity() {
+        return security;
+    }
+
+    public Jackson getJackson() {
+        return jackson;
+    }
+
+    public LoggingAspect getLoggingAspect() {
+        return loggingAspect;
+    }
+
+    public TimingAspect getTimingAspect() {
+        return timingAspect;
+    }
+
+    public Feign getFeign() {
+        return feign;
+    }
+
+    public Mongo getMongo() {
+        return mongo;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public Restheart getRestheart() {
+        return restheart;
+    }
+
+    public Async getAsync() {
+        return async;
+    }
+
+    public Mail getMail() {
+        return mail;
+    }
+
+    public ChangeFeed getChangeFeed() {
+        return changeFeed;
+    }
+
+    public Search getSearch() {
+        return search;
+    }
+
+    public CatalogIndex getCatalogIndex() {
+        return catalogIndex;
+    }
+
+    public CatalogStats getCatalogStats() {
+        return catalogStats;
+    }
+
+    public static class LoggingAspect {
+
+        /**
+         * Register {@link com.mycompany.myapp.aop.logging.LoggingAspect}, which logs entering and exiting the
+         * repositories, services and REST controllers at debug level.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Share of the calls logged, between 0 and 1, for the types not matched by {@link #samplingRates}.
+         */
+        private double defaultSamplingRate = 1;
+
+        /**
+         * Share of the calls logged by package or type name prefix, the longest matching prefix applies. 0 turns the
+         * logging off for hot types, at the cost of a lookup per call: see {@link #excludedTypes} to avoid it.
+         */
+        private Map<String, Double> samplingRates = new HashMap<>();
+
+        /**
+         * Fully qualified names of the types, such as hot repositories, which are not advised at all.
+         */
+        private List<String> excludedTypes = new ArrayList<>();
+
+        /**
+         * Characters rendered for the arguments and the result of a call, beyond which they are truncated.
+         */
+        private int maxArgumentLength = 256;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getDefaultSamplingRate() {
+            return defaultSamplingRate;
+        }
+
+        public void setDefaultSamplingRate(double defaultSamplingRate) {
+            this.defaultSamplingRate = defaultSamplingRate;
+        }
+
+        public Map<String, Double> getSamplingRates() {
+            return samplingRates;
+        }
+
+        public void setSamplingRates(Map<String, Double> samplingRates) {
+            this.samplingRates = samplingRates;
+        }
+
+        public List<String> getExcludedTypes() {
+            return excludedTypes;
+        }
+
+        public void setExcludedTypes(List<String> excludedTypes) {
+            this.excludedTypes = excludedTypes;
+        }
+
+        public int getMaxArgumentLength() {
+            return maxArgumentLength;
+        }
+
+        public void setMaxArgumentLength(int maxArgumentLength) {
+            this.maxArgumentLength = maxArgumentLength;
+        }
+    }
+
+    public static class Jackson {
+
+        /**
+         * Register the Blackbird module, which replaces reflective property access with generated lambdas.
+         */
+        private boolean blackbird = false;
+
+        /**
+         * Resolve the serializers and deserializers of the domain, DTO and view model types at startup, instead of on
+         * the first requests using them.
+         */
+        private boolean prewarm = true;
+
+        /**
+         * Format requested from RESTHeart by the item and category Feign clients, and used for their request bodies:
+         * {@code json}, {@code smile} or {@code cbor}.
+         */
+        private String feignWireFormat = "json";
+
+        public boolean isBlackbird() {
+            return blackbird;
+        }
+
+        public void setBlackbird(boolean blackbird) {
+            this.blackbird = blackbird;
+        }
+
+        public boolean isPrewarm() {
+            return prewarm;
+        }
+
+        public void setPrewarm(boolean prewarm) {
+            this.prewarm = prewarm;
+        }
+
+        public String getFeignWireFormat() {
+            return feignWireFormat;
+        }
+
+        public void setFeignWireFormat(String feignWireFormat) {
+            this.feignWireFormat = feignWireFormat;
+        }
+    }
+
+    public static class TimingAspect {
+
+        /**
+         * Register {@link com.mycompany.myapp.aop.timing.TimingAspect}, which times the calls to services and
+         * repositories.
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Restheart {
+
+        /**
+         * Base URL of RESTHeart for the non-blocking client of the reactive API; the Feign clients declare theirs.
+         */
+        private String url = "http://localhost:8080";
+
+        /**
+         * Connections of the non-blocking client; past it, requests wait up to {@link #pendingAcquireTimeout}.
+         */
+        private int maxConnections = 500;
+
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        private Duration responseTimeout = Duration.ofSeconds(5);
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public int getMaxConnections() {
+            return maxConnections;
+        }
+
+        public void setMaxConnections(int maxConnections) {
+            this.maxConnections = maxConnections;
+        }
+
+        public Duration getPendingAcquireTimeout() {
+            return pendingAcquireTimeout;
+        }
+
+        public void setPendingAcquireTimeout(Duration pendingAcquireTimeout) {
+            this.pendingAcquireTimeout = pendingAcquireTimeout;
+        }
+
+        public Duration getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        public void setConnectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+        }
+
+        public Duration getResponseTimeout() {
+            return responseTimeout;
+        }
+
+        public void setResponseTimeout(Duration responseTimeout) {
+            this.responseTimeout = responseTimeout;
+        }
+    }
+
+    public static class VirtualThreads {
+
+        /**
+         * Run the servlet requests and the {@code @Async} tasks on virtual threads, on Java 21 and later, or with
+         * {@code --enable-preview} on Java 19 and 20. Ignored on the JVMs without them.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    public static class Async {
+
+        /**
+         * What happens to the {@code @Async} tasks once the {@code spring.task.execution} pool and its queue are full.
+         */
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+        private final Pool mail = new Pool();
+
+        public RejectionPolicy getRejectionPolicy() {
+            return rejectionPolicy;
+        }
+
+        public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = rejectionPolicy;
+        }
+
+        public Pool getMail() {
+            return mail;
+        }
+
+        public enum RejectionPolicy {
+            /**
+             * Fail the submission with a {@code TaskRejectedException}.
+             */
+            ABORT,
+            /**
+             * Run the task on the submitting thread, which slows the submitters down to the pace of the pool.
+             */
+            CALLER_RUNS,
+            /**
+             * Drop the task.
+             */
+            DISCARD,
+            /**
+             * Drop the oldest queued task, and queue this one instead.
+             */
+            DISCARD_OLDEST,
+        }
+
+        public static class Pool {
+
+            private int coreSize = 1;
+
+            private int maxSize = 4;
+
+            private int queueCapacity = 1000;
+
+            private Duration keepAlive = Duration.ofSeconds(60);
+
+            /**
+             * Abort by default: the tasks of the pool are triggers of work that is also polled for.
+             */
+            private RejectionPolicy rejectionPolicy = RejectionPolicy.ABORT;
+
+            public int getCoreSize() {
+                return coreSize;
+            }
+
+            public void setCoreSize(int coreSize) {
+                this.coreSize = coreSize;
+            }
+
+            public int getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(int maxSize) {
+                this.maxSize = maxSize;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+
+            public Duration getKeepAlive() {
+                return keepAlive;
+            }
+
+            public void setKeepAlive(Duration keepAlive) {
+                this.keepAlive = keepAlive;
+            }
+
+            public RejectionPolicy getRejectionPolicy() {
+                return rejectionPolicy;
+            }
+
+            public void setRejectionPolicy(RejectionPolicy rejectionPolicy) {
+                this.rejectionPolicy = rejectionPolicy;
+            }
+        }
+    }
+
+    public static class Mail {
+
+        /**
+         * Emails sent over one SMTP connection.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Period of the outbox polls, which retry the failed emails and pick up the ones of other instances.
+         */
+        private Duration pollPeriod = Duration.ofSeconds(10);
+
+        /**
+         * Attempts after which an email is dropped.
+         */
+        private int maxAttempts = 8;
+
+        /**
+         * Delay before the first retry, doubled at each failed attempt up to {@code maxBackoff}.
+         */
+        private Duration initialBackoff = Duration.ofSeconds(30);
+
+        private Duration maxBackoff = Duration.ofHours(1);
+
+        /**
+         * Time after which the emails claimed by an instance which did not send them are sent by another one.
+         */
+        private Duration claimTimeout = Duration.ofMinutes(5);
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getPollPeriod() {
+            return pollPeriod;
+        }
+
+        public void setPollPeriod(Duration pollPeriod) {
+            this.pollPeriod = pollPeriod;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public Duration getClaimTimeout() {
+            return claimTimeout;
+        }
+
+        public void setClaimTimeout(Duration claimTimeout) {
+            this.claimTimeout = claimTimeout;
+        }
+    }
+
+    public static class ChangeFeed {
+
+        /**
+         * Period of the outbox polls, which dispatch the changes of the other instances.
+         */
+        private Duration pollPeriod = Duration.ofSeconds(1);
+
+        /**
+         * Time after which a missing sequence number is skipped: its change was never saved.
+         */
+        private Duration gapTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Changes returned at most by a long poll, and read at once from the outbox.
+         */
+        private int pageSize = 500;
+
+        private Duration longPollTimeout = Duration.ofSeconds(30);
+
+        private Duration streamTimeout = Duration.ofMinutes(30);
+
+        /**
+         * Batches of changes queued at most for a listener, such as a long poll or an event stream. The queue of a
+         * slower listener is dropped, and the changes read again from the outbox once it catches up. Live event streams
+         * queue as many changes at most, and are completed past them.
+         */
+        private int subscriberQueueSize = 100;
+
+        /**
+         * Read the changes published with the entities from the MongoDB change streams, which also carry the changes
+         * made directly through RESTHeart. They need a replica set, the outbox is read otherwise.
+         */
+        private boolean changeStreams = true;
+
+        /**
+         * Time after which a failed change stream is watched again, from the last change read.
+         */
+        private Duration changeStreamRetryPeriod = Duration.ofSeconds(30);
+
+        /**
+         * Time before now up to which the changes since a date are read, longer than the writes take to be saved once
+         * their last modified date is set.
+         */
+        private Duration syncSettleTime = Duration.ofSeconds(5);
+
+        /**
+         * Entities, and ids of deleted entities, returned at most by a page of the changes since a date. The next
+         * pages are read after the last id of the page.
+         */
+        private int syncPageSize = 1000;
+
+        public Duration getPollPeriod() {
+            return pollPeriod;
+        }
+
+        public void setPollPeriod(Duration pollPeriod) {
+            this.pollPeriod = pollPeriod;
+        }
+
+        public Duration getGapTimeout() {
+            return gapTimeout;
+        }
+
+        public void setGapTimeout(Duration gapTimeout) {
+            this.gapTimeout = gapTimeout;
+        }
+
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        public Duration getLongPollTimeout() {
+            return longPollTimeout;
+        }
+
+        public void setLongPollTimeout(Duration longPollTimeout) {
+            this.longPollTimeout = longPollTimeout;
+        }
+
+        public Duration getStreamTimeout() {
+            return streamTimeout;
+        }
+
+        public void setStreamTimeout(Duration streamTimeout) {
+            this.streamTimeout = streamTimeout;
+        }
+
+        public int getSubscriberQueueSize() {
+            return subscriberQueueSize;
+        }
+
+        public void setSubscriberQueueSize(int subscriberQueueSize) {
+            this.subscriberQueueSize = subscriberQueueSize;
+        }
+
+        public boolean isChangeStreams() {
+            return changeStreams;
+        }
+
+        public void setChangeStreams(boolean changeStreams) {
+            this.changeStreams = changeStreams;
+        }
+
+        public Duration getChangeStreamRetryPeriod() {
+            return changeStreamRetryPeriod;
+        }
+
+        public void setChangeStreamRetryPeriod(Duration changeStreamRetryPeriod) {
+            this.changeStreamRetryPeriod = changeStreamRetryPeriod;
+        }
+
+        public Duration getSyncSettleTime() {
+            return syncSettleTime;
+        }
+
+        public void setSyncSettleTime(Duration syncSettleTime) {
+            this.syncSettleTime = syncSettleTime;
+        }
+
+        public int getSyncPageSize() {
+            return syncPageSize;
+        }
+
+        public void setSyncPageSize(int syncPageSize) {
+            this.syncPageSize = syncPageSize;
+        }
+    }
+
+    public static class Search {
+
+        /**
+         * Items and categories returned at most by a text search, whatever the requested size.
+         */
+        private int maxResults = 100;
+
+        /**
+         * Names returned at most by a type-ahead, whatever the requested size.
+         */
+        private int maxSuggestions = 20;
+
+        public int getMaxResults() {
+            return maxResults;
+        }
+
+        public void setMaxResults(int maxResults) {
+            this.maxResults = maxResults;
+        }
+
+        public int getMaxSuggestions() {
+            return maxSuggestions;
+        }
+
+        public void setMaxSuggestions(int maxSuggestions) {
+            this.maxSuggestions = maxSuggestions;
+        }
+    }
+
+    public static class CatalogIndex {
+
+        /**
+         * Keep an inverted index of the items in memory, served with its facet counts by {@code /api/pro5/catalog}.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Ascending prices separating the price buckets counted by the index.
+         */
+        private List<BigDecimal> priceBuckets = new ArrayList<>(
+            List.of(BigDecimal.valueOf(10), BigDecimal.valueOf(50), BigDecimal.valueOf(100), BigDecimal.valueOf(500))
+        );
+
+        /**
+         * Hits returned at most by a query, whatever the requested size.
+         */
+        private int maxHits = 100;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<BigDecimal> getPriceBuckets() {
+            return priceBuckets;
+        }
+
+        public void setPriceBuckets(List<BigDecimal> priceBuckets) {
+            this.priceBuckets = priceBuckets;
+        }
+
+        public int getMaxHits() {
+            return maxHits;
+        }
+
+        public void setMaxHits(int maxHits) {
+            this.maxHits = maxHits;
+        }
+    }
+
+    public static class CatalogStats {
+
+        /**
+         * Time the category statistics are cached for, unless an item or a category changes first.
+         */
+        private Duration cacheTtl = Duration.ofSeconds(30);
+
+        /**
+         * Age under which items count as recently added.
+         */
+        private Duration recentWindow = Duration.ofDays(7);
+
+        public Duration getCacheTtl() {
+            return cacheTtl;
+        }
+
+        public void setCacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+        }
+
+        public Duration getRecentWindow() {
+            return recentWindow;
+        }
+
+        public void setRecentWindow(Duration recentWindow) {
+            this.recentWindow = recentWindow;
+        }
+    }
+
+    public static class Mongo {
+
+        /**
+         * Duration from which MongoDB commands are logged as slow, 0 turns the log off.
+         */
+        private Duration slowCommandThreshold = Duration.ofMillis(500);
+
+        public Duration getSlowCommandThreshold() {
+            return slowCommandThreshold;
+        }
+
+        public void setSlowCommandThreshold(Duration slowCommandThreshold) {
+            this.slowCommandThreshold = slowCommandThreshold;
+        }
+    }
+
+    public static class Feign {
+
+        private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+        private final Bulkhead bulkhead = new Bulkhead();
+
+        private final Retry retry = new Retry();
+
+        public CircuitBreaker getCircuitBreaker() {
+            return circuitBreaker;
+        }
+
+        public Bulkhead getBulkhead() {
+            return bulkhead;
+        }
+
+        public Retry getRetry() {
+            return retry;
+        }
+
+        public static class CircuitBreaker {
+
+            /**
+             * Percentage of failed calls, among the last {@link #slidingWindowSize}, from which the circuit opens.
+             */
+            private float failureRateThreshold = 50;
+
+            /**
+             * Percentage of calls slower than {@link #slowCallDurationThreshold} from which the circuit opens.
+             */
+            private float slowCallRateThreshold = 100;
+
+            private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+
+            private int slidingWindowSize = 20;
+
+            /**
+             * Calls recorded before the failure and slow call rates are taken into account.
+             */
+            private int minimumNumberOfCalls = 10;
+
+            /**
+             * How long calls are rejected once the circuit is open, before probing the backend.
+             */
+            private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+
+            private int permittedNumberOfCallsInHalfOpenState = 3;
+
+            public float getFailureRateThreshold() {
+                return failureRateThreshold;
+            }
+
+            public void setFailureRateThreshold(float failureRateThreshold) {
+                this.failureRateThreshold = failureRateThreshold;
+            }
+
+            public float getSlowCallRateThreshold() {
+                return slowCallRateThreshold;
+            }
+
+            public void setSlowCallRateThreshold(float slowCallRateThreshold) {
+                this.slowCallRateThreshold = slowCallRateThreshold;
+            }
+
+            public Duration getSlowCallDurationThreshold() {
+                return slowCallDurationThreshold;
+            }
+
+            public void setSlowCallDurationThreshold(Duration slowCallDurationThreshold) {
+                this.slowCallDurationThreshold = slowCallDurationThreshold;
+            }
+
+            public int getSlidingWindowSize() {
+                return slidingWindowSize;
+            }
+
+            public void setSlidingWindowSize(int slidingWindowSize) {
+                this.slidingWindowSize = slidingWindowSize;
+            }
+
+            public int getMinimumNumberOfCalls() {
+                return minimumNumberOfCalls;
+            }
+
+            public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+                this.minimumNumberOfCalls = minimumNumberOfCalls;
+            }
+
+            public Duration getWaitDurationInOpenState() {
+                return waitDurationInOpenState;
+            }
+
+            public void setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+                this.waitDurationInOpenState = waitDurationInOpenState;
+            }
+
+            public int getPermittedNumberOfCallsInHalfOpenState() {
+                return permittedNumberOfCallsInHalfOpenState;
+            }
+
+            public void setPermittedNumberOfCallsInHalfOpenState(int permittedNumberOfCallsInHalfOpenState) {
+                this.permittedNumberOfCallsInHalfOpenState = permittedNumberOfCallsInHalfOpenState;
+            }
+        }
+
+        public static class Bulkhead {
+
+            /**
+             * Calls in flight allowed per client; past it, calls wait up to {@link #maxWaitDuration} and are rejected.
+             */
+            private int maxConcurrentCalls = 20;
+
+            private Duration maxWaitDuration = Duration.ZERO;
+
+            public int getMaxConcurrentCalls() {
+                return maxConcurrentCalls;
+            }
+
+            public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+                this.maxConcurrentCalls = maxConcurrentCalls;
+            }
+
+            public Duration getMaxWaitDuration() {
+                return maxWaitDuration;
+            }
+
+            public void setMaxWaitDuration(Duration maxWaitDuration) {
+                this.maxWaitDuration = maxWaitDuration;
+            }
+        }
+
+        public static class Retry {
+
+            /**
+             * Attempts of a {@code GET} call, including the first one; the other methods are not retried.
+             */
+            private int maxAttempts = 2;
+
+            /**
+             * Delay before the first retry, growing by half at each retry up to {@link #maxPeriod}.
+             */
+            private Duration period = Duration.ofMillis(100);
+
+            private Duration maxPeriod = Duration.ofSeconds(1);
+
+            public int getMaxAttempts() {
+                return maxAttempts;
+            }
+
+            public void setMaxAttempts(int maxAttempts) {
+                this.maxAttempts = maxAttempts;
+            }
+
+            public Duration getPeriod() {
+                return period;
+            }
+
+            public void setPeriod(Duration period) {
+                this.period = period;
+            }
+
+            public Duration getMaxPeriod() {
+                return maxPeriod;
+            }
+
+            public void setMaxPeriod(Duration maxPeriod) {
+                this.maxPeriod = maxPeriod;
+            }
+        }
+    }
+
+    public static class Security {
+
+        private final Jwt jwt = new Jwt();
+
+        private final RefreshToken refreshToken = new RefreshToken();
+
+        private final LoginThrottling loginThrottling = new LoginThrottling();
+
+        private final PasswordHashing passwordHashing = new PasswordHashing();
+
+        public Jwt getJwt() {
+            return jwt;
+        }
+
+        public RefreshToken getRefreshToken() {
+            return refreshToken;
+        }
+
+        public LoginThrottling getLoginThrottling() {
+            return loginThrottling;
+        }
+
+        public PasswordHashing getPasswordHashing() {
+            return passwordHashing;
+        }
+
+        public static class Jwt {
+
+            /**
+             * Signature algorithm of issued tokens: {@code HS512} (shared secret), {@code RS256} or {@code ES256}.
+             */
+            private String algorithm = "HS512";
+
+            /**
+             * How long an asymmetric key is used for signing before a new one is generated.
+             */
+            private Duration keyRotationPeriod = Duration.ofDays(1);
+
+            /**
+             * How often the key ring is reloaded from the database, so keys generated by other instances are picked up.
+             */
+            private Duration keyRefreshPeriod = Duration.ofMinutes(1);
+
+            public String getAlgorithm() {
+                return algorithm;
+            }
+
+            public void setAlgorithm(String algorithm) {
+                this.algorithm = algorithm;
+            }
+
+            public Duration getKeyRotationPeriod() {
+                return keyRotationPeriod;
+            }
+
+            public void setKeyRotationPeriod(Duration keyRotationPeriod) {
+                this.keyRotationPeriod = keyRotationPeriod;
+            }
+
+            public Duration getKeyRefreshPeriod() {
+                return keyRefreshPeriod;
+            }
+
+            public void setKeyRefreshPeriod(Duration keyRefreshPeriod) {
+                this.keyRefreshPeriod = keyRefreshPeriod;
+            }
+        }
+
+        public static class RefreshToken {
+
+            /**
+             * Issue refresh tokens on authentication. Access tokens then always use
+             * {@code jhipster.security.authentication.jwt.token-validity-in-seconds}, and "remember me" applies to the
+             * refresh token.
+             */
+            private boolean enabled = false;
+
+            /**
+             * Validity of refresh tokens issued without "remember me"; with it,
+             * {@code jhipster.security.authentication.jwt.token-validity-in-seconds-for-remember-me} is used.
+             */
+            private Duration tokenValidity = Duration.ofDays(1);
+
+            /**
+             * How often revocations made by other instances are loaded into the local revocation filter.
+             */
+            private Duration revocationSyncPeriod = Duration.ofSeconds(10);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public Duration getTokenValidity() {
+                return tokenValidity;
+            }
+
+            public void setTokenValidity(Duration tokenValidity) {
+                this.tokenValidity = tokenValidity;
+            }
+
+            public Duration getRevocationSyncPeriod() {
+                return revocationSyncPeriod;
+            }
+
+            public void setRevocationSyncPeriod(Duration revocationSyncPeriod) {
+                this.revocationSyncPeriod = revocationSyncPeriod;
+            }
+        }
+
+        public static class LoginThrottling {
+
+            private boolean enabled = true;
+
+            /**
+             * Authentication attempts allowed for a single login per {@link #period}.
+             */
+            private int attemptsPerLogin = 10;
+
+            /**
+             * Authentication attempts allowed from a single IP address per {@link #period}.
+             */
+            private int attemptsPerIp = 50;
+
+            private Duration period = Duration.ofMinutes(1);
+
+            /**
+             * Upper bound of logins and IP addresses tracked at once; past it, new keys are not throttled.
+             */
+            private int maxTrackedKeys = 100_000;
+
+            /**
+             * Addresses, or CIDR ranges, of the reverse proxies whose {@code X-Forwarded-For} header is trusted to
+             * resolve the IP address of the client.
+             */
+            private List<String> trustedProxies = new ArrayList<>();
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getAttemptsPerLogin() {
+                return attemptsPerLogin;
+            }
+
+            public void setAttemptsPerLogin(int attemptsPerLogin) {
+                this.attemptsPerLogin = attemptsPerLogin;
+            }
+
+            public int getAttemptsPerIp() {
+                return attemptsPerIp;
+            }
+
+            public void setAttemptsPerIp(int attemptsPerIp) {
+                this.attemptsPerIp = attemptsPerIp;
+            }
+
+            public Duration getPeriod() {
+                return period;
+            }
+
+            public void setPeriod(Duration period) {
+                this.period = period;
+            }
+
+            public int getMaxTrackedKeys() {
+                return maxTrackedKeys;
+            }
+
+            public void setMaxTrackedKeys(int maxTrackedKeys) {
+                this.maxTrackedKeys = maxTrackedKeys;
+            }
+
+            public List<String> getTrustedProxies() {
+                return trustedProxies;
+            }
+
+            public void setTrustedProxies(List<String> trustedProxies) {
+                this.trustedProxies = trustedProxies;
+            }
+        }
+
+        public static class PasswordHashing {
+
+            /**
+             * Threads dedicated to password checks on authentication, defaults to the number of processors.
+             */
+            private int threads = Runtime.getRuntime().availableProcessors();
+
+            /**
+             * Authentications waiting for a thread; past it, they are rejected with {@code 429 (Too Many Requests)}.
+             */
+            private int queueCapacity = 100;
+
+            /**
+             * Duration hashing a password should take; the bcrypt cost is picked at startup to match it.
+             */
+            private Duration targetDuration = Duration.ofMillis(250);
+
+            private int minStrength = 10;
+
+            private int maxStrength = 16;
+
+            public int getThreads() {
+                return threads;
+            }
+
+            public void setThreads(int threads) {
+                this.threads = threads;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+
+            public Duration getTargetDuration() {
+                return targetDuration;
+            }
+
+            public void setTargetDuration(Duration targetDuration) {
+                this.targetDuration = targetDuration;
+            }
+
+            public int getMinStrength() {
+                return minStrength;
+            }
+
+            public void setMinStrength(int minStrength) {
+                this.minStrength = minStrength;
+            }
+
+            public int getMaxStrength() {
+                return maxStrength;
+            }
+
+            public void setMaxStrength(int maxStrength) {
+                this.maxStrength = maxStrength;
+            }
+        }
+    }
+}
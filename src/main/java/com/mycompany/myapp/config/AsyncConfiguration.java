@@ -1,16 +1,26 @@
 package com.mycompany.myapp.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import tech.jhipster.async.ExceptionHandlingAsyncTaskExecutor;
 
@@ -23,22 +33,92 @@ public class AsyncConfiguration implements AsyncConfigurer {
 
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties) {
+    private final ApplicationProperties applicationProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ObjectProvider<ExecutorService> asyncVirtualThreadExecutor;
+
+    public AsyncConfiguration(
+        TaskExecutionProperties taskExecutionProperties,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry,
+        @Qualifier("asyncVirtualThreadExecutor") ObjectProvider<ExecutorService> asyncVirtualThreadExecutor
+    ) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.applicationProperties = applicationProperties;
+        this.meterRegistry = meterRegistry;
+        this.asyncVirtualThreadExecutor = asyncVirtualThreadExecutor;
     }
 
+    /**
+     * Executor of the {@code @Async} methods: a virtual thread per task with {@code application.virtual-threads.enabled}
+     * on a JVM supporting them, see {@link VirtualThreadsConfiguration}, otherwise the pool configured with
+     * {@code spring.task.execution}, growing to its maximum size before queueing tasks.
+     */
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
+        ExecutorService virtualThreadExecutor = asyncVirtualThreadExecutor.getIfAvailable();
+        if (virtualThreadExecutor != null) {
+            log.debug("Creating Async Task Executor on virtual threads");
+            return new ExceptionHandlingAsyncTaskExecutor(new TaskExecutorAdapter(virtualThreadExecutor));
+        }
         log.debug("Creating Async Task Executor");
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
-        executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
-        executor.setQueueCapacity(taskExecutionProperties.getPool().getQueueCapacity());
+        TaskExecutionProperties.Pool pool = taskExecutionProperties.getPool();
+        ThreadPoolTaskExecutor executor = new ScalingThreadPoolTaskExecutor(
+            "taskExecutor",
+            applicationProperties.getAsync().getRejectionPolicy(),
+            meterRegistry
+        );
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds((int) pool.getKeepAlive().getSeconds());
+        executor.setAllowCoreThreadTimeOut(pool.isAllowCoreThreadTimeout());
         executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix());
         return new ExceptionHandlingAsyncTaskExecutor(executor);
     }
 
+    /**
+     * Executor of the {@code @Async("mailExecutor")} methods of {@link com.mycompany.myapp.service.MailService}, kept apart
+     * so that bursts of emails, waiting on the SMTP server, do not hold up the other tasks.
+     */
+    @Bean(name = "mailExecutor")
+    public ThreadPoolTaskExecutor mailExecutor() {
+        log.debug("Creating Mail Executor");
+        ApplicationProperties.Async.Pool pool = applicationProperties.getAsync().getMail();
+        ThreadPoolTaskExecutor executor = new ScalingThreadPoolTaskExecutor("mailExecutor", pool.getRejectionPolicy(), meterRegistry);
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds((int) pool.getKeepAlive().getSeconds());
+        executor.setThreadNamePrefix("mail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Executor running the password checks of authentications, so that bursts of logins only queue up behind each other
+     * instead of tying up the request handling threads. Once its queue is full, further tasks are rejected.
+     */
+    @Bean(name = "passwordHashingExecutor", destroyMethod = "shutdown")
+    public ExecutorService passwordHashingExecutor(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        log.debug("Creating Password Hashing Executor");
+        ApplicationProperties.Security.PasswordHashing properties = applicationProperties.getSecurity().getPasswordHashing();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            properties.getThreads(),
+            properties.getThreads(),
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+            new CustomizableThreadFactory("password-hashing-"),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashingExecutor");
+    }
+
     @Override
     public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
         return new SimpleAsyncUncaughtExceptionHandler();
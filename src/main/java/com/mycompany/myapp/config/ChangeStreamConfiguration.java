@@ -0,0 +1,22 @@
+package com.mycompany.myapp.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+
+@Configuration
+public class ChangeStreamConfiguration {
+
+    /**
+     * Reads the MongoDB change streams, one thread per subscription since each blocks on its cursor.
+     * <p>
+     * The container does not start by itself: until it is started, subscriptions are only queued.
+     */
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public MessageListenerContainer changeStreamListenerContainer(MongoTemplate mongoTemplate) {
+        return new DefaultMessageListenerContainer(mongoTemplate, new SimpleAsyncTaskExecutor("change-stream-"));
+    }
+}
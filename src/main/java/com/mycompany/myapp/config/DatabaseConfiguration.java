@@ -1,9 +1,14 @@
 package com.mycompany.myapp.config;
 
+import com.mycompany.myapp.management.MongoConnectionPoolWaitListener;
+import com.mycompany.myapp.management.MongoSlowCommandListener;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.mongock.runner.springboot.EnableMongock;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -43,4 +48,36 @@ public class DatabaseConfiguration {
         converters.add(ZonedDateTimeToDateConverter.INSTANCE);
         return new MongoCustomConversions(converters);
     }
+
+    /**
+     * Adds the slow command log to the command and connection pool metrics registered by Spring Boot, see
+     * {@code management.metrics.mongo}.
+     */
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoSlowCommandCustomizer(ApplicationProperties applicationProperties) {
+        Duration slowCommandThreshold = applicationProperties.getMongo().getSlowCommandThreshold();
+        return builder -> {
+            if (!slowCommandThreshold.isZero()) {
+                builder.addCommandListener(new MongoSlowCommandListener(slowCommandThreshold));
+            }
+        };
+    }
+
+    /**
+     * Adds the connection pool wait timer, to the synchronous client only, see {@link SynchronousMongoClientCustomizer}.
+     */
+    @Bean
+    public SynchronousMongoClientCustomizer mongoConnectionPoolWaitCustomizer(MeterRegistry meterRegistry) {
+        return builder -> {
+            MongoConnectionPoolWaitListener poolWaitListener = new MongoConnectionPoolWaitListener(meterRegistry);
+            builder.applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(poolWaitListener));
+        };
+    }
+
+    /**
+     * Customizer relying on the synchronous driver, which runs the operations on the calling thread; it is not applied
+     * to the reactive client, see {@link ReactiveDatabaseConfiguration}.
+     */
+    @FunctionalInterface
+    public interface SynchronousMongoClientCustomizer extends MongoClientSettingsBuilderCustomizer {}
 }
@@ -0,0 +1,83 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.feign.IdempotentRetryer;
+import com.mycompany.myapp.feign.ResilienceCapability;
+import feign.Capability;
+import feign.Retryer;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Circuit breakers, bulkheads and retries of the Feign clients, shared by all of them through the parent context.
+ * <p>
+ * Timeouts are set with {@code feign.client.config}, and the HTTP calls are timed by the {@code feign.Client} timers.
+ */
+@Configuration
+public class FeignResilienceConfiguration {
+
+    private final ApplicationProperties.Feign properties;
+
+    public FeignResilienceConfiguration(ApplicationProperties applicationProperties) {
+        this.properties = applicationProperties.getFeign();
+    }
+
+    @Bean
+    public CircuitBreakerRegistry feignCircuitBreakerRegistry() {
+        ApplicationProperties.Feign.CircuitBreaker circuitBreaker = properties.getCircuitBreaker();
+        return CircuitBreakerRegistry.of(
+            CircuitBreakerConfig
+                .custom()
+                .failureRateThreshold(circuitBreaker.getFailureRateThreshold())
+                .slowCallRateThreshold(circuitBreaker.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(circuitBreaker.getSlowCallDurationThreshold())
+                .slidingWindowSize(circuitBreaker.getSlidingWindowSize())
+                .minimumNumberOfCalls(circuitBreaker.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(circuitBreaker.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(circuitBreaker.getPermittedNumberOfCallsInHalfOpenState())
+                .build()
+        );
+    }
+
+    @Bean
+    public BulkheadRegistry feignBulkheadRegistry() {
+        ApplicationProperties.Feign.Bulkhead bulkhead = properties.getBulkhead();
+        return BulkheadRegistry.of(
+            BulkheadConfig
+                .custom()
+                .maxConcurrentCalls(bulkhead.getMaxConcurrentCalls())
+                .maxWaitDuration(bulkhead.getMaxWaitDuration())
+                .build()
+        );
+    }
+
+    @Bean
+    public Capability feignResilienceCapability(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        return new ResilienceCapability(circuitBreakerRegistry, bulkheadRegistry);
+    }
+
+    /**
+     * Replaces the default of the client contexts, which never retries.
+     */
+    @Bean
+    public Retryer feignRetryer() {
+        ApplicationProperties.Feign.Retry retry = properties.getRetry();
+        return new IdempotentRetryer(retry.getPeriod().toMillis(), retry.getMaxPeriod().toMillis(), retry.getMaxAttempts());
+    }
+
+    @Bean
+    public MeterBinder feignCircuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
+    }
+
+    @Bean
+    public MeterBinder feignBulkheadMetrics(BulkheadRegistry bulkheadRegistry) {
+        return TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
+    }
+}
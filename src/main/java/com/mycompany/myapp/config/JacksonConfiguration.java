@@ -1,9 +1,21 @@
 package com.mycompany.myapp.config;
 
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.web.rest.SparseFieldset;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.zalando.problem.jackson.ProblemModule;
 import org.zalando.problem.violations.ConstraintViolationProblemModule;
 
@@ -24,6 +36,51 @@ public class JacksonConfiguration {
         return new Jdk8Module();
     }
 
+    /**
+     * Generated accessors instead of reflection for bean properties, opt-in.
+     * @return the corresponding Jackson module.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "application.jackson", name = "blackbird", havingValue = "true")
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Lets the item and category reads filter their properties with the {@code fields} query parameter. Without a
+     * filter set for the response, unknown filter ids serialize all properties.
+     * @return the corresponding builder customizer.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsetCustomizer() {
+        return builder ->
+            builder
+                .mixIn(Item.class, SparseFieldset.MixIn.class)
+                .mixIn(Category.class, SparseFieldset.MixIn.class)
+                .filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+    }
+
+    /**
+     * Smile, negotiated with the {@code application/x-jackson-smile} media type. Replaces the default converter in
+     * place, after the JSON one, with a mapper built like the JSON one so that it gets the same modules and settings.
+     * @param builder the Spring Boot configured builder.
+     * @return the corresponding message converter.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * CBOR, negotiated with the {@code application/cbor} media type, see {@link #smileHttpMessageConverter}.
+     * @param builder the Spring Boot configured builder.
+     * @return the corresponding message converter.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
     /*
      * Module for serialization/deserialization of RFC7807 Problem.
      */
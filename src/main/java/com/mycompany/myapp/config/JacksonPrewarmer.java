@@ -0,0 +1,68 @@
+package com.mycompany.myapp.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.service.dto.UserDTO;
+import com.mycompany.myapp.web.rest.vm.LoginVM;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Resolves the Jackson serializers and deserializers of the domain, DTO and view model types, and of lists of them,
+ * once all beans are created and before the web server accepts requests, so that the first requests do not pay for
+ * the introspection.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.jackson", name = "prewarm", havingValue = "true", matchIfMissing = true)
+public class JacksonPrewarmer implements SmartInitializingSingleton {
+
+    private static final List<String> PACKAGES = List.of(
+        Item.class.getPackageName(),
+        UserDTO.class.getPackageName(),
+        LoginVM.class.getPackageName()
+    );
+
+    private final Logger log = LoggerFactory.getLogger(JacksonPrewarmer.class);
+
+    private final ObjectMapper objectMapper;
+
+    public JacksonPrewarmer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+        int count = 0;
+        for (String basePackage : PACKAGES) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                JavaType type = objectMapper.constructType(ClassUtils.resolveClassName(candidate.getBeanClassName(), null));
+                if (prewarm(type) && prewarm(objectMapper.getTypeFactory().constructCollectionType(List.class, type))) {
+                    count++;
+                }
+            }
+        }
+        log.debug("Pre-warmed Jackson for {} types in {} ms", count, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private boolean prewarm(JavaType type) {
+        try {
+            objectMapper.writerFor(type);
+            objectMapper.readerFor(type);
+            return true;
+        } catch (RuntimeException e) {
+            log.debug("Could not pre-warm Jackson for {}: {}", type, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -1,17 +1,29 @@
 package com.mycompany.myapp.config;
 
 import com.mycompany.myapp.aop.logging.LoggingAspect;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.*;
 import org.springframework.core.env.Environment;
-import tech.jhipster.config.JHipsterConstants;
 
 @Configuration
 @EnableAspectJAutoProxy
 public class LoggingAspectConfiguration {
 
+    /**
+     * Advisor of the {@link LoggingAspect}, whose pointcut leaves out {@code application.logging-aspect.excluded-types}.
+     */
     @Bean
-    @Profile(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT)
-    public LoggingAspect loggingAspect(Environment env) {
-        return new LoggingAspect(env);
+    @ConditionalOnProperty(prefix = "application.logging-aspect", name = "enabled", havingValue = "true")
+    public Advisor loggingAspectAdvisor(Environment env, ApplicationProperties applicationProperties) {
+        ApplicationProperties.LoggingAspect properties = applicationProperties.getLoggingAspect();
+        AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+        pointcut.setExpression(LoggingAspect.pointcutExpression(properties.getExcludedTypes()));
+        return new DefaultPointcutAdvisor(
+            pointcut,
+            new LoggingAspect(env, properties.getSamplingRates(), properties.getDefaultSamplingRate(), properties.getMaxArgumentLength())
+        );
     }
 }
@@ -0,0 +1,60 @@
+package com.mycompany.myapp.config;
+
+import io.netty.channel.ChannelOption;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Non-blocking RESTHeart client of the reactive API, see {@code application.restheart}.
+ * <p>
+ * The reactive endpoints are served by Spring MVC: the request thread is released until the {@code Mono} or
+ * {@code Flux} completes, on the Reactor Netty event loop. Streamed responses are written by the {@code @Async}
+ * executor, instead of a thread per response.
+ */
+@Configuration
+public class ReactiveApiConfiguration implements WebMvcConfigurer {
+
+    private final ApplicationProperties.Restheart properties;
+
+    private final Executor taskExecutor;
+
+    public ReactiveApiConfiguration(ApplicationProperties applicationProperties, @Qualifier("taskExecutor") Executor taskExecutor) {
+        this.properties = applicationProperties.getRestheart();
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider restheartConnectionProvider() {
+        return ConnectionProvider
+            .builder("restheart")
+            .maxConnections(properties.getMaxConnections())
+            .pendingAcquireTimeout(properties.getPendingAcquireTimeout())
+            .metrics(true)
+            .build();
+    }
+
+    @Bean
+    public WebClient restheartWebClient(WebClient.Builder builder, ConnectionProvider restheartConnectionProvider) {
+        HttpClient httpClient = HttpClient
+            .create(restheartConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.getConnectTimeout().toMillis())
+            .responseTimeout(properties.getResponseTimeout());
+        return builder.baseUrl(properties.getUrl()).clientConnector(new ReactorClientHttpConnector(httpClient)).build();
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        if (taskExecutor instanceof AsyncTaskExecutor) {
+            configurer.setTaskExecutor((AsyncTaskExecutor) taskExecutor);
+        }
+    }
+}
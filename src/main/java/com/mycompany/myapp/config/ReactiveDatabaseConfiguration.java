@@ -0,0 +1,37 @@
+package com.mycompany.myapp.config;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.reactivestreams.client.MongoClient;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.autoconfigure.mongo.ReactiveMongoClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+
+/**
+ * Reactive MongoDB client and repositories, used by the reactive API next to the synchronous ones.
+ * <p>
+ * Replaces {@code MongoReactiveAutoConfiguration}, excluded in {@link com.mycompany.myapp.Pro5App}: its client would
+ * get the {@link DatabaseConfiguration.SynchronousMongoClientCustomizer}s, and its Netty transport customizer would
+ * also apply to the synchronous client.
+ */
+@Configuration
+@EnableReactiveMongoRepositories("com.mycompany.myapp.repository.reactive")
+public class ReactiveDatabaseConfiguration {
+
+    @Bean
+    public MongoClient reactiveStreamsMongoClient(
+        ObjectProvider<MongoClientSettingsBuilderCustomizer> builderCustomizers,
+        MongoClientSettings settings
+    ) {
+        return new ReactiveMongoClientFactory(
+            builderCustomizers
+                .orderedStream()
+                .filter(customizer -> !(customizer instanceof DatabaseConfiguration.SynchronousMongoClientCustomizer))
+                .collect(Collectors.toList())
+        )
+            .createMongoClient(settings);
+    }
+}
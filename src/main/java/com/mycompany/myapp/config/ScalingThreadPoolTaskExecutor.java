@@ -0,0 +1,116 @@
+package com.mycompany.myapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Thread pool adding threads up to its maximum size before queueing tasks, unlike {@link ThreadPoolExecutor} which only
+ * adds them once its queue is full, with the {@code executor.*} metrics of Micrometer under its name.
+ * <p>
+ * Tasks wait in the queue when a thread is idle or the pool is at its maximum size, and are handed to the rejection
+ * policy when the queue is full too, which is counted by {@code executor.rejected}. {@code executor.idle} times the wait
+ * of the tasks in the queue, and {@code executor} their execution.
+ */
+class ScalingThreadPoolTaskExecutor extends ThreadPoolTaskExecutor {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+
+    private final transient MeterRegistry registry;
+
+    ScalingThreadPoolTaskExecutor(String name, ApplicationProperties.Async.RejectionPolicy rejectionPolicy, MeterRegistry registry) {
+        this.name = name;
+        this.registry = registry;
+        Timer idleTimer = Timer.builder("executor.idle").tag("name", name).register(registry);
+        Timer executionTimer = Timer.builder("executor").tag("name", name).register(registry);
+        setTaskDecorator(task -> {
+            long submitted = System.nanoTime();
+            return () -> {
+                idleTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                executionTimer.record(task);
+            };
+        });
+        Counter rejected = Counter.builder("executor.rejected").tag("name", name).tag("policy", rejectionPolicy.name()).register(registry);
+        RejectedExecutionHandler handler = handler(rejectionPolicy);
+        setRejectedExecutionHandler((task, executor) -> {
+            // The queue turned the task down for a new thread, but the pool reached its maximum size meanwhile
+            if (!executor.isShutdown() && executor.getQueue() instanceof ScalingQueue && ((ScalingQueue) executor.getQueue()).force(task)) {
+                return;
+            }
+            rejected.increment();
+            handler.rejectedExecution(task, executor);
+        });
+    }
+
+    @Override
+    protected BlockingQueue<Runnable> createQueue(int queueCapacity) {
+        return queueCapacity > 0 ? new ScalingQueue(queueCapacity) : super.createQueue(queueCapacity);
+    }
+
+    @Override
+    protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        ExecutorService executorService = super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+        ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor();
+        if (threadPoolExecutor.getQueue() instanceof ScalingQueue) {
+            ((ScalingQueue) threadPoolExecutor.getQueue()).executor = threadPoolExecutor;
+        }
+        new ExecutorServiceMetrics(threadPoolExecutor, name, Tags.empty()).bindTo(registry);
+        return executorService;
+    }
+
+    private static RejectedExecutionHandler handler(ApplicationProperties.Async.RejectionPolicy rejectionPolicy) {
+        switch (rejectionPolicy) {
+            case CALLER_RUNS:
+                return new ThreadPoolExecutor.CallerRunsPolicy();
+            case DISCARD:
+                return new ThreadPoolExecutor.DiscardPolicy();
+            case DISCARD_OLDEST:
+                return new ThreadPoolExecutor.DiscardOldestPolicy();
+            default:
+                return new ThreadPoolExecutor.AbortPolicy();
+        }
+    }
+
+    private static class ScalingQueue extends LinkedBlockingQueue<Runnable> {
+
+        private static final long serialVersionUID = 1L;
+
+        private transient volatile ThreadPoolExecutor executor;
+
+        ScalingQueue(int capacity) {
+            super(capacity);
+        }
+
+        /**
+         * Turns the task down, so that the executor adds a thread for it, when no thread is idle and the pool can grow.
+         */
+        @Override
+        public boolean offer(Runnable task) {
+            ThreadPoolExecutor threadPoolExecutor = executor;
+            if (
+                threadPoolExecutor != null &&
+                threadPoolExecutor.getPoolSize() < threadPoolExecutor.getMaximumPoolSize() &&
+                threadPoolExecutor.getActiveCount() >= threadPoolExecutor.getPoolSize()
+            ) {
+                return false;
+            }
+            return super.offer(task);
+        }
+
+        boolean force(Runnable task) {
+            return super.offer(task);
+        }
+    }
+}
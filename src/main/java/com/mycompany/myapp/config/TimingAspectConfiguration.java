@@ -0,0 +1,19 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.aop.timing.TimingAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+
+@Configuration
+@EnableAspectJAutoProxy
+public class TimingAspectConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "application.timing-aspect", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public TimingAspect timingAspect(MeterRegistry registry) {
+        return new TimingAspect(registry);
+    }
+}
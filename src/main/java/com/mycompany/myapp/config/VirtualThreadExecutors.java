@@ -0,0 +1,66 @@
+package com.mycompany.myapp.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual threads of the JDKs supporting them, looked up reflectively since the application is compiled for Java 11.
+ */
+final class VirtualThreadExecutors {
+
+    private static final Method OF_VIRTUAL;
+
+    private static final Method NAME;
+
+    private static final Method FACTORY;
+
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method name = null;
+        Method factory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            name = builder.getMethod("name", String.class, long.class);
+            factory = builder.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ReflectiveOperationException e) {
+            // Before Java 19
+        }
+        OF_VIRTUAL = ofVirtual;
+        NAME = name;
+        FACTORY = factory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreadExecutors() {}
+
+    /**
+     * @param namePrefix the prefix of the thread names, followed by a counter.
+     * @return an executor starting a virtual thread per task, or empty when the JVM has no virtual threads, or only as a
+     * preview feature that is not enabled.
+     */
+    static Optional<ExecutorService> newThreadPerTaskExecutor(String namePrefix) {
+        if (OF_VIRTUAL == null) {
+            return Optional.empty();
+        }
+        try {
+            Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), namePrefix, 0L);
+            return Optional.of((ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, FACTORY.invoke(builder)));
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof UnsupportedOperationException) {
+                return Optional.empty();
+            }
+            throw new IllegalStateException("Could not create a virtual thread executor", e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not create a virtual thread executor", e);
+        }
+    }
+}
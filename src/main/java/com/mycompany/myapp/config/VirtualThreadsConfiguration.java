@@ -0,0 +1,52 @@
+package com.mycompany.myapp.config;
+
+import java.util.concurrent.ExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Runs the servlet requests on a virtual thread each instead of the Undertow worker pool, so that the requests blocked
+ * on MongoDB or RESTHeart do not hold a platform thread, see {@code application.virtual-threads}. The {@code @Async}
+ * tasks run on virtual threads too, see {@link AsyncConfiguration}.
+ * <p>
+ * The executors are beans, shut down with the application context. On a JVM without virtual threads, they are
+ * {@code null} and the requests and tasks run on the usual pools.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.virtual-threads", name = "enabled", havingValue = "true")
+public class VirtualThreadsConfiguration {
+
+    private final Logger log = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    @Bean(name = "requestVirtualThreadExecutor", destroyMethod = "shutdown")
+    public ExecutorService requestVirtualThreadExecutor() {
+        return VirtualThreadExecutors.newThreadPerTaskExecutor("undertow-virtual-").orElse(null);
+    }
+
+    @Bean(name = "asyncVirtualThreadExecutor", destroyMethod = "shutdown")
+    public ExecutorService asyncVirtualThreadExecutor(TaskExecutionProperties taskExecutionProperties) {
+        return VirtualThreadExecutors.newThreadPerTaskExecutor(taskExecutionProperties.getThreadNamePrefix()).orElse(null);
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadsUndertowCustomizer(
+        @Qualifier("requestVirtualThreadExecutor") ObjectProvider<ExecutorService> requestVirtualThreadExecutor
+    ) {
+        return factory -> {
+            ExecutorService executor = requestVirtualThreadExecutor.getIfAvailable();
+            if (executor != null) {
+                factory.addDeploymentInfoCustomizers(deploymentInfo -> deploymentInfo.setExecutor(executor));
+            } else {
+                log.warn("Virtual threads are not supported by this JVM, requests run on the Undertow worker threads");
+            }
+        };
+    }
+}
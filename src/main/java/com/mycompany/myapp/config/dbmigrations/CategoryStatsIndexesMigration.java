@@ -0,0 +1,41 @@
+package com.mycompany.myapp.config.dbmigrations;
+
+import com.mycompany.myapp.domain.Item;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * Creates the index of the category statistics: the items by category, then by creation date.
+ */
+@ChangeUnit(id = "category-stats-indexes", order = "007")
+public class CategoryStatsIndexesMigration {
+
+    private static final String CATEGORY_INDEX = "category_id_create_info_created_date";
+
+    private final MongoTemplate template;
+
+    public CategoryStatsIndexesMigration(MongoTemplate template) {
+        this.template = template;
+    }
+
+    @Execution
+    public void changeSet() {
+        template
+            .indexOps(Item.class)
+            .ensureIndex(
+                new Index()
+                    .on("category._id", Sort.Direction.ASC)
+                    .on("create_info.created_date", Sort.Direction.ASC)
+                    .named(CATEGORY_INDEX)
+            );
+    }
+
+    @RollbackExecution
+    public void rollback() {
+        template.indexOps(Item.class).dropIndex(CATEGORY_INDEX);
+    }
+}
@@ -0,0 +1,34 @@
+package com.mycompany.myapp.config.dbmigrations;
+
+import com.mycompany.myapp.domain.ChangeEvent;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import java.time.Duration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * Creates the TTL index of the change outbox, which keeps a week of changes for the consumers of the change feed to
+ * catch up with.
+ */
+@ChangeUnit(id = "change-event-indexes", order = "004")
+public class ChangeEventIndexesMigration {
+
+    private final MongoTemplate template;
+
+    public ChangeEventIndexesMigration(MongoTemplate template) {
+        this.template = template;
+    }
+
+    @Execution
+    public void changeSet() {
+        template.indexOps(ChangeEvent.class).ensureIndex(new Index().on("created_date", Sort.Direction.ASC).expire(Duration.ofDays(7)));
+    }
+
+    @RollbackExecution
+    public void rollback() {
+        template.indexOps(ChangeEvent.class).dropAllIndexes();
+    }
+}
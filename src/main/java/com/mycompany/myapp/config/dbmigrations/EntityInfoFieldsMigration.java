@@ -0,0 +1,45 @@
+package com.mycompany.myapp.config.dbmigrations;
+
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * Renames the {@code createInfo} and {@code updateInfo} fields of the items and categories written through RESTHeart
+ * to {@code create_info} and {@code update_info}, the fields the other writes use and the change queries and
+ * statistics read.
+ */
+@ChangeUnit(id = "entity-info-fields-by-collection", order = "008")
+public class EntityInfoFieldsMigration {
+
+    private final MongoTemplate template;
+
+    public EntityInfoFieldsMigration(MongoTemplate template) {
+        this.template = template;
+    }
+
+    @Execution
+    public void changeSet() {
+        for (String collection : new String[] { "item", "category" }) {
+            rename(collection, "createInfo", "create_info");
+            rename(collection, "updateInfo", "update_info");
+        }
+    }
+
+    @RollbackExecution
+    public void rollback() {
+        // the legacy field names are not restored: the entities are read with either
+    }
+
+    /**
+     * Updates by collection name, so that the field names are not mapped through the entities, which would map the
+     * legacy names to the new ones.
+     */
+    private void rename(String collection, String from, String to) {
+        template.updateMulti(Query.query(Criteria.where(from).exists(true)), new Update().rename(from, to), collection);
+    }
+}
@@ -0,0 +1,32 @@
+package com.mycompany.myapp.config.dbmigrations;
+
+import com.mycompany.myapp.domain.MailMessage;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * Creates the index of the mail outbox on the next attempt date, which the outbox is polled by.
+ */
+@ChangeUnit(id = "mail-outbox-indexes", order = "003")
+public class MailOutboxIndexesMigration {
+
+    private final MongoTemplate template;
+
+    public MailOutboxIndexesMigration(MongoTemplate template) {
+        this.template = template;
+    }
+
+    @Execution
+    public void changeSet() {
+        template.indexOps(MailMessage.class).ensureIndex(new Index().on("next_attempt_date", Sort.Direction.ASC));
+    }
+
+    @RollbackExecution
+    public void rollback() {
+        template.indexOps(MailMessage.class).dropAllIndexes();
+    }
+}
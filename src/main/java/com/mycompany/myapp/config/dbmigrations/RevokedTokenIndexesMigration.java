@@ -0,0 +1,35 @@
+package com.mycompany.myapp.config.dbmigrations;
+
+import com.mycompany.myapp.domain.RevokedToken;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import java.time.Duration;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * Creates the indexes of the revoked tokens collection: a TTL index purging expired entries, and an index on the
+ * revocation date used for incremental synchronization.
+ */
+@ChangeUnit(id = "revoked-token-indexes", order = "002")
+public class RevokedTokenIndexesMigration {
+
+    private final MongoTemplate template;
+
+    public RevokedTokenIndexesMigration(MongoTemplate template) {
+        this.template = template;
+    }
+
+    @Execution
+    public void changeSet() {
+        template.indexOps(RevokedToken.class).ensureIndex(new Index().on("expiry_date", Sort.Direction.ASC).expire(Duration.ZERO));
+        template.indexOps(RevokedToken.class).ensureIndex(new Index().on("revoked_date", Sort.Direction.ASC));
+    }
+
+    @RollbackExecution
+    public void rollback() {
+        template.indexOps(RevokedToken.class).dropAllIndexes();
+    }
+}
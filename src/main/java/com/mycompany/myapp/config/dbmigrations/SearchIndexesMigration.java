@@ -0,0 +1,38 @@
+package com.mycompany.myapp.config.dbmigrations;
+
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Item;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+
+/**
+ * Creates the text indexes of the search: item names, and category names weighted above their descriptions.
+ */
+@ChangeUnit(id = "search-indexes", order = "006")
+public class SearchIndexesMigration {
+
+    private static final String TEXT_INDEX = "search_text";
+
+    private final MongoTemplate template;
+
+    public SearchIndexesMigration(MongoTemplate template) {
+        this.template = template;
+    }
+
+    @Execution
+    public void changeSet() {
+        template.indexOps(Item.class).ensureIndex(TextIndexDefinition.builder().named(TEXT_INDEX).onField("name").build());
+        template
+            .indexOps(Category.class)
+            .ensureIndex(TextIndexDefinition.builder().named(TEXT_INDEX).onField("name", 3F).onField("description").build());
+    }
+
+    @RollbackExecution
+    public void rollback() {
+        template.indexOps(Item.class).dropIndex(TEXT_INDEX);
+        template.indexOps(Category.class).dropIndex(TEXT_INDEX);
+    }
+}
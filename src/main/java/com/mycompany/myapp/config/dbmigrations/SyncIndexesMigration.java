@@ -0,0 +1,45 @@
+package com.mycompany.myapp.config.dbmigrations;
+
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.domain.Tombstone;
+import io.mongock.api.annotations.ChangeUnit;
+import io.mongock.api.annotations.Execution;
+import io.mongock.api.annotations.RollbackExecution;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+
+/**
+ * Creates the indexes of the changes since a date: the last modified date of items and categories, and the tombstones
+ * of the deleted ones by type and date, removed after {@link Tombstone#RETENTION}.
+ */
+@ChangeUnit(id = "sync-indexes", order = "005")
+public class SyncIndexesMigration {
+
+    private static final String LAST_MODIFIED_DATE_INDEX = "update_info_last_modified_date";
+
+    private final MongoTemplate template;
+
+    public SyncIndexesMigration(MongoTemplate template) {
+        this.template = template;
+    }
+
+    @Execution
+    public void changeSet() {
+        Index lastModifiedDate = new Index().on("update_info.last_modified_date", Sort.Direction.ASC).named(LAST_MODIFIED_DATE_INDEX);
+        template.indexOps(Item.class).ensureIndex(lastModifiedDate);
+        template.indexOps(Category.class).ensureIndex(lastModifiedDate);
+        template.indexOps(Tombstone.class).ensureIndex(new Index().on("deleted_date", Sort.Direction.ASC).expire(Tombstone.RETENTION));
+        template
+            .indexOps(Tombstone.class)
+            .ensureIndex(new Index().on("entity_type", Sort.Direction.ASC).on("deleted_date", Sort.Direction.ASC));
+    }
+
+    @RollbackExecution
+    public void rollback() {
+        template.indexOps(Item.class).dropIndex(LAST_MODIFIED_DATE_INDEX);
+        template.indexOps(Category.class).dropIndex(LAST_MODIFIED_DATE_INDEX);
+        template.indexOps(Tombstone.class).dropAllIndexes();
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
@@ -55,9 +56,13 @@ public class Category implements Serializable {
     List<RefType> item = new ArrayList<>();
 
 
+    @JsonProperty("create_info")
+    @JsonAlias("createInfo")
     @Field("create_info")
     private CreateInfo createInfo;
 
+    @JsonProperty("update_info")
+    @JsonAlias("updateInfo")
     @Field("update_info")
     private UpdateInfo updateInfo;
 
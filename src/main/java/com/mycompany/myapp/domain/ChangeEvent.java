@@ -0,0 +1,127 @@
+package com.mycompany.myapp.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+import javax.validation.constraints.NotNull;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * A change of an item or a category, in the change outbox.
+ * <p>
+ * Events are numbered by a sequence shared by all the instances, which consumers of the change feed resume from.
+ * They are removed by a TTL index after a week.
+ */
+@Document(collection = "jhi_change_event")
+public class ChangeEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String ITEM = "item";
+
+    public static final String CATEGORY = "category";
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+    }
+
+    @Id
+    private Long sequence;
+
+    @NotNull
+    @Field("entity_type")
+    private String entityType;
+
+    @NotNull
+    @Field("entity_id")
+    private String entityId;
+
+    @NotNull
+    private Type type;
+
+    @NotNull
+    @Field("created_date")
+    private Instant createdDate;
+
+    public ChangeEvent() {}
+
+    public ChangeEvent(Long sequence, String entityType, String entityId, Type type, Instant createdDate) {
+        this.sequence = sequence;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.type = type;
+        this.createdDate = createdDate;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(String entityId) {
+        this.entityId = entityId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ChangeEvent)) {
+            return false;
+        }
+        return Objects.equals(sequence, ((ChangeEvent) o).sequence);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(sequence);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ChangeEvent{" +
+            "sequence=" + sequence +
+            ", entityType='" + entityType + '\'' +
+            ", entityId='" + entityId + '\'' +
+            ", type='" + type + '\'' +
+            ", createdDate='" + createdDate + '\'' +
+            "}";
+    }
+}
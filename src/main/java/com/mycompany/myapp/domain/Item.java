@@ -5,6 +5,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -55,9 +56,14 @@ public class Item implements Serializable {
         this.updateInfo = updateInfo;
     }
 
+    // named as stored, so that the entities written through RESTHeart have the same shape as the ones saved here
+    @JsonProperty("create_info")
+    @JsonAlias("createInfo")
     @Field("create_info")
     private CreateInfo createInfo;
 
+    @JsonProperty("update_info")
+    @JsonAlias("updateInfo")
     @Field("update_info")
     private UpdateInfo updateInfo;
 
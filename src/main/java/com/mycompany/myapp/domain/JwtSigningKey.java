@@ -0,0 +1,128 @@
+package com.mycompany.myapp.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+import javax.validation.constraints.NotNull;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * An asymmetric key pair used to sign JWT tokens, identified by its key id ({@code kid}).
+ * <p>
+ * Keys are shared through the database so that every instance signs and verifies with the same key ring.
+ */
+@Document(collection = "jhi_jwt_signing_key")
+public class JwtSigningKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    private String kid;
+
+    @NotNull
+    private String algorithm;
+
+    /**
+     * X.509 encoded public key, Base64.
+     */
+    @NotNull
+    @Field("public_key")
+    private String publicKey;
+
+    /**
+     * PKCS#8 encoded private key, Base64, stored unencrypted: access to the collection must be restricted.
+     */
+    @NotNull
+    @Field("private_key")
+    private String privateKey;
+
+    @NotNull
+    @Indexed
+    @Field("created_date")
+    private Instant createdDate;
+
+    /**
+     * Date after which the key is no longer needed to verify tokens and can be removed.
+     */
+    @NotNull
+    @Field("expiry_date")
+    private Instant expiryDate;
+
+    public String getKid() {
+        return kid;
+    }
+
+    public void setKid(String kid) {
+        this.kid = kid;
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(String algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public String getPublicKey() {
+        return publicKey;
+    }
+
+    public void setPublicKey(String publicKey) {
+        this.publicKey = publicKey;
+    }
+
+    public String getPrivateKey() {
+        return privateKey;
+    }
+
+    public void setPrivateKey(String privateKey) {
+        this.privateKey = privateKey;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public Instant getExpiryDate() {
+        return expiryDate;
+    }
+
+    public void setExpiryDate(Instant expiryDate) {
+        this.expiryDate = expiryDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JwtSigningKey)) {
+            return false;
+        }
+        return Objects.equals(kid, ((JwtSigningKey) o).kid);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(kid);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "JwtSigningKey{" +
+            "kid='" + kid + '\'' +
+            ", algorithm='" + algorithm + '\'' +
+            ", createdDate='" + createdDate + '\'' +
+            ", expiryDate='" + expiryDate + '\'' +
+            "}";
+    }
+}
@@ -0,0 +1,168 @@
+package com.mycompany.myapp.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+import javax.validation.constraints.NotNull;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * An email waiting in the mail outbox, rendered and ready to send.
+ * <p>
+ * Emails are removed once sent, or once they failed too many times; until then, {@code nextAttemptDate} is when they
+ * can be sent, or sent again.
+ */
+@Document(collection = "jhi_mail_outbox")
+public class MailMessage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    private String id;
+
+    @NotNull
+    private String to;
+
+    private String subject;
+
+    private String content;
+
+    private boolean multipart;
+
+    private boolean html;
+
+    @NotNull
+    @Field("created_date")
+    private Instant createdDate;
+
+    private int attempts;
+
+    @NotNull
+    @Field("next_attempt_date")
+    private Instant nextAttemptDate;
+
+    @Field("last_error")
+    private String lastError;
+
+    public MailMessage() {}
+
+    public MailMessage(String to, String subject, String content, boolean multipart, boolean html, Instant createdDate) {
+        this.to = to;
+        this.subject = subject;
+        this.content = content;
+        this.multipart = multipart;
+        this.html = html;
+        this.createdDate = createdDate;
+        this.nextAttemptDate = createdDate;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public boolean isMultipart() {
+        return multipart;
+    }
+
+    public void setMultipart(boolean multipart) {
+        this.multipart = multipart;
+    }
+
+    public boolean isHtml() {
+        return html;
+    }
+
+    public void setHtml(boolean html) {
+        this.html = html;
+    }
+
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    public void setCreatedDate(Instant createdDate) {
+        this.createdDate = createdDate;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptDate() {
+        return nextAttemptDate;
+    }
+
+    public void setNextAttemptDate(Instant nextAttemptDate) {
+        this.nextAttemptDate = nextAttemptDate;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MailMessage)) {
+            return false;
+        }
+        return id != null && id.equals(((MailMessage) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "MailMessage{" +
+            "id='" + id + '\'' +
+            ", to='" + to + '\'' +
+            ", subject='" + subject + '\'' +
+            ", attempts=" + attempts +
+            ", nextAttemptDate='" + nextAttemptDate + '\'' +
+            "}";
+    }
+}
@@ -0,0 +1,89 @@
+package com.mycompany.myapp.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+import javax.validation.constraints.NotNull;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * A revoked JWT token, identified by its token id ({@code jti}).
+ * <p>
+ * Entries are removed by a TTL index once the token would have expired anyway.
+ */
+@Document(collection = "jhi_revoked_token")
+public class RevokedToken implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    private String jti;
+
+    @NotNull
+    @Field("revoked_date")
+    private Instant revokedDate;
+
+    @NotNull
+    @Field("expiry_date")
+    private Instant expiryDate;
+
+    public RevokedToken() {}
+
+    public RevokedToken(String jti, Instant revokedDate, Instant expiryDate) {
+        this.jti = jti;
+        this.revokedDate = revokedDate;
+        this.expiryDate = expiryDate;
+    }
+
+    public String getJti() {
+        return jti;
+    }
+
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+
+    public Instant getRevokedDate() {
+        return revokedDate;
+    }
+
+    public void setRevokedDate(Instant revokedDate) {
+        this.revokedDate = revokedDate;
+    }
+
+    public Instant getExpiryDate() {
+        return expiryDate;
+    }
+
+    public void setExpiryDate(Instant expiryDate) {
+        this.expiryDate = expiryDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RevokedToken)) {
+            return false;
+        }
+        return Objects.equals(jti, ((RevokedToken) o).jti);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(jti);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "RevokedToken{" +
+            "jti='" + jti + '\'' +
+            ", revokedDate='" + revokedDate + '\'' +
+            ", expiryDate='" + expiryDate + '\'' +
+            "}";
+    }
+}
@@ -0,0 +1,110 @@
+package com.mycompany.myapp.domain;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import javax.validation.constraints.NotNull;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * The id of a deleted item or category, served to the consumers syncing the changes since a date.
+ * <p>
+ * Tombstones are identified by the type and the id of the entity, and removed by a TTL index after
+ * {@link #RETENTION}: consumers which last synced before have to load everything again.
+ */
+@Document(collection = "jhi_tombstone")
+public class Tombstone implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final Duration RETENTION = Duration.ofDays(30);
+
+    @Id
+    private String id;
+
+    @NotNull
+    @Field("entity_type")
+    private String entityType;
+
+    @NotNull
+    @Field("entity_id")
+    private String entityId;
+
+    @NotNull
+    @Field("deleted_date")
+    private Instant deletedDate;
+
+    public Tombstone() {}
+
+    public Tombstone(String entityType, String entityId, Instant deletedDate) {
+        this.id = id(entityType, entityId);
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.deletedDate = deletedDate;
+    }
+
+    public static String id(String entityType, String entityId) {
+        return entityType + ":" + entityId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(String entityId) {
+        this.entityId = entityId;
+    }
+
+    public Instant getDeletedDate() {
+        return deletedDate;
+    }
+
+    public void setDeletedDate(Instant deletedDate) {
+        this.deletedDate = deletedDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Tombstone)) {
+            return false;
+        }
+        return id != null && id.equals(((Tombstone) o).id);
+    }
+
+    @Override
+    public int hashCode() {
+        // see https://vladmihalcea.com/how-to-implement-equals-and-hashcode-using-the-jpa-entity-identifier/
+        return getClass().hashCode();
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "Tombstone{" +
+            "entityType='" + entityType + '\'' +
+            ", entityId='" + entityId + '\'' +
+            ", deletedDate='" + deletedDate + '\'' +
+            "}";
+    }
+}
@@ -35,4 +35,4 @@ public class UpdateInfo {
     @JsonSerialize(using = Instant2MongoDateSerializer.class)
     @JsonDeserialize(using = MongoDate2InstantDeserializer.class)
     private Instant lastModifiedDate;
-}
\ No newline at end of file
+}
@@ -11,25 +11,31 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.mycompany.myapp.domain.Category;
 
 
 
-@FeignClient(name = "restheart-category", url = "http://localhost:8080", decode404 = true)
+@FeignClient(
+    name = "restheart-category",
+    url = "http://localhost:8080",
+    decode404 = true,
+    configuration = WireFormatFeignConfiguration.class
+)
 public interface CategoryClient {
 
     @PostMapping("/pro5/category")
     public ResponseEntity<Void> save(@RequestBody com.mycompany.myapp.domain.Category category) throws URISyntaxException;
 
 
-     // Method to get a category by id (GET request)
+     // Method to get a category by id (GET request), keys is an optional Mongo projection such as {"name":1}
     @GetMapping("/pro5/category/{id}")
-    public ResponseEntity<Category> getById(@PathVariable("id") String id);
+    public ResponseEntity<Category> getById(@PathVariable("id") String id, @RequestParam(value = "keys", required = false) String keys);
 
-     // Method to get all pcategory (GET request)
+     // Method to get all pcategory (GET request), keys is an optional Mongo projection such as {"name":1}
      @GetMapping("/pro5/category")  // Assuming the endpoint for all posts is "/blogApps/posts"
-     public ResponseEntity<List<Category>> findAll();
+     public ResponseEntity<List<Category>> findAll(@RequestParam(value = "keys", required = false) String keys);
 
       // Method to update an existing category (PUT request)
     @PutMapping("/pro5/category/{id}")
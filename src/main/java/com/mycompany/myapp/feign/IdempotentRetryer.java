@@ -0,0 +1,40 @@
+package com.mycompany.myapp.feign;
+
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+
+/**
+ * Retries the Feign calls failing with an I/O error, or a {@code Retry-After} header, with an exponential backoff, but
+ * only for {@code GET} and {@code HEAD}: the other methods may have reached the backend before failing.
+ */
+public class IdempotentRetryer implements Retryer {
+
+    private final long period;
+
+    private final long maxPeriod;
+
+    private final int maxAttempts;
+
+    private final Retryer delegate;
+
+    public IdempotentRetryer(long period, long maxPeriod, int maxAttempts) {
+        this.period = period;
+        this.maxPeriod = maxPeriod;
+        this.maxAttempts = maxAttempts;
+        this.delegate = new Retryer.Default(period, maxPeriod, maxAttempts);
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        if (e.method() != Request.HttpMethod.GET && e.method() != Request.HttpMethod.HEAD) {
+            throw e;
+        }
+        delegate.continueOrPropagate(e);
+    }
+
+    @Override
+    public Retryer clone() {
+        return new IdempotentRetryer(period, maxPeriod, maxAttempts);
+    }
+}
@@ -13,24 +13,30 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.mycompany.myapp.domain.Item;
 import com.mycompany.myapp.domain.RefType;
 import com.mycompany.myapp.domain.RefType.RefTo;
 
-@FeignClient(name = "restheart-item", url = "http://localhost:8080", decode404 = true)
+@FeignClient(
+    name = "restheart-item",
+    url = "http://localhost:8080",
+    decode404 = true,
+    configuration = WireFormatFeignConfiguration.class
+)
 public interface ItemClient {
   // Method to save a new comment (POST request)
   @PostMapping("/pro5/item")
   public ResponseEntity<Void> save(@RequestBody Item item) throws URISyntaxException;
 
-  // Method to get a comment by id (GET request)
+  // Method to get a comment by id (GET request), keys is an optional Mongo projection such as {"name":1}
     @GetMapping("/pro5/item/{id}")
-    public ResponseEntity<Item> getById(@PathVariable("id") String id);
+    public ResponseEntity<Item> getById(@PathVariable("id") String id, @RequestParam(value = "keys", required = false) String keys);
 
-    // Method to get all comments (GET request)
+    // Method to get all comments (GET request), keys is an optional Mongo projection such as {"name":1}
     @GetMapping("/pro5/item")
-    public ResponseEntity<List<Item>> findAll();
+    public ResponseEntity<List<Item>> findAll(@RequestParam(value = "keys", required = false) String keys);
 
     // Method to update an existing comment (PUT request)
     @PutMapping("/pro5/item/{id}")
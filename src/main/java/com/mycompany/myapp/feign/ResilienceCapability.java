@@ -0,0 +1,74 @@
+package com.mycompany.myapp.feign;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.Ordered;
+
+/**
+ * Guards the HTTP calls of the Feign clients with a bulkhead and a circuit breaker per client, named after the client.
+ * <p>
+ * The bulkhead bounds the calls in flight, so a slow backend holds a bounded number of request threads; the circuit
+ * breaker opens when too many calls fail or are slow, and then rejects calls without sending them until the backend is
+ * probed again. Rejected calls fail fast with {@link io.github.resilience4j.bulkhead.BulkheadFullException} or
+ * {@link io.github.resilience4j.circuitbreaker.CallNotPermittedException}, which are not retried.
+ * <p>
+ * Responses with a 5xx status count as failures, the others as successes.
+ */
+public class ResilienceCapability implements Capability, Ordered {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public ResilienceCapability(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> execute(client, request, options);
+    }
+
+    private Response execute(Client client, Request request, Request.Options options) throws IOException {
+        String name = request.requestTemplate().feignTarget().name();
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        bulkhead.acquirePermission();
+        try {
+            circuitBreaker.acquirePermission();
+            long start = System.nanoTime();
+            try {
+                Response response = client.execute(request, options);
+                if (response.status() >= 500) {
+                    IOException failure = new IOException("Status " + response.status() + " from " + name);
+                    circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, failure);
+                } else {
+                    circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+                throw e;
+            }
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    /**
+     * Innermost capability, so that the metrics capability also times the rejected calls.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,68 @@
+package com.mycompany.myapp.feign;
+
+import feign.RequestInterceptor;
+import feign.codec.Encoder;
+import feign.form.spring.SpringFormEncoder;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+/**
+ * Wire format of {@link ItemClient} and {@link CategoryClient}, set with {@code application.jackson.feign-wire-format}.
+ * <p>
+ * Responses are decoded according to their {@code Content-Type} by the application message converters, which read
+ * JSON, Smile and CBOR. With {@code smile} or {@code cbor}, that format is preferred in the {@code Accept} header, so
+ * an upstream without it still answers in JSON, and request bodies are written in it.
+ * <p>
+ * Not a {@code @Configuration}, so that it only applies to the clients referencing it.
+ */
+public class WireFormatFeignConfiguration {
+
+    private static final String SMILE_VALUE = "application/x-jackson-smile";
+
+    private final String mediaType;
+
+    public WireFormatFeignConfiguration(@Value("${application.jackson.feign-wire-format:json}") String wireFormat) {
+        switch (wireFormat) {
+            case "json":
+                this.mediaType = null;
+                break;
+            case "smile":
+                this.mediaType = SMILE_VALUE;
+                break;
+            case "cbor":
+                this.mediaType = MediaType.APPLICATION_CBOR_VALUE;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown Feign wire format " + wireFormat + ", expected json, smile or cbor");
+        }
+    }
+
+    @Bean
+    public Encoder feignEncoder(ObjectFactory<HttpMessageConverters> messageConverters) {
+        Encoder delegate = new SpringEncoder(new SpringFormEncoder(), messageConverters);
+        if (mediaType == null) {
+            return delegate;
+        }
+        return (object, bodyType, template) -> {
+            // the encoder picks the converter from the content type, interceptors only run after encoding
+            if (!template.headers().containsKey(HttpHeaders.CONTENT_TYPE)) {
+                template.header(HttpHeaders.CONTENT_TYPE, mediaType);
+            }
+            delegate.encode(object, bodyType, template);
+        };
+    }
+
+    @Bean
+    public RequestInterceptor wireFormatRequestInterceptor() {
+        return template -> {
+            if (mediaType != null && !template.headers().containsKey(HttpHeaders.ACCEPT)) {
+                template.header(HttpHeaders.ACCEPT, mediaType + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.9");
+            }
+        };
+    }
+}
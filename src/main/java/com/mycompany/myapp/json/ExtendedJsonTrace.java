@@ -0,0 +1,27 @@
+package com.mycompany.myapp.json;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sampled tracing of the extended JSON (de)serializers, which run for every id and date of every document.
+ * <p>
+ * Off unless {@code com.mycompany.myapp.json} logs at {@code TRACE}, in which case about one value in
+ * {@value #SAMPLE_RATE} is logged; the fast path is a single level check.
+ */
+final class ExtendedJsonTrace {
+
+	static final int SAMPLE_RATE = 1024;
+
+	private static final Logger LOG = LoggerFactory.getLogger(ExtendedJsonTrace.class);
+
+	private ExtendedJsonTrace() {}
+
+	static void sample(String operation, Object value) {
+		if (LOG.isTraceEnabled() && ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0) {
+			LOG.trace("{} : {}", operation, value);
+		}
+	}
+}
@@ -2,34 +2,99 @@ package com.mycompany.myapp.json;
 
 import java.io.IOException;
 import java.time.Instant;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.time.format.DateTimeParseException;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 
+/**
+ * Reads a date written as extended JSON {@code {"$date": <millis>}}, {@code {"$date": "<ISO-8601>"}} or
+ * {@code {"$date": {"$numberLong": "<millis>"}}}, or as plain epoch milliseconds or ISO-8601 string, straight from
+ * the token stream without building a tree.
+ */
 public class MongoDate2InstantDeserializer extends JsonDeserializer<Instant>{
-	
-	private static final Logger LOG = LoggerFactory.getLogger(MongoDate2InstantDeserializer.class);
 
+	static final String DATE_FIELD = "$date";
+
+	static final String NUMBER_LONG_FIELD = "$numberLong";
 
 	@Override
-	public Instant deserialize(JsonParser jp, DeserializationContext arg1)
-			throws IOException, JsonProcessingException {
-		JsonNode node = jp.getCodec().readTree(jp);
-		if (node == null) {
-            return null;
-        }
-		LOG.debug("MongoDate2InstantDeserializer Got node : {}", node.toString());
-		if(node.get("$date") == null){
+	public Instant deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+		JsonToken token = jp.currentToken();
+		Instant date;
+		if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME) {
+			date = readDate(jp, ctxt);
+		}
+		else if (token.isScalarValue()) {
+			date = toInstant(jp, ctxt);
+		}
+		else {
+			return (Instant) ctxt.handleUnexpectedToken(Instant.class, jp);
+		}
+		ExtendedJsonTrace.sample("deserialize $date", date);
+		return date;
+	}
+
+	private static Instant readDate(JsonParser jp, DeserializationContext ctxt) throws IOException {
+		Instant date = null;
+		String name = jp.currentToken() == JsonToken.START_OBJECT ? jp.nextFieldName() : jp.currentName();
+		for (; name != null; name = jp.nextFieldName()) {
+			JsonToken value = jp.nextToken();
+			if (DATE_FIELD.equals(name) && value.isScalarValue()) {
+				date = toInstant(jp, ctxt);
+			}
+			else if (DATE_FIELD.equals(name) && value == JsonToken.START_OBJECT) {
+				date = readNumberLong(jp, ctxt);
+			}
+			else {
+				jp.skipChildren();
+			}
+		}
+		return date;
+	}
+
+	private static Instant readNumberLong(JsonParser jp, DeserializationContext ctxt) throws IOException {
+		Instant date = null;
+		for (String name = jp.nextFieldName(); name != null; name = jp.nextFieldName()) {
+			JsonToken value = jp.nextToken();
+			if (NUMBER_LONG_FIELD.equals(name) && value.isScalarValue()) {
+				date = toInstant(jp, ctxt);
+			}
+			else {
+				jp.skipChildren();
+			}
+		}
+		return date;
+	}
+
+	private static Instant toInstant(JsonParser jp, DeserializationContext ctxt) throws IOException {
+		switch (jp.currentToken()) {
+			case VALUE_NUMBER_INT:
+			case VALUE_NUMBER_FLOAT:
+				return Instant.ofEpochMilli(jp.getValueAsLong());
+			case VALUE_STRING:
+				return parse(jp, ctxt);
+			case VALUE_NULL:
+				return null;
+			default:
+				return (Instant) ctxt.handleUnexpectedToken(Instant.class, jp);
+		}
+	}
+
+	private static Instant parse(JsonParser jp, DeserializationContext ctxt) throws IOException {
+		String text = jp.getText().trim();
+		if (text.isEmpty()) {
 			return null;
 		}
-		else{
-			return Instant.ofEpochMilli(node.get("$date").asLong());
+		try {
+			if (text.indexOf('T') < 0) {
+				return Instant.ofEpochMilli(Long.parseLong(text));
+			}
+			return Instant.parse(text);
+		} catch (NumberFormatException | DateTimeParseException e) {
+			return (Instant) ctxt.handleWeirdStringValue(Instant.class, text, "expected epoch milliseconds or an ISO-8601 instant");
 		}
 	}
 }
@@ -1,34 +1,49 @@
 package com.mycompany.myapp.json;
 import java.io.IOException;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
-import com.fasterxml.jackson.databind.JsonNode;
 
+/**
+ * Reads an ObjectId written as extended JSON {@code {"$oid": "..."}}, or as a plain string or number, straight from
+ * the token stream without building a tree.
+ */
 public class ObjectIdToStringDeserializer extends JsonDeserializer<String>{
-	
-	private static final Logger LOG = LoggerFactory.getLogger(ObjectIdToStringDeserializer.class);
 
+	static final String OID_FIELD = "$oid";
 
 	@Override
-	public String deserialize(JsonParser jp, DeserializationContext arg1)
-			throws IOException, JsonProcessingException {
-		JsonNode node = jp.getCodec().readTree(jp);
-		if (node == null) {
-            return null;
-        }
-		LOG.debug("ObjectIDDeserializer Got node : {}", node.toString());
-		if(node.get("$oid") == null){
-			return null;
+	public String deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+		JsonToken token = jp.currentToken();
+		String oid;
+		if (token == JsonToken.START_OBJECT || token == JsonToken.FIELD_NAME) {
+			oid = readOid(jp);
+		}
+		else if (token.isScalarValue()) {
+			oid = jp.getValueAsString();
+		}
+		else {
+			return (String) ctxt.handleUnexpectedToken(String.class, jp);
 		}
-		else{
-			return node.get("$oid").asText();
+		ExtendedJsonTrace.sample("deserialize ObjectId", oid);
+		return oid;
+	}
+
+	private static String readOid(JsonParser jp) throws IOException {
+		String oid = null;
+		String name = jp.currentToken() == JsonToken.START_OBJECT ? jp.nextFieldName() : jp.currentName();
+		for (; name != null; name = jp.nextFieldName()) {
+			JsonToken value = jp.nextToken();
+			if (OID_FIELD.equals(name) && value.isScalarValue()) {
+				oid = jp.getValueAsString();
+			}
+			else {
+				jp.skipChildren();
+			}
 		}
+		return oid;
 	}
 
-}
\ No newline at end of file
+}
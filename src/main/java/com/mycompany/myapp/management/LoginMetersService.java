@@ -0,0 +1,56 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+@Service
+public class LoginMetersService {
+
+    public static final String LOGIN_ATTEMPTS_METER_NAME = "security.authentication.login-attempts";
+    public static final String LOGIN_ATTEMPTS_METER_DESCRIPTION = "Indicates the count of authentication attempts by outcome.";
+    public static final String LOGIN_ATTEMPTS_METER_BASE_UNIT = "attempts";
+    public static final String LOGIN_ATTEMPTS_METER_OUTCOME_DIMENSION = "outcome";
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter throttledCounter;
+    private final Counter rejectedCounter;
+
+    public LoginMetersService(MeterRegistry registry) {
+        this.successCounter = loginAttemptsCounterForOutcomeBuilder("success").register(registry);
+        this.failureCounter = loginAttemptsCounterForOutcomeBuilder("failure").register(registry);
+        this.throttledCounter = loginAttemptsCounterForOutcomeBuilder("throttled").register(registry);
+        this.rejectedCounter = loginAttemptsCounterForOutcomeBuilder("rejected").register(registry);
+    }
+
+    private Counter.Builder loginAttemptsCounterForOutcomeBuilder(String outcome) {
+        return Counter
+            .builder(LOGIN_ATTEMPTS_METER_NAME)
+            .baseUnit(LOGIN_ATTEMPTS_METER_BASE_UNIT)
+            .description(LOGIN_ATTEMPTS_METER_DESCRIPTION)
+            .tag(LOGIN_ATTEMPTS_METER_OUTCOME_DIMENSION, outcome);
+    }
+
+    public void trackLoginSuccess() {
+        this.successCounter.increment();
+    }
+
+    public void trackLoginFailure() {
+        this.failureCounter.increment();
+    }
+
+    /**
+     * Tracks an attempt turned away by the per login or per IP address limits.
+     */
+    public void trackLoginThrottled() {
+        this.throttledCounter.increment();
+    }
+
+    /**
+     * Tracks an attempt turned away because the password hashing executor was saturated.
+     */
+    public void trackLoginRejected() {
+        this.rejectedCounter.increment();
+    }
+}
@@ -0,0 +1,59 @@
+package com.mycompany.myapp.management;
+
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times how long the MongoDB operations wait for a pooled connection, by server and outcome, which the pool gauges
+ * of Micrometer do not show.
+ * <p>
+ * The synchronous driver checks connections out on the thread running the operation, which holds the start time.
+ */
+public class MongoConnectionPoolWaitListener implements ConnectionPoolListener {
+
+    public static final String METER_NAME = "mongodb.driver.pool.checkout";
+
+    private final MeterRegistry registry;
+
+    private final ThreadLocal<long[]> checkOutStart = ThreadLocal.withInitial(() -> new long[1]);
+
+    public MongoConnectionPoolWaitListener(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        checkOutStart.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        record(event.getConnectionId().getServerId(), "success");
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        record(event.getServerId(), "failure");
+    }
+
+    private void record(ServerId serverId, String outcome) {
+        long start = checkOutStart.get()[0];
+        if (start == 0) {
+            return;
+        }
+        checkOutStart.get()[0] = 0;
+        Timer
+            .builder(METER_NAME)
+            .description("Time waited for a connection from the MongoDB connection pool")
+            .tag("server.address", serverId.getAddress().toString())
+            .tag("outcome", outcome)
+            .register(registry)
+            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
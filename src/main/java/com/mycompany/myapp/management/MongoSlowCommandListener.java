@@ -0,0 +1,66 @@
+package com.mycompany.myapp.management;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs the MongoDB commands taking longer than a threshold, with their database and collection.
+ * <p>
+ * The command document is only valid while its started event is handled, so the collection is read then, and kept
+ * until the command completes.
+ */
+public class MongoSlowCommandListener implements CommandListener {
+
+    private final Logger log = LoggerFactory.getLogger(MongoSlowCommandListener.class);
+
+    private final long thresholdNanos;
+
+    private final Map<Integer, String> namespacesByRequestId = new ConcurrentHashMap<>();
+
+    public MongoSlowCommandListener(Duration threshold) {
+        this.thresholdNanos = threshold.toNanos();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        namespacesByRequestId.put(event.getRequestId(), event.getDatabaseName() + "." + collection(event));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        completed(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), "succeeded");
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        completed(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), "failed");
+    }
+
+    private void completed(int requestId, String commandName, long elapsedNanos, String outcome) {
+        String namespace = namespacesByRequestId.remove(requestId);
+        if (elapsedNanos >= thresholdNanos) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            log.warn("Slow MongoDB command {} on {} {} in {} ms", commandName, namespace, outcome, elapsedMillis);
+        }
+    }
+
+    /**
+     * @return the collection a command applies to: the value of the command name, or of {@code collection} for
+     * {@code getMore}, or {@code -} for the commands not applying to a collection.
+     */
+    private static String collection(CommandStartedEvent event) {
+        BsonDocument command = event.getCommand();
+        BsonValue collection = command.get("getMore".equals(event.getCommandName()) ? "collection" : event.getCommandName());
+        return collection != null && collection.isString() ? collection.asString().getValue() : "-";
+    }
+}
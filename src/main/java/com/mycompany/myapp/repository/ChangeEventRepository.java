@@ -0,0 +1,18 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.ChangeEvent;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data MongoDB repository for the {@link ChangeEvent} entity.
+ */
+@Repository
+public interface ChangeEventRepository extends MongoRepository<ChangeEvent, Long> {
+    List<ChangeEvent> findBySequenceGreaterThanOrderBySequenceAsc(long sequence, Pageable pageable);
+
+    Optional<ChangeEvent> findFirstByOrderBySequenceDesc();
+}
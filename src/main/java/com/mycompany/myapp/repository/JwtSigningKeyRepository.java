@@ -0,0 +1,17 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.JwtSigningKey;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data MongoDB repository for the {@link JwtSigningKey} entity.
+ */
+@Repository
+public interface JwtSigningKeyRepository extends MongoRepository<JwtSigningKey, String> {
+    List<JwtSigningKey> findAllByAlgorithmAndExpiryDateAfterOrderByCreatedDateDesc(String algorithm, Instant date);
+
+    void deleteAllByExpiryDateBefore(Instant date);
+}
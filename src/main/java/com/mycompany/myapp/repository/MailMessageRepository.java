@@ -0,0 +1,11 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.MailMessage;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data MongoDB repository for the {@link MailMessage} entity.
+ */
+@Repository
+public interface MailMessageRepository extends MongoRepository<MailMessage, String> {}
@@ -0,0 +1,19 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.RevokedToken;
+import java.time.Instant;
+import java.util.stream.Stream;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data MongoDB repository for the {@link RevokedToken} entity.
+ */
+@Repository
+public interface RevokedTokenRepository extends MongoRepository<RevokedToken, String> {
+    Stream<RevokedToken> findAllByExpiryDateAfter(Instant date);
+
+    Stream<RevokedToken> findAllByRevokedDateAfter(Instant date);
+
+    long countByExpiryDateAfter(Instant date);
+}
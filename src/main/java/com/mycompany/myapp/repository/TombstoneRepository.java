@@ -0,0 +1,29 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.Tombstone;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data MongoDB repository for the {@link Tombstone} entity.
+ */
+@Repository
+public interface TombstoneRepository extends MongoRepository<Tombstone, String> {
+    List<Tombstone> findByEntityTypeAndDeletedDateGreaterThanEqualAndDeletedDateLessThan(
+        String entityType,
+        Instant from,
+        Instant to,
+        Pageable pageable
+    );
+
+    List<Tombstone> findByEntityTypeAndDeletedDateGreaterThanEqualAndDeletedDateLessThanAndEntityIdGreaterThan(
+        String entityType,
+        Instant from,
+        Instant to,
+        String entityId,
+        Pageable pageable
+    );
+}
@@ -0,0 +1,11 @@
+package com.mycompany.myapp.repository.reactive;
+
+import com.mycompany.myapp.domain.User;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data MongoDB reactive repository for the {@link User} entity.
+ */
+@Repository
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {}
@@ -0,0 +1,4 @@
+/**
+ * Spring Data MongoDB reactive repositories.
+ */
+package com.mycompany.myapp.repository.reactive;
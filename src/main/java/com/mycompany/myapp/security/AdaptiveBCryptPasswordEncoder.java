@@ -0,0 +1,124 @@
+package com.mycompany.myapp.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt password encoder picking its cost at startup, so that hashing a password takes about a target duration on
+ * the hardware the application runs on.
+ * <p>
+ * Stored hashes of any cost are still matched, and {@link #upgradeEncoding(String)} reports the ones whose cost is
+ * lower than the current one, so that they are re-hashed at the next successful login through
+ * {@link org.springframework.security.core.userdetails.UserDetailsPasswordService}.
+ */
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+
+    public static final String HASHING_METER_NAME = "security.password.hashing";
+    public static final String STRENGTH_METER_NAME = "security.password.strength";
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2(?:a|b|y)?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private static final int BENCHMARK_ROUNDS = 3;
+
+    private final Logger log = LoggerFactory.getLogger(AdaptiveBCryptPasswordEncoder.class);
+
+    private final int strength;
+
+    private final BCryptPasswordEncoder delegate;
+
+    private final Timer encodeTimer;
+
+    private final Timer matchesTimer;
+
+    /**
+     * @param minStrength the lowest cost to use, even if hashing takes longer than the target duration.
+     * @param maxStrength the highest cost to use, even if hashing takes less than the target duration.
+     * @param targetDuration the duration hashing a password should take.
+     * @param registry the registry of the hashing timers.
+     */
+    public AdaptiveBCryptPasswordEncoder(int minStrength, int maxStrength, Duration targetDuration, MeterRegistry registry) {
+        if (minStrength > maxStrength) {
+            throw new IllegalArgumentException("Minimum bcrypt strength " + minStrength + " is above maximum " + maxStrength);
+        }
+        this.strength = benchmark(minStrength, maxStrength, targetDuration);
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.encodeTimer = hashingTimerBuilder("encode").register(registry);
+        this.matchesTimer = hashingTimerBuilder("matches").register(registry);
+        Gauge.builder(STRENGTH_METER_NAME, this, AdaptiveBCryptPasswordEncoder::getStrength).description("BCrypt cost").register(registry);
+    }
+
+    private Timer.Builder hashingTimerBuilder(String operation) {
+        return Timer
+            .builder(HASHING_METER_NAME)
+            .description("Duration of password hashing operations")
+            .tag("operation", operation)
+            .publishPercentileHistogram();
+    }
+
+    /**
+     * Measures the minimum cost, and extrapolates the highest cost fitting the target duration knowing that each
+     * additional cost doubles the hashing duration.
+     */
+    private int benchmark(int minStrength, int maxStrength, Duration targetDuration) {
+        if (minStrength == maxStrength) {
+            return minStrength;
+        }
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode("benchmark");
+        long minNanos = Long.MAX_VALUE;
+        for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.encode("benchmark");
+            minNanos = Math.min(minNanos, System.nanoTime() - start);
+        }
+        int selected = minStrength;
+        long nanos = minNanos;
+        while (selected < maxStrength && nanos * 2 <= targetDuration.toNanos()) {
+            selected++;
+            nanos *= 2;
+        }
+        log.info(
+            "Using bcrypt strength {}, estimated at {} ms per hash (target {} ms)",
+            selected,
+            nanos / 1_000_000,
+            targetDuration.toMillis()
+        );
+        return selected;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Boolean matches = matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+        return Boolean.TRUE.equals(matches);
+    }
+
+    /**
+     * @return {@code true} if the encoded password is a bcrypt hash whose cost is lower than the current one; stronger
+     * hashes are kept, or instances which benchmarked different costs would re-hash them back and forth.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+}
@@ -0,0 +1,225 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import javax.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Throttles authentication attempts with token buckets per login and per IP address, so that credential stuffing
+ * bursts are turned away before reaching {@link DomainUserDetailsService} and the password check.
+ * <p>
+ * Each bucket holds up to the configured number of attempts and refills continuously over the configured period.
+ * Buckets are kept in memory: with several instances, the limits apply per instance.
+ * <p>
+ * The IP address of a client is the one of the connection, unless it is a trusted proxy: then the
+ * {@code X-Forwarded-For} header is read from the right, skipping the trusted proxies, so that clients cannot spoof
+ * their address by sending the header themselves.
+ */
+@Component
+public class LoginAttemptThrottler {
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    /**
+     * IP address literals, which {@link IpAddressMatcher} parses without a DNS lookup.
+     */
+    private static final Pattern IP_ADDRESS = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}|[0-9a-fA-F:.]*:[0-9a-fA-F:.]*");
+
+    private final Logger log = LoggerFactory.getLogger(LoginAttemptThrottler.class);
+
+    private final boolean enabled;
+
+    private final int attemptsPerLogin;
+
+    private final int attemptsPerIp;
+
+    private final long periodMillis;
+
+    private final int maxTrackedKeys;
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    private final Clock clock;
+
+    private final AtomicLong lastOverflowWarning = new AtomicLong(Long.MIN_VALUE);
+
+    private final Map<String, Bucket> loginBuckets = new ConcurrentHashMap<>();
+
+    private final Map<String, Bucket> ipBuckets = new ConcurrentHashMap<>();
+
+    public LoginAttemptThrottler(ApplicationProperties applicationProperties) {
+        this(applicationProperties, Clock.systemUTC());
+    }
+
+    LoginAttemptThrottler(ApplicationProperties applicationProperties, Clock clock) {
+        ApplicationProperties.Security.LoginThrottling properties = applicationProperties.getSecurity().getLoginThrottling();
+        this.enabled = properties.isEnabled();
+        this.attemptsPerLogin = properties.getAttemptsPerLogin();
+        this.attemptsPerIp = properties.getAttemptsPerIp();
+        this.periodMillis = properties.getPeriod().toMillis();
+        this.maxTrackedKeys = properties.getMaxTrackedKeys();
+        this.trustedProxies = properties.getTrustedProxies().stream().map(IpAddressMatcher::new).collect(Collectors.toList());
+        this.clock = clock;
+    }
+
+    /**
+     * Resolves the IP address of the client of a request.
+     *
+     * @param request the request.
+     * @return the IP address of the connection, or the right-most {@code X-Forwarded-For} address that is not a trusted
+     * proxy if the connection comes from one.
+     */
+    public String clientAddress(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (!isTrustedProxy(address)) {
+            return address;
+        }
+        String[] forwardedFor = String.join(",", Collections.list(request.getHeaders(FORWARDED_FOR_HEADER))).split(",");
+        for (int i = forwardedFor.length - 1; i >= 0; i--) {
+            String forwarded = forwardedFor[i].trim();
+            if (!forwarded.isEmpty()) {
+                address = forwarded;
+                if (!isTrustedProxy(address)) {
+                    break;
+                }
+            }
+        }
+        return address;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (address == null || !IP_ADDRESS.matcher(address).matches()) {
+            return false;
+        }
+        try {
+            return trustedProxies.stream().anyMatch(proxy -> proxy.matches(address));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Takes an attempt from the buckets of a login and an IP address.
+     *
+     * @param login the login, or email, being authenticated.
+     * @param remoteAddress the IP address of the client.
+     * @return {@link Duration#ZERO} if the attempt is allowed, otherwise how long to wait before retrying.
+     */
+    public Duration tryAcquire(String login, String remoteAddress) {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+        long now = clock.millis();
+        Bucket ipBucket = bucket(ipBuckets, remoteAddress, attemptsPerIp);
+        long ipWait = ipBucket == null ? 0 : ipBucket.tryAcquire(now);
+        if (ipWait > 0) {
+            return Duration.ofMillis(ipWait);
+        }
+        Bucket loginBucket = login == null ? null : bucket(loginBuckets, login.toLowerCase(Locale.ENGLISH), attemptsPerLogin);
+        long loginWait = loginBucket == null ? 0 : loginBucket.tryAcquire(now);
+        if (loginWait > 0) {
+            // no password check is made, so the attempt does not count against the IP address
+            if (ipBucket != null) {
+                ipBucket.refund();
+            }
+            return Duration.ofMillis(loginWait);
+        }
+        return Duration.ZERO;
+    }
+
+    private Bucket bucket(Map<String, Bucket> buckets, String key, int capacity) {
+        if (key == null) {
+            return null;
+        }
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxTrackedKeys) {
+                warnOverflow();
+                return null;
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, clock.millis()));
+        }
+        return bucket;
+    }
+
+    /**
+     * Warns at most once per period that new keys are not throttled, as this happens on every attempt of a flood.
+     */
+    private void warnOverflow() {
+        long now = clock.millis();
+        long last = lastOverflowWarning.get();
+        if ((last == Long.MIN_VALUE || now - last >= periodMillis) && lastOverflowWarning.compareAndSet(last, now)) {
+            log.warn("Too many keys tracked by the login throttler, not throttling new logins and IP addresses");
+        }
+    }
+
+    /**
+     * Forgets the buckets that refilled completely, which would behave as new ones.
+     */
+    @Scheduled(
+        initialDelayString = "${application.security.login-throttling.period:PT1M}",
+        fixedDelayString = "${application.security.login-throttling.period:PT1M}"
+    )
+    public void evictIdleBuckets() {
+        long now = clock.millis();
+        loginBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        ipBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private final class Bucket {
+
+        private final int capacity;
+
+        private double tokens;
+
+        private long lastRefill;
+
+        Bucket(int capacity, long now) {
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.lastRefill = now;
+        }
+
+        /**
+         * @return 0 if a token was taken, otherwise the milliseconds until one is available.
+         */
+        synchronized long tryAcquire(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens--;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) * periodMillis / capacity));
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            if (now > lastRefill) {
+                tokens = Math.min(capacity, tokens + (double) (now - lastRefill) * capacity / periodMillis);
+                lastRefill = now;
+            }
+        }
+    }
+}
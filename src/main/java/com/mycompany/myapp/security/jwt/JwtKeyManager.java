@@ -0,0 +1,289 @@
+package com.mycompany.myapp.security.jwt;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.JwtSigningKey;
+import com.mycompany.myapp.repository.JwtSigningKeyRepository;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import javax.annotation.PostConstruct;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Manages the ring of asymmetric keys used to sign and verify JWT tokens.
+ * <p>
+ * Keys are generated on rotation, stored in the database and reloaded periodically, so that all instances share
+ * the same key ring. A newly generated key is only used for signing once every instance had the chance to load it;
+ * older keys are kept for verification until the longest-lived token signed with them has expired.
+ * <p>
+ * When {@code application.security.jwt.algorithm} is {@code HS512} (the default), no key is managed and tokens
+ * keep being signed with the shared secret.
+ */
+@Component
+public class JwtKeyManager {
+
+    private final Logger log = LoggerFactory.getLogger(JwtKeyManager.class);
+
+    private final JwtSigningKeyRepository jwtSigningKeyRepository;
+
+    private final SignatureAlgorithm algorithm;
+
+    private final Duration keyRotationPeriod;
+
+    private final Duration keyRefreshPeriod;
+
+    private final Duration keyRetentionPeriod;
+
+    private volatile KeyRing keyRing = KeyRing.EMPTY;
+
+    public JwtKeyManager(
+        ApplicationProperties applicationProperties,
+        JHipsterProperties jHipsterProperties,
+        JwtSigningKeyRepository jwtSigningKeyRepository
+    ) {
+        ApplicationProperties.Security.Jwt jwt = applicationProperties.getSecurity().getJwt();
+        this.algorithm = SignatureAlgorithm.forName(jwt.getAlgorithm());
+        if (algorithm.isHmac()) {
+            if (algorithm != SignatureAlgorithm.HS512) {
+                throw new IllegalArgumentException("Unsupported HMAC algorithm " + algorithm + ", only HS512 is supported");
+            }
+        } else if (algorithm != SignatureAlgorithm.RS256 && algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalArgumentException("Unsupported JWT algorithm " + algorithm + ", use HS512, RS256 or ES256");
+        }
+        this.jwtSigningKeyRepository = jwtSigningKeyRepository;
+        this.keyRotationPeriod = jwt.getKeyRotationPeriod();
+        this.keyRefreshPeriod = jwt.getKeyRefreshPeriod();
+        long maxTokenValidityInSeconds = Math.max(
+            Math.max(
+                jHipsterProperties.getSecurity().getAuthentication().getJwt().getTokenValidityInSeconds(),
+                jHipsterProperties.getSecurity().getAuthentication().getJwt().getTokenValidityInSecondsForRememberMe()
+            ),
+            applicationProperties.getSecurity().getRefreshToken().getTokenValidity().getSeconds()
+        );
+        // a key is used for signing one refresh period after its creation, and until the next key is: the next key is
+        // generated by the first refresh past the rotation period, up to one refresh period late, and used for signing
+        // one refresh period later; the tokens signed last must then still verify until they expire
+        this.keyRetentionPeriod = keyRotationPeriod.plus(keyRefreshPeriod.multipliedBy(2)).plusSeconds(maxTokenValidityInSeconds);
+    }
+
+    /**
+     * @return {@code true} if tokens are signed with a rotating asymmetric key, {@code false} for the shared secret.
+     */
+    public boolean isAsymmetric() {
+        return !algorithm.isHmac();
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * @return the key currently used to sign new tokens.
+     * @throws IllegalStateException if no asymmetric key is available.
+     */
+    public SigningKey getSigningKey() {
+        SigningKey signingKey = keyRing.signingKey;
+        if (signingKey == null) {
+            throw new IllegalStateException("No JWT signing key available for algorithm " + algorithm);
+        }
+        return signingKey;
+    }
+
+    /**
+     * Resolves the public key used to verify a token.
+     *
+     * @param kid the key id from the token header.
+     * @return the public key, or {@code null} if the key is unknown or has expired.
+     */
+    public PublicKey getVerificationKey(String kid) {
+        SigningKey signingKey = keyRing.keysById.get(kid);
+        return signingKey == null ? null : signingKey.getPublicKey();
+    }
+
+    /**
+     * @return the public keys of the key ring as a JSON Web Key Set (RFC 7517).
+     */
+    public Map<String, Object> getJwks() {
+        return keyRing.jwks;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (isAsymmetric()) {
+            refreshKeys();
+        }
+    }
+
+    /**
+     * Reloads the key ring from the database, generating a new key if the current one is due for rotation.
+     */
+    @Scheduled(
+        initialDelayString = "${application.security.jwt.key-refresh-period:PT1M}",
+        fixedDelayString = "${application.security.jwt.key-refresh-period:PT1M}"
+    )
+    public void refreshKeys() {
+        if (!isAsymmetric()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<JwtSigningKey> keys = jwtSigningKeyRepository.findAllByAlgorithmAndExpiryDateAfterOrderByCreatedDateDesc(
+            algorithm.getValue(),
+            now
+        );
+        if (keys.isEmpty() || keys.get(0).getCreatedDate().isBefore(now.minus(keyRotationPeriod))) {
+            JwtSigningKey newKey = jwtSigningKeyRepository.save(generateKey(now));
+            log.info("Generated new JWT signing key {}", newKey.getKid());
+            keys = new ArrayList<>(keys);
+            keys.add(0, newKey);
+            jwtSigningKeyRepository.deleteAllByExpiryDateBefore(now);
+        }
+        this.keyRing = buildKeyRing(keys, now);
+    }
+
+    private KeyRing buildKeyRing(List<JwtSigningKey> keys, Instant now) {
+        Map<String, SigningKey> keysById = new LinkedHashMap<>();
+        SigningKey signingKey = null;
+        Instant publishedBefore = now.minus(keyRefreshPeriod);
+        for (JwtSigningKey key : keys) {
+            SigningKey decoded = decode(key);
+            keysById.put(decoded.getKid(), decoded);
+            if (signingKey == null && !key.getCreatedDate().isAfter(publishedBefore)) {
+                signingKey = decoded;
+            }
+        }
+        if (signingKey == null && !keys.isEmpty()) {
+            // no key is old enough to be known by all instances, but the newest one is better than nothing
+            signingKey = keysById.values().iterator().next();
+        }
+        List<Map<String, Object>> jwkList = new ArrayList<>();
+        keysById.values().forEach(key -> jwkList.add(toJwk(key)));
+        return new KeyRing(keysById, signingKey, jwkList);
+    }
+
+    private JwtSigningKey generateKey(Instant now) {
+        KeyPair keyPair = Keys.keyPairFor(algorithm);
+        JwtSigningKey key = new JwtSigningKey();
+        key.setKid(new ObjectId().toHexString());
+        key.setAlgorithm(algorithm.getValue());
+        key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        key.setCreatedDate(now);
+        key.setExpiryDate(now.plus(keyRetentionPeriod));
+        return key;
+    }
+
+    private SigningKey decode(JwtSigningKey key) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(algorithm.getFamilyName().equals("RSA") ? "RSA" : "EC");
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey())));
+            PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(key.getPrivateKey())));
+            return new SigningKey(key.getKid(), publicKey, privateKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid JWT signing key " + key.getKid(), e);
+        }
+    }
+
+    private Map<String, Object> toJwk(SigningKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kid", key.getKid());
+        jwk.put("use", "sig");
+        jwk.put("alg", algorithm.getValue());
+        if (key.getPublicKey() instanceof RSAPublicKey) {
+            RSAPublicKey rsaKey = (RSAPublicKey) key.getPublicKey();
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(rsaKey.getModulus(), 0));
+            jwk.put("e", base64Url(rsaKey.getPublicExponent(), 0));
+        } else {
+            ECPublicKey ecKey = (ECPublicKey) key.getPublicKey();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("x", base64Url(ecKey.getW().getAffineX(), 32));
+            jwk.put("y", base64Url(ecKey.getW().getAffineY(), 32));
+        }
+        return jwk;
+    }
+
+    /**
+     * Encodes an unsigned big-endian integer as Base64url, left-padded to {@code length} bytes when non-zero.
+     */
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        if (bytes.length < length) {
+            byte[] padded = new byte[length];
+            System.arraycopy(bytes, 0, padded, length - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * A decoded key pair of the key ring.
+     */
+    public static final class SigningKey {
+
+        private final String kid;
+
+        private final PublicKey publicKey;
+
+        private final Key privateKey;
+
+        SigningKey(String kid, PublicKey publicKey, Key privateKey) {
+            this.kid = kid;
+            this.publicKey = publicKey;
+            this.privateKey = privateKey;
+        }
+
+        public String getKid() {
+            return kid;
+        }
+
+        public PublicKey getPublicKey() {
+            return publicKey;
+        }
+
+        public Key getPrivateKey() {
+            return privateKey;
+        }
+    }
+
+    /**
+     * Immutable snapshot of the key ring, swapped atomically on refresh.
+     */
+    private static final class KeyRing {
+
+        private static final KeyRing EMPTY = new KeyRing(Collections.emptyMap(), null, Collections.emptyList());
+
+        private final Map<String, SigningKey> keysById;
+
+        private final SigningKey signingKey;
+
+        private final Map<String, Object> jwks;
+
+        private KeyRing(Map<String, SigningKey> keysById, SigningKey signingKey, List<Map<String, Object>> jwkList) {
+            this.keysById = Collections.unmodifiableMap(keysById);
+            this.signingKey = signingKey;
+            this.jwks = Collections.singletonMap("keys", Collections.unmodifiableList(jwkList));
+        }
+    }
+}
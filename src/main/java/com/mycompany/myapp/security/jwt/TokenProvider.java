@@ -1,5 +1,6 @@
 package com.mycompany.myapp.security.jwt;
 
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.management.SecurityMetersService;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -9,6 +10,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.*;
 import java.util.stream.Collectors;
+import org.bson.types.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -27,6 +29,10 @@ public class TokenProvider {
 
     private static final String AUTHORITIES_KEY = "auth";
 
+    private static final String TOKEN_TYPE_KEY = "token_type";
+
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private static final String INVALID_JWT_TOKEN = "Invalid JWT token.";
 
     private final Key key;
@@ -37,9 +43,21 @@ public class TokenProvider {
 
     private final long tokenValidityInMillisecondsForRememberMe;
 
+    private final long refreshTokenValidityInMilliseconds;
+
     private final SecurityMetersService securityMetersService;
 
-    public TokenProvider(JHipsterProperties jHipsterProperties, SecurityMetersService securityMetersService) {
+    private final JwtKeyManager jwtKeyManager;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    public TokenProvider(
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        SecurityMetersService securityMetersService,
+        JwtKeyManager jwtKeyManager,
+        TokenRevocationService tokenRevocationService
+    ) {
         byte[] keyBytes;
         String secret = jHipsterProperties.getSecurity().getAuthentication().getJwt().getBase64Secret();
         if (!ObjectUtils.isEmpty(secret)) {
@@ -54,12 +72,15 @@ public class TokenProvider {
             keyBytes = secret.getBytes(StandardCharsets.UTF_8);
         }
         key = Keys.hmacShaKeyFor(keyBytes);
-        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        jwtParser = Jwts.parserBuilder().setSigningKeyResolver(new KeyIdSigningKeyResolver()).build();
         this.tokenValidityInMilliseconds = 1000 * jHipsterProperties.getSecurity().getAuthentication().getJwt().getTokenValidityInSeconds();
         this.tokenValidityInMillisecondsForRememberMe =
             1000 * jHipsterProperties.getSecurity().getAuthentication().getJwt().getTokenValidityInSecondsForRememberMe();
+        this.refreshTokenValidityInMilliseconds = applicationProperties.getSecurity().getRefreshToken().getTokenValidity().toMillis();
 
         this.securityMetersService = securityMetersService;
+        this.jwtKeyManager = jwtKeyManager;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     public String createToken(Authentication authentication, boolean rememberMe) {
@@ -73,18 +94,69 @@ public class TokenProvider {
             validity = new Date(now + this.tokenValidityInMilliseconds);
         }
 
-        return Jwts
-            .builder()
-            .setSubject(authentication.getName())
-            .claim(AUTHORITIES_KEY, authorities)
-            .signWith(key, SignatureAlgorithm.HS512)
-            .setExpiration(validity)
-            .compact();
+        return sign(
+            Jwts.builder().setId(new ObjectId().toHexString()).setSubject(authentication.getName()).claim(AUTHORITIES_KEY, authorities),
+            validity
+        );
+    }
+
+    /**
+     * Creates a refresh token, which can only be exchanged for new tokens and is not accepted to authenticate requests.
+     *
+     * @param authentication the authentication to carry.
+     * @param rememberMe whether the refresh token uses the "remember me" validity.
+     * @return the refresh token.
+     */
+    public String createRefreshToken(Authentication authentication, boolean rememberMe) {
+        long now = (new Date()).getTime();
+        Date validity;
+        if (rememberMe) {
+            validity = new Date(now + this.tokenValidityInMillisecondsForRememberMe);
+        } else {
+            validity = new Date(now + this.refreshTokenValidityInMilliseconds);
+        }
+        return createRefreshToken(authentication, validity);
+    }
+
+    /**
+     * Creates a refresh token expiring at a given date, used to rotate a refresh token without extending its lifetime.
+     *
+     * @param authentication the authentication to carry.
+     * @param validity the expiration date.
+     * @return the refresh token.
+     */
+    public String createRefreshToken(Authentication authentication, Date validity) {
+        String authorities = authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.joining(","));
+
+        return sign(
+            Jwts
+                .builder()
+                .setId(new ObjectId().toHexString())
+                .setSubject(authentication.getName())
+                .claim(AUTHORITIES_KEY, authorities)
+                .claim(TOKEN_TYPE_KEY, REFRESH_TOKEN_TYPE),
+            validity
+        );
+    }
+
+    private String sign(JwtBuilder builder, Date validity) {
+        builder.setExpiration(validity);
+        if (jwtKeyManager.isAsymmetric()) {
+            JwtKeyManager.SigningKey signingKey = jwtKeyManager.getSigningKey();
+            builder
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
+                .signWith(signingKey.getPrivateKey(), jwtKeyManager.getAlgorithm());
+        } else {
+            builder.signWith(key, SignatureAlgorithm.HS512);
+        }
+        return builder.compact();
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        return getAuthentication(jwtParser.parseClaimsJws(token).getBody(), token);
+    }
 
+    public Authentication getAuthentication(Claims claims, String token) {
         Collection<? extends GrantedAuthority> authorities = Arrays
             .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
             .filter(auth -> !auth.trim().isEmpty())
@@ -98,8 +170,20 @@ public class TokenProvider {
 
     public boolean validateToken(String authToken) {
         try {
-            jwtParser.parseClaimsJws(authToken);
+            Claims claims = jwtParser.parseClaimsJws(authToken).getBody();
+
+            if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_KEY))) {
+                this.securityMetersService.trackTokenUnsupported();
+
+                log.trace("Refresh token used as access token");
+                return false;
+            }
+            if (claims.getId() != null && tokenRevocationService.isRevoked(claims.getId())) {
+                this.securityMetersService.trackTokenRevoked();
 
+                log.trace("Revoked JWT token {}", claims.getId());
+                return false;
+            }
             return true;
         } catch (ExpiredJwtException e) {
             this.securityMetersService.trackTokenExpired();
@@ -123,4 +207,69 @@ public class TokenProvider {
 
         return false;
     }
+
+    /**
+     * Parses a refresh token, checking its signature, expiration, type and revocation.
+     *
+     * @param refreshToken the refresh token.
+     * @return the claims of the refresh token, or empty if it cannot be used.
+     */
+    public Optional<Claims> parseRefreshToken(String refreshToken) {
+        Claims claims = parseClaims(refreshToken);
+        if (claims == null) {
+            return Optional.empty();
+        }
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_KEY)) || claims.getId() == null) {
+            this.securityMetersService.trackTokenUnsupported();
+            return Optional.empty();
+        }
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            this.securityMetersService.trackTokenRevoked();
+            return Optional.empty();
+        }
+        return Optional.of(claims);
+    }
+
+    /**
+     * Revokes a token so that it is no longer accepted, whatever its type.
+     *
+     * @param token the token to revoke.
+     * @return {@code true} if the token was revoked by this call, {@code false} if it was invalid or already revoked.
+     */
+    public boolean revokeToken(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null || claims.getId() == null) {
+            return false;
+        }
+        return tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant());
+    }
+
+    private Claims parseClaims(String token) {
+        try {
+            return jwtParser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.trace(INVALID_JWT_TOKEN, e);
+            return null;
+        }
+    }
+
+    /**
+     * Verifies tokens carrying a {@code kid} header with the matching public key of the key ring, and tokens without
+     * one with the shared secret, so that tokens issued before switching algorithm stay valid until they expire.
+     */
+    private class KeyIdSigningKeyResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String kid = header.getKeyId();
+            if (kid == null) {
+                return key;
+            }
+            Key verificationKey = jwtKeyManager.getVerificationKey(kid);
+            if (verificationKey == null) {
+                throw new SignatureException("Unknown JWT signing key " + kid);
+            }
+            return verificationKey;
+        }
+    }
 }
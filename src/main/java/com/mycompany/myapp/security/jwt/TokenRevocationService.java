@@ -0,0 +1,112 @@
+package com.mycompany.myapp.security.jwt;
+
+import com.mycompany.myapp.domain.RevokedToken;
+import com.mycompany.myapp.repository.RevokedTokenRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+import javax.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps track of revoked JWT token ids.
+ * <p>
+ * Revocations are stored in the database and mirrored in an in-memory Bloom filter, so that checking a token on
+ * every request costs a few bit lookups and only hits the database for revoked tokens and rare false positives.
+ * The filter is synchronized incrementally with revocations made by other instances, and rebuilt from scratch
+ * periodically to forget expired entries.
+ */
+@Component
+public class TokenRevocationService {
+
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private static final int MIN_EXPECTED_REVOCATIONS = 10_000;
+
+    private static final Duration FULL_REBUILD_PERIOD = Duration.ofHours(1);
+
+    /**
+     * Overlap of incremental synchronizations, covering clock skew between instances.
+     */
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
+
+    private final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private volatile BloomFilter filter = BloomFilter.create(MIN_EXPECTED_REVOCATIONS, FALSE_POSITIVE_PROBABILITY);
+
+    private Instant lastSync = Instant.EPOCH;
+
+    private Instant lastFullRebuild = Instant.EPOCH;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository) {
+        this.revokedTokenRepository = revokedTokenRepository;
+    }
+
+    /**
+     * Revokes a token.
+     *
+     * @param jti the token id.
+     * @param expiryDate the token expiration date, after which the revocation can be forgotten.
+     * @return {@code true} if the token was revoked by this call, {@code false} if it already was.
+     */
+    public boolean revoke(String jti, Instant expiryDate) {
+        try {
+            revokedTokenRepository.insert(new RevokedToken(jti, Instant.now(), expiryDate));
+        } catch (DuplicateKeyException e) {
+            return false;
+        } finally {
+            filter.put(jti);
+        }
+        return true;
+    }
+
+    /**
+     * @param jti the token id.
+     * @return {@code true} if the token was revoked.
+     */
+    public boolean isRevoked(String jti) {
+        return filter.mightContain(jti) && revokedTokenRepository.existsById(jti);
+    }
+
+    @PostConstruct
+    public void init() {
+        rebuild(Instant.now());
+    }
+
+    @Scheduled(
+        initialDelayString = "${application.security.refresh-token.revocation-sync-period:PT10S}",
+        fixedDelayString = "${application.security.refresh-token.revocation-sync-period:PT10S}"
+    )
+    public synchronized void synchronize() {
+        Instant now = Instant.now();
+        if (filter.isSaturated() || lastFullRebuild.isBefore(now.minus(FULL_REBUILD_PERIOD))) {
+            rebuild(now);
+            return;
+        }
+        BloomFilter current = filter;
+        try (Stream<RevokedToken> revokedTokens = revokedTokenRepository.findAllByRevokedDateAfter(lastSync.minus(SYNC_OVERLAP))) {
+            revokedTokens.forEach(revokedToken -> current.put(revokedToken.getJti()));
+        }
+        lastSync = now;
+    }
+
+    private synchronized void rebuild(Instant now) {
+        long count = revokedTokenRepository.countByExpiryDateAfter(now);
+        int expectedRevocations = (int) Math.min(Integer.MAX_VALUE / 2, Math.max(MIN_EXPECTED_REVOCATIONS, count * 2));
+        BloomFilter rebuilt = BloomFilter.create(expectedRevocations, FALSE_POSITIVE_PROBABILITY);
+        try (Stream<RevokedToken> revokedTokens = revokedTokenRepository.findAllByExpiryDateAfter(now)) {
+            revokedTokens.forEach(revokedToken -> rebuilt.put(revokedToken.getJti()));
+        }
+        // revocations made locally while rebuilding are caught up by the next incremental synchronization
+        filter = rebuilt;
+        lastSync = now;
+        lastFullRebuild = now;
+        log.debug("Rebuilt token revocation filter with {} entries", count);
+    }
+}
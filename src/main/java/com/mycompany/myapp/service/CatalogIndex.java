@@ -0,0 +1,312 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.service.dto.CatalogHitDTO;
+import com.mycompany.myapp.service.dto.CatalogQueryResultDTO;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * In-memory inverted index of the items, from the words of their names to sorted arrays of item numbers, with the
+ * category and the price bucket of each item counted as facets while the hits are collected.
+ * <p>
+ * Items are numbered densely, and the numbers of removed items reused, so that the postings and the per-item arrays
+ * stay compact. Queries share a read lock, updates take the write lock.
+ */
+class CatalogIndex {
+
+    private static final int NONE = -1;
+
+    private static final int UNKNOWN = -2;
+
+    private final BigDecimal[] bucketBounds;
+
+    private final String[] bucketLabels;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> docs = new HashMap<>();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    private final List<String> categoryIds = new ArrayList<>();
+
+    private final Map<String, Integer> categoryOrdinals = new HashMap<>();
+
+    private String[] ids = new String[64];
+
+    private String[] names = new String[64];
+
+    private String[] prices = new String[64];
+
+    private int[] categories = new int[64];
+
+    private int[] buckets = new int[64];
+
+    private int[] freeDocs = new int[16];
+
+    private int freeCount;
+
+    private int maxDoc;
+
+    /**
+     * @param bucketBounds the ascending prices separating the price buckets.
+     */
+    CatalogIndex(List<BigDecimal> bucketBounds) {
+        this.bucketBounds = bucketBounds.toArray(new BigDecimal[0]);
+        this.bucketLabels = new String[this.bucketBounds.length + 1];
+        for (int i = 0; i < bucketLabels.length; i++) {
+            String from = i == 0 ? "*" : this.bucketBounds[i - 1].toPlainString();
+            String to = i == this.bucketBounds.length ? "*" : this.bucketBounds[i].toPlainString();
+            bucketLabels[i] = from + "-" + to;
+        }
+    }
+
+    /**
+     * Index an item, replacing its previous version.
+     */
+    void put(String id, String name, String price, String categoryId) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(id);
+            int doc = allocate();
+            docs.put(id, doc);
+            ids[doc] = id;
+            names[doc] = name;
+            prices[doc] = price;
+            categories[doc] = categoryId != null ? categoryOrdinals.computeIfAbsent(categoryId, this::newCategory) : NONE;
+            buckets[doc] = bucket(price);
+            for (String token : tokens(name)) {
+                postings.computeIfAbsent(token, key -> new Postings()).add(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeDoc(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find the items containing all the words of a text, in the requested category and price bucket, and count the
+     * facets of the items found, in one pass over them.
+     *
+     * @param text the words to find, all the items if blank.
+     * @param categoryId the category of the hits, any if {@code null}.
+     * @param priceBucket the price bucket of the hits, any if {@code null}.
+     * @param offset the number of hits to skip.
+     * @param limit the number of hits to return at most.
+     * @return the hits and the facet counts.
+     */
+    CatalogQueryResultDTO query(String text, String categoryId, String priceBucket, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int category = categoryId == null ? NONE : categoryOrdinals.getOrDefault(categoryId, UNKNOWN);
+            int bucket = priceBucket == null ? NONE : Arrays.asList(bucketLabels).indexOf(priceBucket);
+            if (priceBucket != null && bucket < 0) {
+                bucket = UNKNOWN;
+            }
+            int[] categoryCounts = new int[categoryIds.size()];
+            int[] bucketCounts = new int[bucketLabels.length];
+            List<CatalogHitDTO> hits = new ArrayList<>();
+            int total = 0;
+            for (int doc : match(tokens(text))) {
+                boolean inCategory = category == NONE || categories[doc] == category;
+                boolean inBucket = bucket == NONE || buckets[doc] == bucket;
+                if (inBucket && categories[doc] != NONE) {
+                    categoryCounts[categories[doc]]++;
+                }
+                if (inCategory && buckets[doc] != NONE) {
+                    bucketCounts[buckets[doc]]++;
+                }
+                if (inCategory && inBucket) {
+                    if (total >= offset && hits.size() < limit) {
+                        hits.add(new CatalogHitDTO(ids[doc], names[doc], prices[doc], category(doc)));
+                    }
+                    total++;
+                }
+            }
+            return new CatalogQueryResultDTO(total, hits, categoryFacet(categoryCounts), bucketFacet(bucketCounts));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int[] match(Set<String> tokens) {
+        if (tokens.isEmpty()) {
+            return IntStream.range(0, maxDoc).filter(doc -> ids[doc] != null).toArray();
+        }
+        List<Postings> lists = new ArrayList<>();
+        for (String token : tokens) {
+            Postings list = postings.get(token);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        Postings smallest = lists.get(0);
+        int[] matches = new int[smallest.size];
+        int count = 0;
+        for (int i = 0; i < smallest.size; i++) {
+            int doc = smallest.docs[i];
+            boolean all = true;
+            for (int j = 1; j < lists.size() && all; j++) {
+                all = lists.get(j).contains(doc);
+            }
+            if (all) {
+                matches[count++] = doc;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private Map<String, Integer> categoryFacet(int[] counts) {
+        Map<String, Integer> facet = new LinkedHashMap<>();
+        Integer[] ordinals = new Integer[counts.length];
+        Arrays.setAll(ordinals, i -> i);
+        Arrays.sort(ordinals, Comparator.comparingInt((Integer i) -> counts[i]).reversed());
+        for (int ordinal : ordinals) {
+            if (counts[ordinal] > 0) {
+                facet.put(categoryIds.get(ordinal), counts[ordinal]);
+            }
+        }
+        return facet;
+    }
+
+    private Map<String, Integer> bucketFacet(int[] counts) {
+        Map<String, Integer> facet = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            facet.put(bucketLabels[i], counts[i]);
+        }
+        return facet;
+    }
+
+    private void removeDoc(String id) {
+        Integer doc = docs.remove(id);
+        if (doc == null) {
+            return;
+        }
+        for (String token : tokens(names[doc])) {
+            Postings list = postings.get(token);
+            list.remove(doc);
+            if (list.size == 0) {
+                postings.remove(token);
+            }
+        }
+        ids[doc] = null;
+        names[doc] = null;
+        prices[doc] = null;
+        if (freeCount == freeDocs.length) {
+            freeDocs = Arrays.copyOf(freeDocs, freeCount * 2);
+        }
+        freeDocs[freeCount++] = doc;
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return freeDocs[--freeCount];
+        }
+        if (maxDoc == ids.length) {
+            int length = ids.length * 2;
+            ids = Arrays.copyOf(ids, length);
+            names = Arrays.copyOf(names, length);
+            prices = Arrays.copyOf(prices, length);
+            categories = Arrays.copyOf(categories, length);
+            buckets = Arrays.copyOf(buckets, length);
+        }
+        return maxDoc++;
+    }
+
+    private int newCategory(String categoryId) {
+        categoryIds.add(categoryId);
+        return categoryIds.size() - 1;
+    }
+
+    private String category(int doc) {
+        return categories[doc] == NONE ? null : categoryIds.get(categories[doc]);
+    }
+
+    private int bucket(String price) {
+        if (price == null) {
+            return NONE;
+        }
+        BigDecimal value;
+        try {
+            value = new BigDecimal(price.trim());
+        } catch (NumberFormatException e) {
+            return NONE;
+        }
+        int bucket = 0;
+        while (bucket < bucketBounds.length && value.compareTo(bucketBounds[bucket]) >= 0) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static Set<String> tokens(String text) {
+        String normalized = PrefixIndex.normalize(text);
+        return normalized.isEmpty() ? Set.of() : new LinkedHashSet<>(Arrays.asList(normalized.split(" ")));
+    }
+
+    /**
+     * The ascending numbers of the items containing a word.
+     */
+    private static class Postings {
+
+        private int[] docs = new int[4];
+
+        private int size;
+
+        void add(int doc) {
+            int index = Arrays.binarySearch(docs, 0, size, doc);
+            if (index >= 0) {
+                return;
+            }
+            int insertion = -index - 1;
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            System.arraycopy(docs, insertion, docs, insertion + 1, size - insertion);
+            docs[insertion] = doc;
+            size++;
+        }
+
+        void remove(int doc) {
+            int index = Arrays.binarySearch(docs, 0, size, doc);
+            if (index >= 0) {
+                System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+                size--;
+            }
+        }
+
+        boolean contains(int doc) {
+            return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+        }
+    }
+}
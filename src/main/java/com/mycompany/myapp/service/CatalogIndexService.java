@@ -0,0 +1,110 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.service.dto.CatalogQueryResultDTO;
+import com.mycompany.myapp.service.dto.EntityChangeDTO;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service browsing the items from the in-memory {@link CatalogIndex}, built at startup and then kept up to date from
+ * the changes published by {@link EntityChangeStreamService}, which include the writes of {@link ItemService}.
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.catalog-index", name = "enabled", havingValue = "true")
+public class CatalogIndexService {
+
+    private final Logger log = LoggerFactory.getLogger(CatalogIndexService.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final EntityChangeStreamService entityChangeStreamService;
+
+    private final ApplicationProperties.CatalogIndex properties;
+
+    private final CatalogIndex index;
+
+    /**
+     * The ids changed while the index is built, whose loaded versions may be outdated.
+     */
+    private final Set<String> changedWhileLoading = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean loading;
+
+    public CatalogIndexService(
+        MongoTemplate mongoTemplate,
+        EntityChangeStreamService entityChangeStreamService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.entityChangeStreamService = entityChangeStreamService;
+        this.properties = applicationProperties.getCatalogIndex();
+        this.index = new CatalogIndex(properties.getPriceBuckets());
+    }
+
+    @PostConstruct
+    public void init() {
+        loading = true;
+        // before loading, so that the changes made meanwhile are not missed
+        entityChangeStreamService.subscribe(this::changed);
+        Query items = new Query();
+        items.fields().include("name").include("price").include("category");
+        for (Item item : mongoTemplate.find(items, Item.class)) {
+            if (!changedWhileLoading.contains(item.getId())) {
+                put(item);
+            }
+        }
+        loading = false;
+        changedWhileLoading.clear();
+        log.debug("Indexed {} items", index.size());
+    }
+
+    /**
+     * Find the items by the words of their names, their category and their price bucket, with the facet counts.
+     *
+     * @param text the words the names contain, all the items if blank.
+     * @param categoryId the category of the items, any if {@code null}.
+     * @param priceBucket the price bucket of the items, such as {@code 10-50}, {@code *-10} or {@code 500-*}, any if
+     * {@code null}.
+     * @param page the number of the page of hits, from 0.
+     * @param size the number of hits by page, at least 1, capped by {@code application.catalog-index.max-hits}.
+     * @return the page of hits and the facet counts of the query.
+     */
+    public CatalogQueryResultDTO query(String text, String categoryId, String priceBucket, int page, int size) {
+        log.debug("Request to query the catalog : {}, category {}, price {}", text, categoryId, priceBucket);
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Invalid page " + page + " of size " + size);
+        }
+        int limit = Math.min(size, properties.getMaxHits());
+        // pages past the end are empty, rather than wrapped around to a negative offset
+        int offset = (int) Math.min((long) page * limit, Integer.MAX_VALUE);
+        return index.query(text, categoryId, priceBucket, offset, limit);
+    }
+
+    private void changed(EntityChangeDTO change) {
+        if (!ChangeEvent.ITEM.equals(change.getEntityType())) {
+            return;
+        }
+        if (loading) {
+            changedWhileLoading.add(change.getId());
+        }
+        if (change.getType() == ChangeEvent.Type.DELETED) {
+            index.remove(change.getId());
+        } else if (change.getEntity() instanceof Item) {
+            put((Item) change.getEntity());
+        }
+    }
+
+    private void put(Item item) {
+        index.put(item.getId(), item.getName(), item.getPrice(), item.getCategory() != null ? item.getCategory().getId() : null);
+    }
+}
@@ -0,0 +1,159 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.service.dto.CategoryStatsDTO;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.PostConstruct;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service computing the item statistics of the categories with MongoDB aggregation pipelines.
+ * <p>
+ * Statistics are cached for {@code application.catalog-stats.cache-ttl}, and evicted as soon as an item or a category
+ * changes, as published by {@link EntityChangeStreamService}.
+ */
+@Service
+public class CatalogStatsService {
+
+    public static final String CATEGORY_STATS_CACHE = "categoryStats";
+
+    private static final String ITEM_COLLECTION = "item";
+
+    private static final String CATEGORY_ID = "category._id";
+
+    private static final String CREATED_DATE = "$create_info.created_date";
+
+    /**
+     * The price of an item, stored as a string, as a number; {@code null} if it is not one, ignored by the accumulators.
+     */
+    private static final Document PRICE = new Document(
+        "$convert",
+        new Document("input", "$price").append("to", "double").append("onError", null).append("onNull", null)
+    );
+
+    private final Logger log = LoggerFactory.getLogger(CatalogStatsService.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final EntityChangeStreamService entityChangeStreamService;
+
+    private final CacheManager cacheManager;
+
+    private final ApplicationProperties.CatalogStats properties;
+
+    public CatalogStatsService(
+        MongoTemplate mongoTemplate,
+        EntityChangeStreamService entityChangeStreamService,
+        CacheManager cacheManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.entityChangeStreamService = entityChangeStreamService;
+        this.cacheManager = cacheManager;
+        this.properties = applicationProperties.getCatalogStats();
+    }
+
+    @PostConstruct
+    public void init() {
+        entityChangeStreamService.subscribe(change -> Objects.requireNonNull(cacheManager.getCache(CATEGORY_STATS_CACHE)).clear());
+    }
+
+    /**
+     * Get the statistics of all the categories, including the ones without items.
+     *
+     * @return the statistics, by category name.
+     */
+    @Cacheable(cacheNames = CATEGORY_STATS_CACHE, key = "'all'")
+    public List<CategoryStatsDTO> findAll() {
+        log.debug("Request to get the statistics of all Categories");
+        Map<String, CategoryStatsDTO> stats = aggregate(Criteria.where(CATEGORY_ID).exists(true));
+        Query categories = new Query().with(Sort.by("name"));
+        categories.fields().include("name");
+        List<CategoryStatsDTO> all = new ArrayList<>();
+        for (Category category : mongoTemplate.find(categories, Category.class)) {
+            all.add(withName(stats.get(category.getId()), category));
+        }
+        return all;
+    }
+
+    /**
+     * Get the statistics of a category.
+     *
+     * @param id the id of the category.
+     * @return the statistics, empty if there is no such category.
+     */
+    @Cacheable(cacheNames = CATEGORY_STATS_CACHE, key = "#id")
+    public Optional<CategoryStatsDTO> findOne(String id) {
+        log.debug("Request to get the statistics of Category : {}", id);
+        Query query = Query.query(Criteria.where("_id").is(id));
+        query.fields().include("name");
+        Category category = mongoTemplate.findOne(query, Category.class);
+        if (category == null) {
+            return Optional.empty();
+        }
+        Object categoryId = ObjectId.isValid(id) ? new ObjectId(id) : id;
+        return Optional.of(withName(aggregate(Criteria.where(CATEGORY_ID).is(categoryId)).get(id), category));
+    }
+
+    private Map<String, CategoryStatsDTO> aggregate(Criteria items) {
+        Date recent = Date.from(Instant.now().minus(properties.getRecentWindow()));
+        Document isRecent = new Document("$cond", List.of(new Document("$gte", List.of(CREATED_DATE, recent)), 1, 0));
+        Document group = new Document("_id", "$" + CATEGORY_ID)
+            .append("itemCount", new Document("$sum", 1))
+            .append("minPrice", new Document("$min", PRICE))
+            .append("maxPrice", new Document("$max", PRICE))
+            .append("avgPrice", new Document("$avg", PRICE))
+            .append("recentItemCount", new Document("$sum", isRecent))
+            .append("lastAddedDate", new Document("$max", CREATED_DATE));
+        Aggregation aggregation = Aggregation.newAggregation(Aggregation.match(items), stage("$group", group));
+        Map<String, CategoryStatsDTO> stats = new HashMap<>();
+        for (Document result : mongoTemplate.aggregate(aggregation, ITEM_COLLECTION, Document.class)) {
+            Object id = result.get("_id");
+            String categoryId = id instanceof ObjectId ? ((ObjectId) id).toHexString() : String.valueOf(id);
+            CategoryStatsDTO categoryStats = new CategoryStatsDTO(categoryId, null);
+            categoryStats.setItemCount(result.get("itemCount", Number.class).longValue());
+            categoryStats.setMinPrice(toDouble(result.get("minPrice")));
+            categoryStats.setMaxPrice(toDouble(result.get("maxPrice")));
+            categoryStats.setAvgPrice(toDouble(result.get("avgPrice")));
+            categoryStats.setRecentItemCount(result.get("recentItemCount", Number.class).longValue());
+            Date lastAddedDate = result.get("lastAddedDate", Date.class);
+            categoryStats.setLastAddedDate(lastAddedDate != null ? lastAddedDate.toInstant() : null);
+            stats.put(categoryId, categoryStats);
+        }
+        return stats;
+    }
+
+    private static CategoryStatsDTO withName(CategoryStatsDTO stats, Category category) {
+        CategoryStatsDTO categoryStats = stats != null ? stats : new CategoryStatsDTO(category.getId(), null);
+        categoryStats.setName(category.getName());
+        return categoryStats;
+    }
+
+    private static Double toDouble(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    private static AggregationOperation stage(String operator, Document body) {
+        return context -> new Document(operator, body);
+    }
+}
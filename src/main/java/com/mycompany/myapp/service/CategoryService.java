@@ -1,6 +1,7 @@
 package com.mycompany.myapp.service;
 
 import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.ChangeEvent;
 import com.mycompany.myapp.repository.CategoryRepository;
 import java.util.List;
 import java.util.Optional;
@@ -18,8 +19,18 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    private final ChangeEventService changeEventService;
+
+    private final EntityInfoService entityInfoService;
+
+    public CategoryService(
+        CategoryRepository categoryRepository,
+        ChangeEventService changeEventService,
+        EntityInfoService entityInfoService
+    ) {
         this.categoryRepository = categoryRepository;
+        this.changeEventService = changeEventService;
+        this.entityInfoService = entityInfoService;
     }
 
     /**
@@ -30,7 +41,11 @@ public class CategoryService {
      */
     public Category save(Category category) {
         log.debug("Request to save Category : {}", category);
-        return categoryRepository.save(category);
+        category.setCreateInfo(entityInfoService.currentCreateInfo());
+        category.setUpdateInfo(entityInfoService.currentUpdateInfo());
+        Category result = categoryRepository.save(category);
+        changeEventService.categoryChanged(result.getId(), ChangeEvent.Type.CREATED);
+        return result;
     }
 
     /**
@@ -41,7 +56,10 @@ public class CategoryService {
      */
     public Category update(Category category) {
         log.debug("Request to save Category : {}", category);
-        return categoryRepository.save(category);
+        category.setUpdateInfo(entityInfoService.currentUpdateInfo());
+        Category result = categoryRepository.save(category);
+        changeEventService.categoryChanged(result.getId(), ChangeEvent.Type.UPDATED);
+        return result;
     }
 
     /**
@@ -65,7 +83,7 @@ public class CategoryService {
 
                 return existingCategory;
             })
-            .map(categoryRepository::save);
+            .map(this::update);
     }
 
     /**
@@ -97,5 +115,6 @@ public class CategoryService {
     public void delete(String id) {
         log.debug("Request to delete Category : {}", id);
         categoryRepository.deleteById(id);
+        changeEventService.categoryChanged(id, ChangeEvent.Type.DELETED);
     }
 }
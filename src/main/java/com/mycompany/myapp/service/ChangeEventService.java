@@ -0,0 +1,318 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.domain.Tombstone;
+import com.mycompany.myapp.repository.ChangeEventRepository;
+import com.mycompany.myapp.repository.TombstoneRepository;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import javax.annotation.PostConstruct;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service recording the changes of items and categories to the change outbox, and dispatching them to the change feed.
+ * Deletions also leave a {@link Tombstone}, for the consumers syncing the changes since a date.
+ * <p>
+ * Changes are numbered from a counter shared by the instances. A number is taken just before the change is saved, so
+ * changes are read in order up to the first missing number, which is only skipped once it is older than the gap
+ * timeout. The dispatcher reads the outbox when this instance records a change, and polls it for the changes of the
+ * others.
+ * <p>
+ * The dispatcher only queues the changes: each subscriber is called by a task of its own, so that a slow one does not
+ * hold back the others. A subscriber falling too far behind has its queue dropped, and reads the changes it missed
+ * from the outbox once it catches up.
+ */
+@Service
+public class ChangeEventService {
+
+    private static final String SEQUENCE_COLLECTION = "jhi_sequence";
+
+    private static final String SEQUENCE_ID = "change_event";
+
+    private final Logger log = LoggerFactory.getLogger(ChangeEventService.class);
+
+    private final ChangeEventRepository changeEventRepository;
+
+    private final TombstoneRepository tombstoneRepository;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ApplicationProperties.ChangeFeed properties;
+
+    private final Executor taskExecutor;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+    private final AtomicBoolean dispatchRequested = new AtomicBoolean();
+
+    private long lastDispatched;
+
+    public ChangeEventService(
+        ChangeEventRepository changeEventRepository,
+        TombstoneRepository tombstoneRepository,
+        MongoTemplate mongoTemplate,
+        ApplicationProperties applicationProperties,
+        @Qualifier("taskExecutor") Executor taskExecutor
+    ) {
+        this.changeEventRepository = changeEventRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.properties = applicationProperties.getChangeFeed();
+        this.taskExecutor = taskExecutor;
+    }
+
+    @PostConstruct
+    public synchronized void init() {
+        lastDispatched = changeEventRepository.findFirstByOrderBySequenceDesc().map(ChangeEvent::getSequence).orElse(0L);
+    }
+
+    /**
+     * Record a change of an item.
+     *
+     * @param id the id of the item.
+     * @param type the type of the change.
+     */
+    public void itemChanged(String id, ChangeEvent.Type type) {
+        record(ChangeEvent.ITEM, id, type);
+    }
+
+    /**
+     * Record a change of a category.
+     *
+     * @param id the id of the category.
+     * @param type the type of the change.
+     */
+    public void categoryChanged(String id, ChangeEvent.Type type) {
+        record(ChangeEvent.CATEGORY, id, type);
+    }
+
+    /**
+     * Get the changes following a sequence number, in order, at most {@code application.change-feed.page-size} of them.
+     *
+     * @param since the sequence number of the last change already read, 0 to read them from the start.
+     * @return the changes.
+     */
+    public List<ChangeEvent> findSince(long since) {
+        List<ChangeEvent> events = changeEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(
+            since,
+            PageRequest.of(0, properties.getPageSize())
+        );
+        Instant settled = Instant.now().minus(properties.getGapTimeout());
+        long expected = since + 1;
+        for (int i = 0; i < events.size(); i++) {
+            ChangeEvent event = events.get(i);
+            if (event.getSequence() != expected && event.getCreatedDate().isAfter(settled)) {
+                // the missing changes may still be in the process of being saved
+                return events.subList(0, i);
+            }
+            expected = event.getSequence() + 1;
+        }
+        return events;
+    }
+
+    /**
+     * Listen to the changes dispatched from now on, in order, each once.
+     *
+     * @param listener the listener of the changes, called by one task at a time.
+     * @return the callback removing the listener.
+     */
+    public synchronized Runnable subscribe(Consumer<List<ChangeEvent>> listener) {
+        return subscribe(lastDispatched, listener);
+    }
+
+    /**
+     * Listen to the changes following a sequence number, in order, each once: the changes already dispatched are read
+     * from the outbox first.
+     *
+     * @param since the sequence number of the last change already read, 0 to read them from the start.
+     * @param listener the listener of the changes, called by one task at a time.
+     * @return the callback removing the listener.
+     */
+    public synchronized Runnable subscribe(long since, Consumer<List<ChangeEvent>> listener) {
+        Subscriber subscriber = new Subscriber(since, listener);
+        subscribers.add(subscriber);
+        if (since < lastDispatched) {
+            subscriber.offer(new Batch(lastDispatched, List.of()));
+        }
+        return () -> {
+            subscriber.cancelled = true;
+            subscribers.remove(subscriber);
+        };
+    }
+
+    /**
+     * Dispatch the changes recorded since the last dispatch.
+     */
+    @Scheduled(
+        initialDelayString = "${application.change-feed.poll-period:PT1S}",
+        fixedDelayString = "${application.change-feed.poll-period:PT1S}"
+    )
+    public synchronized void dispatch() {
+        long since = lastDispatched;
+        List<ChangeEvent> events = findSince(since);
+        while (!events.isEmpty()) {
+            lastDispatched = events.get(events.size() - 1).getSequence();
+            Batch batch = new Batch(since, events);
+            subscribers.forEach(subscriber -> subscriber.offer(batch));
+            since = lastDispatched;
+            events = events.size() == properties.getPageSize() ? findSince(since) : List.of();
+        }
+    }
+
+    private void record(String entityType, String entityId, ChangeEvent.Type type) {
+        ChangeEvent event = new ChangeEvent(nextSequence(), entityType, entityId, type, Instant.now());
+        log.debug("Request to save ChangeEvent : {}", event);
+        changeEventRepository.insert(event);
+        if (type == ChangeEvent.Type.DELETED) {
+            tombstoneRepository.save(new Tombstone(entityType, entityId, event.getCreatedDate()));
+        } else if (type == ChangeEvent.Type.CREATED) {
+            // the id may be reused by an upsert
+            tombstoneRepository.deleteById(Tombstone.id(entityType, entityId));
+        }
+        requestDispatch();
+    }
+
+    private void requestDispatch() {
+        // a dispatch requested but not started yet also reads this change
+        if (!dispatchRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskExecutor.execute(() -> {
+                dispatchRequested.set(false);
+                dispatch();
+            });
+        } catch (TaskRejectedException e) {
+            dispatchRequested.set(false);
+            log.debug("Change dispatch rejected, left to the next poll");
+        }
+    }
+
+    private long nextSequence() {
+        Document sequence = mongoTemplate.findAndModify(
+            Query.query(Criteria.where("_id").is(SEQUENCE_ID)),
+            new Update().inc("value", 1L),
+            FindAndModifyOptions.options().upsert(true).returnNew(true),
+            Document.class,
+            SEQUENCE_COLLECTION
+        );
+        return sequence.get("value", Number.class).longValue();
+    }
+
+    /**
+     * Changes dispatched together: all the changes following a sequence number, up to the last one.
+     */
+    private static class Batch {
+
+        private final long since;
+
+        private final List<ChangeEvent> events;
+
+        Batch(long since, List<ChangeEvent> events) {
+            this.since = since;
+            this.events = events;
+        }
+    }
+
+    /**
+     * Delivers the dispatched changes to a listener, from a bounded queue drained by one task at a time.
+     */
+    private class Subscriber {
+
+        private final Consumer<List<ChangeEvent>> listener;
+
+        private final Queue<Batch> batches = new ArrayDeque<>();
+
+        private boolean delivering;
+
+        private volatile boolean cancelled;
+
+        private long lastDelivered;
+
+        Subscriber(long since, Consumer<List<ChangeEvent>> listener) {
+            this.lastDelivered = since;
+            this.listener = listener;
+        }
+
+        void offer(Batch batch) {
+            synchronized (this) {
+                if (batches.size() >= properties.getSubscriberQueueSize()) {
+                    // the changes dropped are read from the outbox when the next batch is delivered
+                    log.warn("Change listener is {} batches behind, its queue is dropped", batches.size());
+                    batches.clear();
+                }
+                batches.add(batch);
+                if (delivering) {
+                    return;
+                }
+                delivering = true;
+            }
+            try {
+                taskExecutor.execute(this::deliver);
+            } catch (TaskRejectedException e) {
+                synchronized (this) {
+                    delivering = false;
+                }
+                log.debug("Change delivery rejected, left to the next dispatch");
+            }
+        }
+
+        private void deliver() {
+            while (!cancelled) {
+                Batch batch;
+                synchronized (this) {
+                    batch = batches.poll();
+                    if (batch == null) {
+                        delivering = false;
+                        return;
+                    }
+                }
+                while (batch.since > lastDelivered && !cancelled) {
+                    // the changes between the last delivered and the batch were dropped, or dispatched before
+                    List<ChangeEvent> missed = findSince(lastDelivered);
+                    if (missed.isEmpty()) {
+                        break;
+                    }
+                    accept(missed);
+                }
+                accept(batch.events);
+            }
+        }
+
+        private void accept(List<ChangeEvent> events) {
+            long since = lastDelivered;
+            int first = 0;
+            while (first < events.size() && events.get(first).getSequence() <= since) {
+                first++;
+            }
+            if (first == events.size()) {
+                return;
+            }
+            lastDelivered = events.get(events.size() - 1).getSequence();
+            try {
+                listener.accept(events.subList(first, events.size()));
+            } catch (RuntimeException e) {
+                log.warn("Change listener failed", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package com.mycompany.myapp.service;
+
+import com.mongodb.MongoServerException;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.repository.CategoryRepository;
+import com.mycompany.myapp.repository.ItemRepository;
+import com.mycompany.myapp.service.dto.EntityChangeDTO;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import javax.annotation.PostConstruct;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service publishing the changes of items and categories with the entities as they are after the change.
+ * <p>
+ * The changes are read from the MongoDB change streams of the item and category collections, so that the changes
+ * RESTHeart makes directly are published too. Change streams need a replica set: on a standalone server, or when they
+ * are turned off, the changes are read from the change outbox of {@link ChangeEventService} instead, and the entities
+ * looked up by id.
+ * <p>
+ * The listeners of the services are called by the thread which read the change. The listeners which may block, such
+ * as event streams, are called from a bounded queue of their own instead, so that they do not hold up the others.
+ */
+@Service
+public class EntityChangeStreamService {
+
+    /**
+     * Error code of MongoDB servers which are not part of a replica set, on which change streams are not supported.
+     */
+    private static final int CHANGE_STREAM_NOT_SUPPORTED = 40573;
+
+    private static final Map<OperationType, ChangeEvent.Type> TYPES = Map.of(
+        OperationType.INSERT,
+        ChangeEvent.Type.CREATED,
+        OperationType.UPDATE,
+        ChangeEvent.Type.UPDATED,
+        OperationType.REPLACE,
+        ChangeEvent.Type.UPDATED,
+        OperationType.DELETE,
+        ChangeEvent.Type.DELETED
+    );
+
+    private final Logger log = LoggerFactory.getLogger(EntityChangeStreamService.class);
+
+    private final MessageListenerContainer changeStreamListenerContainer;
+
+    private final ChangeEventService changeEventService;
+
+    private final ItemRepository itemRepository;
+
+    private final CategoryRepository categoryRepository;
+
+    private final ApplicationProperties.ChangeFeed properties;
+
+    private final Executor taskExecutor;
+
+    private final List<Watch> watches = List.of(
+        new Watch(ChangeEvent.ITEM, "item", Item.class),
+        new Watch(ChangeEvent.CATEGORY, "category", Category.class)
+    );
+
+    private final List<Consumer<EntityChangeDTO>> listeners = new CopyOnWriteArrayList<>();
+
+    private Runnable outboxSubscription;
+
+    public EntityChangeStreamService(
+        MessageListenerContainer changeStreamListenerContainer,
+        ChangeEventService changeEventService,
+        ItemRepository itemRepository,
+        CategoryRepository categoryRepository,
+        ApplicationProperties applicationProperties,
+        @Qualifier("taskExecutor") Executor taskExecutor
+    ) {
+        this.changeStreamListenerContainer = changeStreamListenerContainer;
+        this.changeEventService = changeEventService;
+        this.itemRepository = itemRepository;
+        this.categoryRepository = categoryRepository;
+        this.properties = applicationProperties.getChangeFeed();
+        this.taskExecutor = taskExecutor;
+    }
+
+    @PostConstruct
+    public synchronized void init() {
+        if (!properties.isChangeStreams()) {
+            readOutbox();
+            return;
+        }
+        watches.forEach(this::watch);
+    }
+
+    /**
+     * Listen to the changes. Listeners are called one after the other, by the thread which read the change, so they
+     * must not block.
+     *
+     * @param listener the listener of the changes.
+     * @return the callback removing the listener.
+     */
+    public Runnable subscribe(Consumer<EntityChangeDTO> listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+
+    /**
+     * Listen to the changes from a bounded queue, drained by one task at a time, so that a listener which blocks does
+     * not hold up the change streams. The changes are not replayed: a listener falling
+     * {@code application.change-feed.subscriber-queue-size} changes behind is removed.
+     *
+     * @param listener the listener of the changes.
+     * @param overflowed called once the listener is removed for falling behind.
+     * @return the callback removing the listener.
+     */
+    public Runnable subscribeQueued(Consumer<EntityChangeDTO> listener, Runnable overflowed) {
+        QueuedListener queuedListener = new QueuedListener(listener, overflowed);
+        listeners.add(queuedListener);
+        return queuedListener::cancel;
+    }
+
+    /**
+     * Wait until the change streams are open, so that the changes made from then on are published.
+     *
+     * @param timeout the time to wait for each change stream.
+     * @return whether the change streams are open, or the changes read from the outbox.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    boolean awaitWatching(Duration timeout) throws InterruptedException {
+        for (Watch watch : watches) {
+            Subscription subscription = watch.subscription;
+            if (outboxSubscription == null && subscription != null && !subscription.await(timeout)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Watch the change streams which failed again, from the last change read.
+     */
+    @Scheduled(
+        initialDelayString = "${application.change-feed.change-stream-retry-period:PT30S}",
+        fixedDelayString = "${application.change-feed.change-stream-retry-period:PT30S}"
+    )
+    public synchronized void rewatch() {
+        if (outboxSubscription != null) {
+            return;
+        }
+        for (Watch watch : watches) {
+            if (watch.failed) {
+                log.debug("Watching the change stream of {} again", watch.collection);
+                watch(watch);
+            }
+        }
+    }
+
+    private void watch(Watch watch) {
+        if (watch.subscription != null) {
+            changeStreamListenerContainer.remove(watch.subscription);
+        }
+        ChangeStreamRequest.ChangeStreamRequestBuilder<Object> request = ChangeStreamRequest
+            .builder()
+            .collection(watch.collection)
+            .fullDocumentLookup(FullDocument.UPDATE_LOOKUP)
+            .publishTo(message -> changed(watch, message));
+        if (watch.resumeToken != null) {
+            request.resumeAfter(watch.resumeToken);
+        }
+        watch.failed = false;
+        watch.subscription = changeStreamListenerContainer.register(request.build(), watch.domainClass, error -> failed(watch, error));
+    }
+
+    private void changed(Watch watch, Message<ChangeStreamDocument<Document>, Object> message) {
+        ChangeStreamDocument<Document> raw = message.getRaw();
+        if (raw.getOperationType() == OperationType.INVALIDATE) {
+            // the collection was dropped or renamed, its stream cannot be resumed
+            watch.resumeToken = null;
+            return;
+        }
+        watch.resumeToken = raw.getResumeToken();
+        ChangeEvent.Type type = TYPES.get(raw.getOperationType());
+        if (type == null) {
+            return;
+        }
+        Object entity = message.getBody();
+        if (type != ChangeEvent.Type.DELETED && entity == null) {
+            // deleted since, its deletion follows
+            return;
+        }
+        String id = toString(raw.getDocumentKey().get("_id"));
+        publish(new EntityChangeDTO(type, watch.entityType, id, type == ChangeEvent.Type.DELETED ? null : entity));
+    }
+
+    private synchronized void failed(Watch watch, Throwable error) {
+        if (outboxSubscription != null) {
+            return;
+        }
+        if (isChangeStreamNotSupported(error)) {
+            log.info("MongoDB change streams need a replica set, reading the changes from the outbox");
+            watches
+                .stream()
+                .filter(other -> other.subscription != null)
+                .forEach(other -> changeStreamListenerContainer.remove(other.subscription));
+            readOutbox();
+            return;
+        }
+        log.warn("Change stream of {} failed, watching it again in {}", watch.collection, properties.getChangeStreamRetryPeriod(), error);
+        watch.failed = true;
+    }
+
+    private void readOutbox() {
+        outboxSubscription = changeEventService.subscribe(this::outboxChanged);
+    }
+
+    private void outboxChanged(List<ChangeEvent> events) {
+        for (ChangeEvent event : events) {
+            if (event.getType() == ChangeEvent.Type.DELETED) {
+                publish(new EntityChangeDTO(event.getType(), event.getEntityType(), event.getEntityId(), null));
+                continue;
+            }
+            findEntity(event)
+                .ifPresent(entity -> publish(new EntityChangeDTO(event.getType(), event.getEntityType(), event.getEntityId(), entity)));
+        }
+    }
+
+    private Optional<?> findEntity(ChangeEvent event) {
+        if (ChangeEvent.ITEM.equals(event.getEntityType())) {
+            return itemRepository.findById(event.getEntityId());
+        }
+        if (ChangeEvent.CATEGORY.equals(event.getEntityType())) {
+            return categoryRepository.findById(event.getEntityId());
+        }
+        return Optional.empty();
+    }
+
+    private void publish(EntityChangeDTO change) {
+        log.debug("Publishing change : {}", change);
+        for (Consumer<EntityChangeDTO> listener : listeners) {
+            try {
+                listener.accept(change);
+            } catch (RuntimeException e) {
+                log.warn("Entity change listener failed", e);
+            }
+        }
+    }
+
+    private static boolean isChangeStreamNotSupported(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoServerException && ((MongoServerException) cause).getCode() == CHANGE_STREAM_NOT_SUPPORTED) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toString(BsonValue id) {
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    /**
+     * Delivers the changes to a listener, from a bounded queue drained by one task at a time.
+     */
+    private class QueuedListener implements Consumer<EntityChangeDTO> {
+
+        private final Consumer<EntityChangeDTO> listener;
+
+        private final Runnable overflowed;
+
+        private final Queue<EntityChangeDTO> changes = new ArrayDeque<>();
+
+        private boolean delivering;
+
+        private volatile boolean cancelled;
+
+        QueuedListener(Consumer<EntityChangeDTO> listener, Runnable overflowed) {
+            this.listener = listener;
+            this.overflowed = overflowed;
+        }
+
+        @Override
+        public void accept(EntityChangeDTO change) {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                if (changes.size() >= properties.getSubscriberQueueSize()) {
+                    log.warn("Entity change listener is {} changes behind, it is removed", changes.size());
+                    cancel();
+                    if (!execute(overflowed)) {
+                        overflowed.run();
+                    }
+                    return;
+                }
+                changes.add(change);
+                if (delivering) {
+                    return;
+                }
+                delivering = true;
+            }
+            if (!execute(this::deliver)) {
+                synchronized (this) {
+                    delivering = false;
+                }
+                log.debug("Entity change delivery rejected, left to the next change");
+            }
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            changes.clear();
+            listeners.remove(this);
+        }
+
+        private void deliver() {
+            while (!cancelled) {
+                EntityChangeDTO change;
+                synchronized (this) {
+                    change = changes.poll();
+                    if (change == null) {
+                        delivering = false;
+                        return;
+                    }
+                }
+                try {
+                    listener.accept(change);
+                } catch (RuntimeException e) {
+                    log.warn("Entity change listener failed", e);
+                }
+            }
+        }
+
+        private boolean execute(Runnable task) {
+            try {
+                taskExecutor.execute(task);
+                return true;
+            } catch (TaskRejectedException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * The change stream of a collection, resumed from the last change read when it is watched again.
+     */
+    private static class Watch {
+
+        private final String entityType;
+
+        private final String collection;
+
+        private final Class<?> domainClass;
+
+        private volatile BsonValue resumeToken;
+
+        private volatile boolean failed;
+
+        private Subscription subscription;
+
+        Watch(String entityType, String collection, Class<?> domainClass) {
+            this.entityType = entityType;
+            this.collection = collection;
+            this.domainClass = domainClass;
+        }
+    }
+}
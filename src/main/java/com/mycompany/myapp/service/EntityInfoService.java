@@ -0,0 +1,44 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.CreateInfo;
+import com.mycompany.myapp.domain.RefType;
+import com.mycompany.myapp.domain.UpdateInfo;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.SecurityUtils;
+import java.time.Instant;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service stamping the items and categories with the current user and date, on every path writing them.
+ */
+@Service
+public class EntityInfoService {
+
+    private final UserRepository userRepository;
+
+    public EntityInfoService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * @return the create info of an entity created now by the current user, without user if there is none.
+     */
+    public CreateInfo currentCreateInfo() {
+        return CreateInfo.builder().user(currentUser()).createdDate(Instant.now()).build();
+    }
+
+    /**
+     * @return the update info of an entity modified now by the current user, without user if there is none.
+     */
+    public UpdateInfo currentUpdateInfo() {
+        return UpdateInfo.builder().user(currentUser()).lastModifiedDate(Instant.now()).build();
+    }
+
+    private RefType currentUser() {
+        return SecurityUtils
+            .getCurrentUserLogin()
+            .flatMap(userRepository::findOneByLogin)
+            .map(user -> new RefType(user.getId(), RefType.RefTo.User))
+            .orElse(null);
+    }
+}
@@ -0,0 +1,151 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.domain.Tombstone;
+import com.mycompany.myapp.repository.TombstoneRepository;
+import com.mycompany.myapp.service.dto.EntityChangesDTO;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service reading the changes of items and categories since a date, so that replicas and caches sync in time
+ * proportional to the changes rather than to the catalog.
+ * <p>
+ * Created and updated entities are found by their last modified date, deleted ones by their {@link Tombstone}. The
+ * changes are read up to the settle time before now, so that the writes in progress are read by the next sync rather
+ * than skipped, and served in pages ordered by id: an entity modified while the pages are read moves past
+ * {@code until}, to the next sync.
+ */
+@Service
+public class EntitySyncService {
+
+    private static final String ID = "_id";
+
+    private static final String LAST_MODIFIED_DATE = "updateInfo.lastModifiedDate";
+
+    private final Logger log = LoggerFactory.getLogger(EntitySyncService.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final TombstoneRepository tombstoneRepository;
+
+    private final ApplicationProperties.ChangeFeed properties;
+
+    public EntitySyncService(
+        MongoTemplate mongoTemplate,
+        TombstoneRepository tombstoneRepository,
+        ApplicationProperties applicationProperties
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.tombstoneRepository = tombstoneRepository;
+        this.properties = applicationProperties.getChangeFeed();
+    }
+
+    /**
+     * Get a page of the changes of the items since a date.
+     *
+     * @param since the {@code until} date of the last sync, {@code null} to get all the items.
+     * @param until the {@code until} date of the previous page, {@code null} for the first page.
+     * @param after the {@code after} id of the previous page, {@code null} for the first page.
+     * @return the changes.
+     */
+    public EntityChangesDTO<Item> findItemChanges(Instant since, Instant until, String after) {
+        return findChanges(ChangeEvent.ITEM, Item.class, Item::getId, since, until, after);
+    }
+
+    /**
+     * Get a page of the changes of the categories since a date.
+     *
+     * @param since the {@code until} date of the last sync, {@code null} to get all the categories.
+     * @param until the {@code until} date of the previous page, {@code null} for the first page.
+     * @param after the {@code after} id of the previous page, {@code null} for the first page.
+     * @return the changes.
+     */
+    public EntityChangesDTO<Category> findCategoryChanges(Instant since, Instant until, String after) {
+        return findChanges(ChangeEvent.CATEGORY, Category.class, Category::getId, since, until, after);
+    }
+
+    /**
+     * Tell whether deletions since a date may have been forgotten, their tombstones being removed after
+     * {@link Tombstone#RETENTION}.
+     *
+     * @param since the {@code until} date of the last sync.
+     * @return {@code true} if everything must be loaded again instead.
+     */
+    public boolean isExpired(Instant since) {
+        return since.isBefore(Instant.now().minus(Tombstone.RETENTION));
+    }
+
+    private <T> EntityChangesDTO<T> findChanges(
+        String entityType,
+        Class<T> domainClass,
+        Function<T, String> idOf,
+        Instant since,
+        Instant until,
+        String after
+    ) {
+        log.debug("Request to get the changes of {} since : {}, until : {}, after : {}", entityType, since, until, after);
+        if (until == null) {
+            until = Instant.now().minus(properties.getSyncSettleTime());
+        }
+        if (since != null && !since.isBefore(until)) {
+            return new EntityChangesDTO<>(since, since, List.of(), List.of(), null);
+        }
+        int pageSize = properties.getSyncPageSize();
+        Query modified = new Query().with(Sort.by(ID)).limit(pageSize);
+        if (since != null) {
+            // entities never modified through the API have no last modified date, only a full load reads them
+            modified.addCriteria(Criteria.where(LAST_MODIFIED_DATE).gte(since).lt(until));
+        }
+        if (after != null) {
+            modified.addCriteria(Criteria.where(ID).gt(after));
+        }
+        List<T> updated = mongoTemplate.find(modified, domainClass);
+        List<Tombstone> tombstones = since == null ? List.of() : findTombstones(entityType, since, until, after, pageSize);
+
+        // the next page starts after the lowest last id of the full lists, the ids past it are read again then
+        String next = null;
+        if (updated.size() == pageSize) {
+            next = idOf.apply(updated.get(updated.size() - 1));
+        }
+        if (tombstones.size() == pageSize) {
+            String lastDeleted = tombstones.get(tombstones.size() - 1).getEntityId();
+            next = next == null || lastDeleted.compareTo(next) < 0 ? lastDeleted : next;
+        }
+        if (next != null) {
+            String last = next;
+            updated = updated.stream().filter(entity -> idOf.apply(entity).compareTo(last) <= 0).collect(Collectors.toList());
+            tombstones = tombstones.stream().filter(tombstone -> tombstone.getEntityId().compareTo(last) <= 0).collect(Collectors.toList());
+        }
+        List<String> deleted = tombstones.stream().map(Tombstone::getEntityId).collect(Collectors.toList());
+        return new EntityChangesDTO<>(since, until, updated, deleted, next);
+    }
+
+    private List<Tombstone> findTombstones(String entityType, Instant since, Instant until, String after, int pageSize) {
+        Pageable page = PageRequest.of(0, pageSize, Sort.by("entityId"));
+        if (after == null) {
+            return tombstoneRepository.findByEntityTypeAndDeletedDateGreaterThanEqualAndDeletedDateLessThan(entityType, since, until, page);
+        }
+        return tombstoneRepository.findByEntityTypeAndDeletedDateGreaterThanEqualAndDeletedDateLessThanAndEntityIdGreaterThan(
+            entityType,
+            since,
+            until,
+            after,
+            page
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.mycompany.myapp.service;
 
 import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.ChangeEvent;
 import com.mycompany.myapp.domain.Item;
 import com.mycompany.myapp.domain.RefType;
 import com.mycompany.myapp.repository.CategoryRepository;
@@ -24,9 +25,20 @@ public class ItemService {
 
     private final CategoryRepository categoryRepository;
 
-    public ItemService(ItemRepository itemRepository, CategoryRepository categoryRepository) {
+    private final ChangeEventService changeEventService;
+
+    private final EntityInfoService entityInfoService;
+
+    public ItemService(
+        ItemRepository itemRepository,
+        CategoryRepository categoryRepository,
+        ChangeEventService changeEventService,
+        EntityInfoService entityInfoService
+    ) {
         this.itemRepository = itemRepository;
         this.categoryRepository = categoryRepository;
+        this.changeEventService = changeEventService;
+        this.entityInfoService = entityInfoService;
     }
 
     /**
@@ -37,7 +49,11 @@ public class ItemService {
      */
     public Item save(Item item) {
         log.debug("Request to save Item : {}", item);
-        return itemRepository.save(item);
+        item.setCreateInfo(entityInfoService.currentCreateInfo());
+        item.setUpdateInfo(entityInfoService.currentUpdateInfo());
+        Item result = itemRepository.save(item);
+        changeEventService.itemChanged(result.getId(), ChangeEvent.Type.CREATED);
+        return result;
     }
 
     /**
@@ -48,7 +64,10 @@ public class ItemService {
      */
     public Item update(Item item) {
         log.debug("Request to save Item : {}", item);
-        return itemRepository.save(item);
+        item.setUpdateInfo(entityInfoService.currentUpdateInfo());
+        Item result = itemRepository.save(item);
+        changeEventService.itemChanged(result.getId(), ChangeEvent.Type.UPDATED);
+        return result;
     }
 
     /**
@@ -72,7 +91,7 @@ public class ItemService {
 
                 return existingItem;
             })
-            .map(itemRepository::save);
+            .map(this::update);
     }
 
     /**
@@ -104,6 +123,7 @@ public class ItemService {
     public void delete(String id) {
         log.debug("Request to delete Item : {}", id);
         itemRepository.deleteById(id);
+        changeEventService.itemChanged(id, ChangeEvent.Type.DELETED);
     }
 
     public ResponseEntity<?> savebyid(String catId, Item item) {
@@ -115,10 +135,12 @@ public class ItemService {
 
         category.getItem().add(new RefType( catId , RefType.RefTo.item));
 
+        category.setUpdateInfo(entityInfoService.currentUpdateInfo());
         Category save = categoryRepository.save(category);
+        changeEventService.categoryChanged(save.getId(), ChangeEvent.Type.UPDATED);
 
         item.setCategory(new RefType(category.getId() , RefType.RefTo.category));
-        itemRepository.save(item);
+        save(item);
 
         return  ResponseEntity.ok(save);
 
@@ -0,0 +1,198 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.MailMessage;
+import com.mycompany.myapp.repository.MailMessageRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * Service sending the emails of the mail outbox.
+ * <p>
+ * Emails are claimed by pushing their next attempt date past the claim timeout, so that the instances sharing the
+ * database each send different emails, and sent in batches over one SMTP connection. Sent emails are removed from the
+ * outbox, failed ones are retried with an exponential backoff.
+ */
+@Service
+public class MailOutboxService {
+
+    private final Logger log = LoggerFactory.getLogger(MailOutboxService.class);
+
+    private final MailMessageRepository mailMessageRepository;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final JavaMailSender javaMailSender;
+
+    private final JHipsterProperties jHipsterProperties;
+
+    private final ApplicationProperties.Mail properties;
+
+    private final Executor mailExecutor;
+
+    private final AtomicBoolean delivering = new AtomicBoolean();
+
+    public MailOutboxService(
+        MailMessageRepository mailMessageRepository,
+        MongoTemplate mongoTemplate,
+        JavaMailSender javaMailSender,
+        JHipsterProperties jHipsterProperties,
+        ApplicationProperties applicationProperties,
+        @Qualifier("mailExecutor") Executor mailExecutor
+    ) {
+        this.mailMessageRepository = mailMessageRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.javaMailSender = javaMailSender;
+        this.jHipsterProperties = jHipsterProperties;
+        this.properties = applicationProperties.getMail();
+        this.mailExecutor = mailExecutor;
+    }
+
+    /**
+     * Save an email to the outbox, and have the outbox sent.
+     *
+     * @param mailMessage the email to send.
+     */
+    public void enqueue(MailMessage mailMessage) {
+        mailMessageRepository.save(mailMessage);
+        trigger();
+    }
+
+    /**
+     * Have the outbox sent by the mail executor, unless it is already being sent. When the executor is saturated, the
+     * emails are left to the next poll rather than sent by the calling thread.
+     */
+    @Scheduled(initialDelayString = "${application.mail.poll-period:PT10S}", fixedDelayString = "${application.mail.poll-period:PT10S}")
+    public void trigger() {
+        try {
+            mailExecutor.execute(this::deliver);
+        } catch (TaskRejectedException e) {
+            log.debug("Mail outbox delivery rejected, left to the next poll");
+        }
+    }
+
+    /**
+     * Send the emails of the outbox that are due, batch after batch.
+     */
+    public void deliver() {
+        if (!delivering.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            while (deliverBatch() == properties.getBatchSize()) {
+                log.debug("Mail outbox batch sent, sending the next one");
+            }
+        } finally {
+            delivering.set(false);
+        }
+    }
+
+    private int deliverBatch() {
+        Instant now = Instant.now();
+        List<MailMessage> batch = claim(now);
+        Map<MimeMessage, MailMessage> mimeMessages = new LinkedHashMap<>();
+        for (MailMessage mailMessage : batch) {
+            try {
+                mimeMessages.put(createMimeMessage(mailMessage), mailMessage);
+            } catch (MessagingException e) {
+                failed(mailMessage, now, e);
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return batch.size();
+        }
+        Map<Object, Exception> failedMessages = Map.of();
+        try {
+            javaMailSender.send(mimeMessages.keySet().toArray(new MimeMessage[0]));
+        } catch (MailSendException e) {
+            Map<Object, Exception> failed = e.getFailedMessages();
+            failedMessages = failed == null || failed.isEmpty() ? allFailed(mimeMessages, e) : failed;
+        } catch (MailException e) {
+            failedMessages = allFailed(mimeMessages, e);
+        }
+        for (Map.Entry<MimeMessage, MailMessage> entry : mimeMessages.entrySet()) {
+            Exception error = failedMessages.get(entry.getKey());
+            if (error != null) {
+                failed(entry.getValue(), now, error);
+            } else {
+                mailMessageRepository.delete(entry.getValue());
+                log.debug("Sent email to User '{}'", entry.getValue().getTo());
+            }
+        }
+        return batch.size();
+    }
+
+    private List<MailMessage> claim(Instant now) {
+        Query due = Query.query(Criteria.where("nextAttemptDate").lte(now)).with(Sort.by("nextAttemptDate"));
+        Update claim = Update.update("nextAttemptDate", now.plus(properties.getClaimTimeout()));
+        List<MailMessage> batch = new ArrayList<>();
+        while (batch.size() < properties.getBatchSize()) {
+            MailMessage mailMessage = mongoTemplate.findAndModify(due, claim, MailMessage.class);
+            if (mailMessage == null) {
+                break;
+            }
+            batch.add(mailMessage);
+        }
+        return batch;
+    }
+
+    private MimeMessage createMimeMessage(MailMessage mailMessage) throws MessagingException {
+        MimeMessage mimeMessage = javaMailSender.createMimeMessage();
+        MimeMessageHelper message = new MimeMessageHelper(mimeMessage, mailMessage.isMultipart(), StandardCharsets.UTF_8.name());
+        message.setTo(mailMessage.getTo());
+        message.setFrom(jHipsterProperties.getMail().getFrom());
+        message.setSubject(mailMessage.getSubject());
+        message.setText(mailMessage.getContent(), mailMessage.isHtml());
+        return mimeMessage;
+    }
+
+    private void failed(MailMessage mailMessage, Instant now, Exception error) {
+        int attempts = mailMessage.getAttempts() + 1;
+        if (attempts >= properties.getMaxAttempts()) {
+            log.error("Email could not be sent to user '{}', dropped after {} attempts", mailMessage.getTo(), attempts, error);
+            mailMessageRepository.delete(mailMessage);
+            return;
+        }
+        log.warn("Email could not be sent to user '{}', attempt {}", mailMessage.getTo(), attempts, error);
+        mailMessage.setAttempts(attempts);
+        mailMessage.setLastError(error.getMessage());
+        mailMessage.setNextAttemptDate(now.plus(backoff(attempts)));
+        mailMessageRepository.save(mailMessage);
+    }
+
+    private Duration backoff(int attempts) {
+        Duration backoff = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts - 1, 30));
+        return backoff.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : backoff;
+    }
+
+    private static Map<Object, Exception> allFailed(Map<MimeMessage, MailMessage> mimeMessages, Exception error) {
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        mimeMessages.keySet().forEach(mimeMessage -> failedMessages.put(mimeMessage, error));
+        return failedMessages;
+    }
+}
@@ -0,0 +1,108 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.service.dto.SuggestionDTO;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * Sorted index of the names of a type of entities, completing prefixes in logarithmic time.
+ * <p>
+ * Names are normalized to lower case without accents, and indexed from each of their words, so that a prefix matches
+ * names containing a word starting with it. Updates are incremental and reads take no lock.
+ */
+class PrefixIndex {
+
+    private static final char ID_SEPARATOR = '\u0000';
+
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}+");
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final String entityType;
+
+    private final ConcurrentSkipListMap<String, SuggestionDTO> keys = new ConcurrentSkipListMap<>();
+
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+
+    PrefixIndex(String entityType) {
+        this.entityType = entityType;
+    }
+
+    /**
+     * Index the name of an entity, replacing its previous one.
+     */
+    synchronized void put(String id, String name) {
+        remove(id);
+        String normalized = normalize(name);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        names.put(id, normalized);
+        SuggestionDTO suggestion = new SuggestionDTO(entityType, id, name);
+        for (String key : keys(normalized)) {
+            keys.put(key + ID_SEPARATOR + id, suggestion);
+        }
+    }
+
+    synchronized void remove(String id) {
+        String normalized = names.remove(id);
+        if (normalized != null) {
+            for (String key : keys(normalized)) {
+                keys.remove(key + ID_SEPARATOR + id);
+            }
+        }
+    }
+
+    /**
+     * Complete a prefix, in the order of the matching words.
+     *
+     * @param prefix the beginning of a name, or of one of its words.
+     * @param limit the number of names to return at most.
+     * @return the names completing the prefix, once each.
+     */
+    List<SuggestionDTO> find(String prefix, int limit) {
+        String from = normalize(prefix);
+        if (from.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<String, SuggestionDTO> found = new LinkedHashMap<>();
+        for (SuggestionDTO suggestion : keys.subMap(from, from + Character.MAX_VALUE).values()) {
+            found.putIfAbsent(suggestion.getId(), suggestion);
+            if (found.size() == limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    int size() {
+        return names.size();
+    }
+
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String unaccented = ACCENTS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(unaccented.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * @return the suffixes of a normalized name starting at each of its words.
+     */
+    private static List<String> keys(String normalized) {
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,57 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service reading {@link Category} from RESTHeart without blocking, for the reactive API.
+ */
+@Service
+public class ReactiveCategoryService {
+
+    private final Logger log = LoggerFactory.getLogger(ReactiveCategoryService.class);
+
+    private final WebClient restheartWebClient;
+
+    public ReactiveCategoryService(WebClient restheartWebClient) {
+        this.restheartWebClient = restheartWebClient;
+    }
+
+    /**
+     * Get all the categories, as RESTHeart streams them.
+     *
+     * @param keys the Mongo projection of the fields to read, all of them if {@code null}.
+     * @return the categories.
+     */
+    public Flux<Category> findAll(String keys) {
+        log.debug("Request to get all Categories");
+        return restheartWebClient
+            .get()
+            .uri(uriBuilder -> RestheartUris.withKeys(uriBuilder.path("/pro5/category"), keys).build(keys))
+            .retrieve()
+            .bodyToFlux(Category.class);
+    }
+
+    /**
+     * Get one category by id.
+     *
+     * @param id the id of the category.
+     * @param keys the Mongo projection of the fields to read, all of them if {@code null}.
+     * @return the category, or empty if RESTHeart does not have it.
+     */
+    public Mono<Category> findOne(String id, String keys) {
+        log.debug("Request to get Category : {}", id);
+        return restheartWebClient
+            .get()
+            .uri(uriBuilder -> RestheartUris.withKeys(uriBuilder.path("/pro5/category/{id}"), keys).build(id, keys))
+            .retrieve()
+            .bodyToMono(Category.class)
+            .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty());
+    }
+}
@@ -0,0 +1,106 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.domain.RefType;
+import com.mycompany.myapp.repository.reactive.ReactiveUserRepository;
+import com.mycompany.myapp.service.dto.ItemDetailsDTO;
+import com.mycompany.myapp.service.dto.UserDTO;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Service reading {@link Item} from RESTHeart without blocking, for the reactive API.
+ */
+@Service
+public class ReactiveItemService {
+
+    private final Logger log = LoggerFactory.getLogger(ReactiveItemService.class);
+
+    private final WebClient restheartWebClient;
+
+    private final ReactiveCategoryService reactiveCategoryService;
+
+    private final ReactiveUserRepository reactiveUserRepository;
+
+    public ReactiveItemService(
+        WebClient restheartWebClient,
+        ReactiveCategoryService reactiveCategoryService,
+        ReactiveUserRepository reactiveUserRepository
+    ) {
+        this.restheartWebClient = restheartWebClient;
+        this.reactiveCategoryService = reactiveCategoryService;
+        this.reactiveUserRepository = reactiveUserRepository;
+    }
+
+    /**
+     * Get all the items, as RESTHeart streams them.
+     *
+     * @param keys the Mongo projection of the fields to read, all of them if {@code null}.
+     * @return the items.
+     */
+    public Flux<Item> findAll(String keys) {
+        log.debug("Request to get all Items");
+        return restheartWebClient
+            .get()
+            .uri(uriBuilder -> RestheartUris.withKeys(uriBuilder.path("/pro5/item"), keys).build(keys))
+            .retrieve()
+            .bodyToFlux(Item.class);
+    }
+
+    /**
+     * Get one item by id.
+     *
+     * @param id the id of the item.
+     * @param keys the Mongo projection of the fields to read, all of them if {@code null}.
+     * @return the item, or empty if RESTHeart does not have it.
+     */
+    public Mono<Item> findOne(String id, String keys) {
+        log.debug("Request to get Item : {}", id);
+        return restheartWebClient
+            .get()
+            .uri(uriBuilder -> RestheartUris.withKeys(uriBuilder.path("/pro5/item/{id}"), keys).build(id, keys))
+            .retrieve()
+            .bodyToMono(Item.class)
+            .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty());
+    }
+
+    /**
+     * Get one item by id, with its category and creator, which are read concurrently once the item is.
+     *
+     * @param id the id of the item.
+     * @return the item details, or empty if RESTHeart does not have the item. The category and creator are
+     * {@code null} when missing.
+     */
+    public Mono<ItemDetailsDTO> findDetails(String id) {
+        log.debug("Request to get Item details : {}", id);
+        return findOne(id, null)
+            .flatMap(item ->
+                Mono
+                    .zip(optional(findCategory(item)), optional(findCreator(item)))
+                    .map(resolved -> new ItemDetailsDTO(item, resolved.getT1().orElse(null), resolved.getT2().orElse(null)))
+            );
+    }
+
+    private Mono<Category> findCategory(Item item) {
+        RefType category = item.getCategory();
+        return category == null || category.getId() == null ? Mono.empty() : reactiveCategoryService.findOne(category.getId(), null);
+    }
+
+    private Mono<UserDTO> findCreator(Item item) {
+        if (item.getCreateInfo() == null || item.getCreateInfo().getUser() == null || item.getCreateInfo().getUser().getId() == null) {
+            return Mono.empty();
+        }
+        return reactiveUserRepository.findById(item.getCreateInfo().getUser().getId()).map(UserDTO::new);
+    }
+
+    private static <T> Mono<Optional<T>> optional(Mono<T> mono) {
+        return mono.map(Optional::of).defaultIfEmpty(Optional.empty());
+    }
+}
@@ -0,0 +1,19 @@
+package com.mycompany.myapp.service;
+
+import org.springframework.web.util.UriBuilder;
+
+/**
+ * URIs of the RESTHeart reads of the reactive services.
+ */
+final class RestheartUris {
+
+    private RestheartUris() {}
+
+    /**
+     * Adds the {@code keys} projection as a template variable, since its braces must be encoded rather than expanded;
+     * its value is the last URI variable.
+     */
+    static UriBuilder withKeys(UriBuilder uriBuilder, String keys) {
+        return keys == null ? uriBuilder : uriBuilder.queryParam("keys", "{keys}");
+    }
+}
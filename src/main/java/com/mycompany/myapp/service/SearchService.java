@@ -0,0 +1,140 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.service.dto.EntityChangeDTO;
+import com.mycompany.myapp.service.dto.SearchResultDTO;
+import com.mycompany.myapp.service.dto.SuggestionDTO;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service searching the items and the categories.
+ * <p>
+ * Text searches are ranked by the MongoDB text indexes. Type-ahead is answered from the {@link PrefixIndex} of the
+ * item and category names, loaded at startup and then kept up to date from the changes published by
+ * {@link EntityChangeStreamService}, so completing a prefix does not query MongoDB.
+ */
+@Service
+public class SearchService {
+
+    private final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final EntityChangeStreamService entityChangeStreamService;
+
+    private final ApplicationProperties.Search properties;
+
+    private final PrefixIndex itemNames = new PrefixIndex(ChangeEvent.ITEM);
+
+    private final PrefixIndex categoryNames = new PrefixIndex(ChangeEvent.CATEGORY);
+
+    /**
+     * The ids changed while the names are loaded, whose loaded names may be outdated.
+     */
+    private final Set<String> changedWhileLoading = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean loading;
+
+    public SearchService(
+        MongoTemplate mongoTemplate,
+        EntityChangeStreamService entityChangeStreamService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.entityChangeStreamService = entityChangeStreamService;
+        this.properties = applicationProperties.getSearch();
+    }
+
+    @PostConstruct
+    public void init() {
+        loading = true;
+        // before loading, so that the changes made meanwhile are not missed
+        entityChangeStreamService.subscribe(this::changed);
+        load(Item.class, itemNames, Item::getId, Item::getName);
+        load(Category.class, categoryNames, Category::getId, Category::getName);
+        loading = false;
+        changedWhileLoading.clear();
+        log.debug("Loaded the names of {} items and {} categories", itemNames.size(), categoryNames.size());
+    }
+
+    /**
+     * Search the items and the categories with the words of a text.
+     *
+     * @param text the words to search, where a phrase is quoted and an excluded word prefixed with {@code -}.
+     * @param size the number of items and of categories to return at most, capped by
+     * {@code application.search.max-results}.
+     * @return the items and categories matching the text, the most relevant first.
+     */
+    public SearchResultDTO search(String text, int size) {
+        log.debug("Request to search : {}", text);
+        int limit = Math.min(size, properties.getMaxResults());
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(text)).sortByScore().limit(limit);
+        return new SearchResultDTO(mongoTemplate.find(query, Item.class), mongoTemplate.find(query, Category.class));
+    }
+
+    /**
+     * Complete the beginning of an item or category name.
+     *
+     * @param prefix the beginning of a name, or of one of its words.
+     * @param entityType {@code item} or {@code category} to complete only their names, both if {@code null}.
+     * @param size the number of names to return at most, capped by {@code application.search.max-suggestions}.
+     * @return the names completing the prefix, in alphabetical order of the matching words.
+     */
+    public List<SuggestionDTO> suggest(String prefix, String entityType, int size) {
+        int limit = Math.min(size, properties.getMaxSuggestions());
+        if (ChangeEvent.ITEM.equals(entityType)) {
+            return itemNames.find(prefix, limit);
+        }
+        if (ChangeEvent.CATEGORY.equals(entityType)) {
+            return categoryNames.find(prefix, limit);
+        }
+        List<SuggestionDTO> suggestions = new ArrayList<>(itemNames.find(prefix, limit));
+        suggestions.addAll(categoryNames.find(prefix, limit));
+        return suggestions
+            .stream()
+            .sorted(Comparator.comparing(suggestion -> PrefixIndex.normalize(suggestion.getName())))
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    private <T> void load(Class<T> domainClass, PrefixIndex index, Function<T, String> id, Function<T, String> name) {
+        Query names = new Query();
+        names.fields().include("name");
+        for (T entity : mongoTemplate.find(names, domainClass)) {
+            if (!changedWhileLoading.contains(id.apply(entity))) {
+                index.put(id.apply(entity), name.apply(entity));
+            }
+        }
+    }
+
+    private void changed(EntityChangeDTO change) {
+        PrefixIndex index = ChangeEvent.ITEM.equals(change.getEntityType()) ? itemNames : categoryNames;
+        if (loading) {
+            changedWhileLoading.add(change.getId());
+        }
+        if (change.getType() == ChangeEvent.Type.DELETED) {
+            index.remove(change.getId());
+        } else if (change.getEntity() instanceof Item) {
+            index.put(change.getId(), ((Item) change.getEntity()).getName());
+        } else if (change.getEntity() instanceof Category) {
+            index.put(change.getId(), ((Category) change.getEntity()).getName());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.mycompany.myapp.service.dto;
+
+/**
+ * A DTO representing an item found in the catalog index, with the fields the index keeps.
+ */
+public class CatalogHitDTO {
+
+    private String id;
+
+    private String name;
+
+    private String price;
+
+    private String categoryId;
+
+    public CatalogHitDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public CatalogHitDTO(String id, String name, String price, String categoryId) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.categoryId = categoryId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getPrice() {
+        return price;
+    }
+
+    public void setPrice(String price) {
+        this.price = price;
+    }
+
+    public String getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(String categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CatalogHitDTO{" +
+            "id='" + id + '\'' +
+            ", name='" + name + '\'' +
+            ", price='" + price + '\'' +
+            ", categoryId='" + categoryId + '\'' +
+            "}";
+    }
+}
@@ -0,0 +1,70 @@
+package com.mycompany.myapp.service.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A DTO representing a page of the items matching a catalog query, with the facet counts of the query.
+ * <p>
+ * The count of a category is the number of hits if that category were filtered instead of the requested one, and
+ * likewise for price buckets, so that the counts of the other values of a filtered facet stay available.
+ */
+public class CatalogQueryResultDTO {
+
+    private int total;
+
+    private List<CatalogHitDTO> hits;
+
+    private Map<String, Integer> categories;
+
+    private Map<String, Integer> priceBuckets;
+
+    public CatalogQueryResultDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public CatalogQueryResultDTO(int total, List<CatalogHitDTO> hits, Map<String, Integer> categories, Map<String, Integer> priceBuckets) {
+        this.total = total;
+        this.hits = hits;
+        this.categories = categories;
+        this.priceBuckets = priceBuckets;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public List<CatalogHitDTO> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<CatalogHitDTO> hits) {
+        this.hits = hits;
+    }
+
+    /**
+     * @return the number of hits by category id, without the items which have no category.
+     */
+    public Map<String, Integer> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Map<String, Integer> categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * @return the number of hits by price bucket, such as {@code 10-50}, without the items which have no valid price.
+     */
+    public Map<String, Integer> getPriceBuckets() {
+        return priceBuckets;
+    }
+
+    public void setPriceBuckets(Map<String, Integer> priceBuckets) {
+        this.priceBuckets = priceBuckets;
+    }
+}
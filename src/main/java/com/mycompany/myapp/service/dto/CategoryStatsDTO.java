@@ -0,0 +1,122 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A DTO representing the number of items of a category, their price statistics and their recent additions.
+ */
+public class CategoryStatsDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String categoryId;
+
+    private String name;
+
+    private long itemCount;
+
+    private Double minPrice;
+
+    private Double maxPrice;
+
+    private Double avgPrice;
+
+    private long recentItemCount;
+
+    private Instant lastAddedDate;
+
+    public CategoryStatsDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public CategoryStatsDTO(String categoryId, String name) {
+        this.categoryId = categoryId;
+        this.name = name;
+    }
+
+    public String getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(String categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public void setItemCount(long itemCount) {
+        this.itemCount = itemCount;
+    }
+
+    /**
+     * @return the lowest price of the items, {@code null} if none has a numeric price.
+     */
+    public Double getMinPrice() {
+        return minPrice;
+    }
+
+    public void setMinPrice(Double minPrice) {
+        this.minPrice = minPrice;
+    }
+
+    public Double getMaxPrice() {
+        return maxPrice;
+    }
+
+    public void setMaxPrice(Double maxPrice) {
+        this.maxPrice = maxPrice;
+    }
+
+    public Double getAvgPrice() {
+        return avgPrice;
+    }
+
+    public void setAvgPrice(Double avgPrice) {
+        this.avgPrice = avgPrice;
+    }
+
+    /**
+     * @return the number of items created within {@code application.catalog-stats.recent-window}.
+     */
+    public long getRecentItemCount() {
+        return recentItemCount;
+    }
+
+    public void setRecentItemCount(long recentItemCount) {
+        this.recentItemCount = recentItemCount;
+    }
+
+    public Instant getLastAddedDate() {
+        return lastAddedDate;
+    }
+
+    public void setLastAddedDate(Instant lastAddedDate) {
+        this.lastAddedDate = lastAddedDate;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "CategoryStatsDTO{" +
+            "categoryId='" + categoryId + '\'' +
+            ", name='" + name + '\'' +
+            ", itemCount=" + itemCount +
+            ", minPrice=" + minPrice +
+            ", maxPrice=" + maxPrice +
+            ", avgPrice=" + avgPrice +
+            ", recentItemCount=" + recentItemCount +
+            ", lastAddedDate='" + lastAddedDate + '\'' +
+            "}";
+    }
+}
@@ -0,0 +1,73 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.ChangeEvent;
+
+/**
+ * A DTO representing a change of an item or a category, with the entity as it is after the change.
+ */
+public class EntityChangeDTO {
+
+    private ChangeEvent.Type type;
+
+    private String entityType;
+
+    private String id;
+
+    private Object entity;
+
+    public EntityChangeDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public EntityChangeDTO(ChangeEvent.Type type, String entityType, String id, Object entity) {
+        this.type = type;
+        this.entityType = entityType;
+        this.id = id;
+        this.entity = entity;
+    }
+
+    public ChangeEvent.Type getType() {
+        return type;
+    }
+
+    public void setType(ChangeEvent.Type type) {
+        this.type = type;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    /**
+     * @return the entity after the change, {@code null} once deleted.
+     */
+    public Object getEntity() {
+        return entity;
+    }
+
+    public void setEntity(Object entity) {
+        this.entity = entity;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "EntityChangeDTO{" +
+            "type=" + type +
+            ", entityType='" + entityType + '\'' +
+            ", id='" + id + '\'' +
+            "}";
+    }
+}
@@ -0,0 +1,94 @@
+package com.mycompany.myapp.service.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A DTO representing the changes of a type of entities between two dates: the entities created or updated, and the ids
+ * of the ones deleted. The {@code until} date is the {@code since} date of the next sync.
+ * <p>
+ * The changes are served in pages: while {@code after} is set, the next page is read with the same {@code since} and
+ * {@code until} dates, and this {@code after} id.
+ */
+public class EntityChangesDTO<T> {
+
+    private Instant since;
+
+    private Instant until;
+
+    private List<T> updated;
+
+    private List<String> deleted;
+
+    private String after;
+
+    public EntityChangesDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public EntityChangesDTO(Instant since, Instant until, List<T> updated, List<String> deleted, String after) {
+        this.since = since;
+        this.until = until;
+        this.updated = updated;
+        this.deleted = deleted;
+        this.after = after;
+    }
+
+    /**
+     * @return the date of the first changes, {@code null} when the changes are all the entities.
+     */
+    public Instant getSince() {
+        return since;
+    }
+
+    public void setSince(Instant since) {
+        this.since = since;
+    }
+
+    public Instant getUntil() {
+        return until;
+    }
+
+    public void setUntil(Instant until) {
+        this.until = until;
+    }
+
+    public List<T> getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(List<T> updated) {
+        this.updated = updated;
+    }
+
+    public List<String> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<String> deleted) {
+        this.deleted = deleted;
+    }
+
+    /**
+     * @return the last id of this page, {@code null} when it is the last page.
+     */
+    public String getAfter() {
+        return after;
+    }
+
+    public void setAfter(String after) {
+        this.after = after;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "EntityChangesDTO{" +
+            "since='" + since + '\'' +
+            ", until='" + until + '\'' +
+            ", updated=" + (updated != null ? updated.size() : 0) +
+            ", deleted=" + (deleted != null ? deleted.size() : 0) +
+            ", after='" + after + '\'' +
+            "}";
+    }
+}
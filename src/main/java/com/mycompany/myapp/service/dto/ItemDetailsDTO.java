@@ -0,0 +1,60 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Item;
+
+/**
+ * A DTO representing an item with its category and the user who created it resolved.
+ */
+public class ItemDetailsDTO {
+
+    private Item item;
+
+    private Category category;
+
+    private UserDTO createdBy;
+
+    public ItemDetailsDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public ItemDetailsDTO(Item item, Category category, UserDTO createdBy) {
+        this.item = item;
+        this.category = category;
+        this.createdBy = createdBy;
+    }
+
+    public Item getItem() {
+        return item;
+    }
+
+    public void setItem(Item item) {
+        this.item = item;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+
+    public void setCategory(Category category) {
+        this.category = category;
+    }
+
+    public UserDTO getCreatedBy() {
+        return createdBy;
+    }
+
+    public void setCreatedBy(UserDTO createdBy) {
+        this.createdBy = createdBy;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ItemDetailsDTO{" +
+            "item=" + item +
+            ", category=" + category +
+            ", createdBy=" + createdBy +
+            "}";
+    }
+}
@@ -0,0 +1,40 @@
+package com.mycompany.myapp.service.dto;
+
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Item;
+import java.util.List;
+
+/**
+ * A DTO representing the items and the categories matching a search, the most relevant first.
+ */
+public class SearchResultDTO {
+
+    private List<Item> items;
+
+    private List<Category> categories;
+
+    public SearchResultDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public SearchResultDTO(List<Item> items, List<Category> categories) {
+        this.items = items;
+        this.categories = categories;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public void setItems(List<Item> items) {
+        this.items = items;
+    }
+
+    public List<Category> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<Category> categories) {
+        this.categories = categories;
+    }
+}
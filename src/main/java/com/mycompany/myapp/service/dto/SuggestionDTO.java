@@ -0,0 +1,57 @@
+package com.mycompany.myapp.service.dto;
+
+/**
+ * A DTO representing a name completing the prefix typed by a user, with the item or category it belongs to.
+ */
+public class SuggestionDTO {
+
+    private String entityType;
+
+    private String id;
+
+    private String name;
+
+    public SuggestionDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public SuggestionDTO(String entityType, String id, String name) {
+        this.entityType = entityType;
+        this.id = id;
+        this.name = name;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "SuggestionDTO{" +
+            "entityType='" + entityType + '\'' +
+            ", id='" + id + '\'' +
+            ", name='" + name + '\'' +
+            "}";
+    }
+}
@@ -0,0 +1,58 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.service.CatalogIndexService;
+import com.mycompany.myapp.service.dto.CatalogQueryResultDTO;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller browsing the items from the in-memory catalog index, registered when
+ * {@code application.catalog-index.enabled} is set.
+ */
+@RestController
+@RequestMapping("/api")
+@ConditionalOnProperty(prefix = "application.catalog-index", name = "enabled", havingValue = "true")
+public class CatalogResource {
+
+    private final Logger log = LoggerFactory.getLogger(CatalogResource.class);
+
+    private static final String ENTITY_NAME = "catalog";
+
+    private final CatalogIndexService catalogIndexService;
+
+    public CatalogResource(CatalogIndexService catalogIndexService) {
+        this.catalogIndexService = catalogIndexService;
+    }
+
+    /**
+     * {@code GET  /pro5/catalog} : find the items by name words, category and price bucket, with the number of items
+     * found by category and by price bucket.
+     *
+     * @param q the words the item names contain, all the items if absent.
+     * @param categoryId the category of the items, any if absent.
+     * @param priceBucket the price bucket of the items, such as {@code 10-50}, any if absent.
+     * @param page the number of the page of hits, from 0.
+     * @param size the number of hits by page.
+     * @return the page of hits and the facet counts.
+     */
+    @GetMapping("/pro5/catalog")
+    public CatalogQueryResultDTO query(
+        @RequestParam(required = false) String q,
+        @RequestParam(required = false) String categoryId,
+        @RequestParam(required = false) String priceBucket,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        log.debug("REST request to query the catalog : {}", q);
+        if (page < 0 || size < 1) {
+            throw new BadRequestAlertException("Invalid page", ENTITY_NAME, "pageinvalid");
+        }
+        return catalogIndexService.query(q, categoryId, priceBucket, page, size);
+    }
+}
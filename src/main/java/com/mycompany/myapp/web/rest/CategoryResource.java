@@ -1,17 +1,19 @@
 package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Category;
-import com.mycompany.myapp.domain.CreateInfo;
-import com.mycompany.myapp.domain.RefType;
-import com.mycompany.myapp.domain.RefType.RefTo;
-import com.mycompany.myapp.domain.UpdateInfo;
+import com.mycompany.myapp.domain.ChangeEvent;
 import com.mycompany.myapp.feign.CategoryClient;
 import com.mycompany.myapp.repository.CategoryRepository;
-import com.mycompany.myapp.repository.UserRepository;
 import com.mycompany.myapp.service.CategoryService;
+import com.mycompany.myapp.service.ChangeEventService;
+import com.mycompany.myapp.service.EntityInfoService;
+import com.mycompany.myapp.service.EntitySyncService;
+import com.mycompany.myapp.service.dto.EntityChangesDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.errors.SyncExpiredException;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -22,8 +24,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
@@ -39,6 +39,19 @@ public class CategoryResource {
 
     private static final String ENTITY_NAME = "category";
 
+    static final Map<String, String> FIELDS = Map.of(
+        "name",
+        "name",
+        "description",
+        "description",
+        "item",
+        "item",
+        "create_info",
+        "create_info",
+        "update_info",
+        "update_info"
+    );
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -48,16 +61,26 @@ public class CategoryResource {
 
     private final CategoryClient categoryClient;
 
-    private final UserRepository userRepository;
+    private final EntityInfoService entityInfoService;
 
+    private final ChangeEventService changeEventService;
 
+    private final EntitySyncService entitySyncService;
 
-    public CategoryResource(CategoryService categoryService, CategoryRepository categoryRepository,
-            CategoryClient categoryClient, UserRepository userRepository) {
+    public CategoryResource(
+        CategoryService categoryService,
+        CategoryRepository categoryRepository,
+        CategoryClient categoryClient,
+        EntityInfoService entityInfoService,
+        ChangeEventService changeEventService,
+        EntitySyncService entitySyncService
+    ) {
         this.categoryService = categoryService;
         this.categoryRepository = categoryRepository;
         this.categoryClient = categoryClient;
-        this.userRepository = userRepository;
+        this.entityInfoService = entityInfoService;
+        this.changeEventService = changeEventService;
+        this.entitySyncService = entitySyncService;
     }
 
     /**
@@ -71,23 +94,14 @@ public class CategoryResource {
     public ResponseEntity<?> createCategory(@RequestBody Category category) throws URISyntaxException {
         log.debug("REST request to save Category : {}", category);
 
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String currentPrincipalName = authentication.getName();
-
-        category.setCreateInfo(CreateInfo.builder()
-                .user(new RefType(userRepository.findOneByLogin(currentPrincipalName).get().getId(), RefTo.User))
-                .createdDate(Instant.now())
-                .build());
-
-        category.setUpdateInfo(UpdateInfo.builder()
-                .user(new RefType(userRepository.findOneByLogin(currentPrincipalName).get().getId(), RefTo.User))
-                .lastModifiedDate(Instant.now())
-                .build());
+        category.setCreateInfo(entityInfoService.currentCreateInfo());
+        category.setUpdateInfo(entityInfoService.currentUpdateInfo());
 
     
        
         category.setId(new ObjectId().toHexString());
         ResponseEntity<Void> save = categoryClient.save(category);
+        changeEventService.categoryChanged(category.getId(), ChangeEvent.Type.CREATED);
         return save;
     }
 
@@ -104,7 +118,9 @@ public class CategoryResource {
     @PutMapping("/pro5/category/{id}")
     public ResponseEntity<?> updatePost(@PathVariable("id") String id, @RequestBody Category category) throws URISyntaxException {
         log.debug("REST request to update category : {}", category);    
+        category.setUpdateInfo(entityInfoService.currentUpdateInfo());
         ResponseEntity<Void> updateCategory = categoryClient.update(id, category);
+        changeEventService.categoryChanged(id, ChangeEvent.Type.UPDATED);
         return updateCategory;
     }
 
@@ -147,38 +163,63 @@ public class CategoryResource {
     /**
      * {@code GET  /categories} : get all the categories.
      *
+     * @param fields the comma separated properties to return, all of them if absent.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of categories in body.
      */
     @GetMapping("/pro5/category")
-    public ResponseEntity<List<Category>> getAllCategories() {
+    public ResponseEntity<?> getAllCategories(@RequestParam(required = false) String fields) {
         log.debug("REST request to get all Categories");
-                   ResponseEntity<List<Category>> all = categoryClient.findAll();
-        return all;
+        SparseFieldset fieldset = SparseFieldset.parse(fields, FIELDS, ENTITY_NAME);
+        ResponseEntity<List<Category>> all = categoryClient.findAll(fieldset.toProjection());
+        // the upstream Content-Type would otherwise override the format negotiated with the client
+        return ResponseEntity.status(all.getStatusCode()).body(fieldset.apply(all.getBody()));
+    }
+
+    /**
+     * {@code GET  /pro5/category/changes} : get a page of the categories created, updated and deleted since the last sync.
+     *
+     * @param since the {@code until} date of the last sync, absent to get all the categories.
+     * @param until the {@code until} date of the previous page, absent for the first page.
+     * @param after the {@code after} id of the previous page, absent for the first page.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the changes in body, or with status
+     * {@code 410 (Gone)} if the deletions since are no longer known and all the categories must be loaded again.
+     */
+    @GetMapping("/pro5/category/changes")
+    public ResponseEntity<EntityChangesDTO<Category>> getCategoryChanges(
+        @RequestParam(required = false) Instant since,
+        @RequestParam(required = false) Instant until,
+        @RequestParam(required = false) String after
+    ) {
+        log.debug("REST request to get the Category changes since : {}, after : {}", since, after);
+        if (since != null && entitySyncService.isExpired(since)) {
+            throw new SyncExpiredException("The category deletions since " + since + " are no longer known, sync without since");
+        }
+        return ResponseEntity.ok(entitySyncService.findCategoryChanges(since, until, after));
     }
 
     /**
      * {@code GET  /categories/:id} : get the "id" category.
      *
      * @param id the id of the category to retrieve.
+     * @param fields the comma separated properties to return, all of them if absent.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the category, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/pro5/category/{id}")
-    public ResponseEntity<Category> getCategory(@PathVariable String id) {
+    public ResponseEntity<?> getCategory(@PathVariable String id, @RequestParam(required = false) String fields) {
         log.debug("REST request to get Category : {}", id);
-
-        ResponseEntity<Category> category = categoryClient.getById(id);
-        return category;
+        SparseFieldset fieldset = SparseFieldset.parse(fields, FIELDS, ENTITY_NAME);
+        ResponseEntity<Category> category = categoryClient.getById(id, fieldset.toProjection());
+        return ResponseEntity.status(category.getStatusCode()).body(fieldset.apply(category.getBody()));
     }
 
+
    // Delete a category by ID
    @DeleteMapping("/pro5/category/{id}")
    public ResponseEntity<Void> deletePost(@PathVariable("id") String id) {
        log.debug("REST request to delete Category : {}", id);
 
        ResponseEntity<Void> deleteCategory = categoryClient.delete(id);
+       changeEventService.categoryChanged(id, ChangeEvent.Type.DELETED);
        return deleteCategory;
    }
-
-   
-   
 }
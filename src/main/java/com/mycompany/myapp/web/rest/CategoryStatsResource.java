@@ -0,0 +1,53 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.service.CatalogStatsService;
+import com.mycompany.myapp.service.dto.CategoryStatsDTO;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tech.jhipster.web.util.ResponseUtil;
+
+/**
+ * REST controller serving the item counts and price statistics of the categories, so that dashboards no longer load
+ * every category to count their items.
+ */
+@RestController
+@RequestMapping("/api")
+public class CategoryStatsResource {
+
+    private final Logger log = LoggerFactory.getLogger(CategoryStatsResource.class);
+
+    private final CatalogStatsService catalogStatsService;
+
+    public CategoryStatsResource(CatalogStatsService catalogStatsService) {
+        this.catalogStatsService = catalogStatsService;
+    }
+
+    /**
+     * {@code GET  /pro5/category/stats} : get the statistics of all the categories.
+     *
+     * @return the statistics of the categories by name, with zero counts for the categories without items.
+     */
+    @GetMapping("/pro5/category/stats")
+    public List<CategoryStatsDTO> getAllCategoryStats() {
+        log.debug("REST request to get the statistics of all Categories");
+        return catalogStatsService.findAll();
+    }
+
+    /**
+     * {@code GET  /pro5/category/:id/stats} : get the statistics of the "id" category.
+     *
+     * @param id the id of the category.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the statistics, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/pro5/category/{id}/stats")
+    public ResponseEntity<CategoryStatsDTO> getCategoryStats(@PathVariable String id) {
+        log.debug("REST request to get the statistics of Category : {}", id);
+        return ResponseUtil.wrapOrNotFound(catalogStatsService.findOne(id));
+    }
+}
@@ -0,0 +1,131 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.service.ChangeEventService;
+import com.mycompany.myapp.service.EntityChangeStreamService;
+import java.io.IOException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller serving the changes of items and categories, so that consumers read the changes since the last one
+ * they saw instead of the whole catalog.
+ */
+@RestController
+@RequestMapping("/api")
+public class ChangeFeedResource {
+
+    private final Logger log = LoggerFactory.getLogger(ChangeFeedResource.class);
+
+    private final ChangeEventService changeEventService;
+
+    private final EntityChangeStreamService entityChangeStreamService;
+
+    private final ApplicationProperties.ChangeFeed properties;
+
+    public ChangeFeedResource(
+        ChangeEventService changeEventService,
+        EntityChangeStreamService entityChangeStreamService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.changeEventService = changeEventService;
+        this.entityChangeStreamService = entityChangeStreamService;
+        this.properties = applicationProperties.getChangeFeed();
+    }
+
+    /**
+     * {@code GET  /pro5/changes} : get the changes following a sequence number, waiting for some if there are none yet.
+     *
+     * @param since the sequence number of the last change already read, 0 to read them from the start.
+     * @return the {@link DeferredResult} with the changes in order, or an empty list after the long poll timeout.
+     */
+    @GetMapping("/pro5/changes")
+    public DeferredResult<List<ChangeEvent>> getChanges(@RequestParam(defaultValue = "0") long since) {
+        log.debug("REST request to get the changes since : {}", since);
+        DeferredResult<List<ChangeEvent>> result = new DeferredResult<>(properties.getLongPollTimeout().toMillis(), List.of());
+        // the changes already recorded are delivered first, then the ones dispatched, without gaps
+        Runnable unsubscribe = changeEventService.subscribe(since, result::setResult);
+        result.onCompletion(unsubscribe);
+        return result;
+    }
+
+    /**
+     * {@code GET  /pro5/changes/stream} : stream the changes following a sequence number as server-sent events, named
+     * {@code change} and identified by their sequence number.
+     *
+     * @param since the sequence number of the last change already read, 0 to read them from the start.
+     * @param lastEventId the sequence number of the last change received, sent by reconnecting event sources.
+     * @return the {@link SseEmitter} of the changes.
+     */
+    @GetMapping(path = "/pro5/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+        @RequestParam(defaultValue = "0") long since,
+        @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId
+    ) {
+        log.debug("REST request to stream the changes since : {}", since);
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        Runnable unsubscribe = changeEventService.subscribe(
+            lastEventId != null ? lastEventId : since,
+            events -> {
+                try {
+                    for (ChangeEvent event : events) {
+                        emitter.send(SseEmitter.event().id(String.valueOf(event.getSequence())).name("change").data(event));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                }
+            }
+        );
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    /**
+     * {@code GET  /pro5/changes/live} : stream the changes from now on as server-sent events named after the type of
+     * the entity, with the entity as it is after the change, so that lists are updated in place.
+     * <p>
+     * Changes made while disconnected are not replayed: consumers reload their lists when they connect. The changes are
+     * sent from a queue of the stream's own, and a stream falling too far behind is completed, so that its consumer
+     * reconnects and reloads.
+     *
+     * @param entityType the type of the entities to stream the changes of, {@code item} or {@code category}, all if absent.
+     * @return the {@link SseEmitter} of the changes.
+     * @throws IOException if the stream cannot be opened.
+     */
+    @GetMapping(path = "/pro5/changes/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLiveChanges(@RequestParam(required = false) String entityType) throws IOException {
+        log.debug("REST request to stream the live changes of : {}", entityType);
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        Runnable unsubscribe = entityChangeStreamService.subscribeQueued(
+            change -> {
+                if (entityType != null && !entityType.equals(change.getEntityType())) {
+                    return;
+                }
+                try {
+                    emitter.send(SseEmitter.event().name(change.getEntityType()).data(change));
+                } catch (IOException | IllegalStateException e) {
+                    emitter.completeWithError(e);
+                }
+            },
+            emitter::complete
+        );
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        // commits the response, so that consumers know from when the changes are streamed
+        emitter.send(SseEmitter.event().comment("subscribed"));
+        return emitter;
+    }
+}
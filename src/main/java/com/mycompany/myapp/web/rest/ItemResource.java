@@ -1,22 +1,26 @@
 package com.mycompany.myapp.web.rest;
 
 import com.mycompany.myapp.domain.Category;
-import com.mycompany.myapp.domain.CreateInfo;
+import com.mycompany.myapp.domain.ChangeEvent;
 import com.mycompany.myapp.domain.Item;
 import com.mycompany.myapp.domain.RefType;
 import com.mycompany.myapp.domain.RefType.RefTo;
-import com.mycompany.myapp.domain.UpdateInfo;
 import com.mycompany.myapp.feign.CategoryClient;
 import com.mycompany.myapp.feign.ItemClient;
 import com.mycompany.myapp.repository.ItemRepository;
-import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.service.ChangeEventService;
+import com.mycompany.myapp.service.EntityInfoService;
+import com.mycompany.myapp.service.EntitySyncService;
 import com.mycompany.myapp.service.ItemService;
+import com.mycompany.myapp.service.dto.EntityChangesDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.errors.SyncExpiredException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.rmi.server.ObjID;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -25,8 +29,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.ResponseUtil;
@@ -42,6 +44,19 @@ public class ItemResource {
 
     private static final String ENTITY_NAME = "item";
 
+    static final Map<String, String> FIELDS = Map.of(
+        "name",
+        "name",
+        "price",
+        "price",
+        "category",
+        "category",
+        "create_info",
+        "create_info",
+        "update_info",
+        "update_info"
+    );
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -52,16 +67,28 @@ public class ItemResource {
     private final ItemClient itemClient;
 
     private final CategoryClient categoryClient;
-    private final UserRepository userRepository;
+    private final EntityInfoService entityInfoService;
+
+    private final ChangeEventService changeEventService;
 
-   
+    private final EntitySyncService entitySyncService;
 
-    public ItemResource(ItemService itemService, ItemRepository itemRepository, ItemClient itemClient,CategoryClient categoryClient,UserRepository userRepository) {
+    public ItemResource(
+        ItemService itemService,
+        ItemRepository itemRepository,
+        ItemClient itemClient,
+        CategoryClient categoryClient,
+        EntityInfoService entityInfoService,
+        ChangeEventService changeEventService,
+        EntitySyncService entitySyncService
+    ) {
         this.itemService = itemService;
         this.itemRepository = itemRepository;
         this.itemClient = itemClient;
         this.categoryClient = categoryClient;
-        this.userRepository = userRepository;
+        this.entityInfoService = entityInfoService;
+        this.changeEventService = changeEventService;
+        this.entitySyncService = entitySyncService;
     }
 
     @PostMapping("cat/{catId}/item")
@@ -82,7 +109,10 @@ public class ItemResource {
 
         
         item.setId(new ObjectId().toHexString());
-        return itemClient.save(item);
+        item.setUpdateInfo(entityInfoService.currentUpdateInfo());
+        ResponseEntity<Void> save = itemClient.save(item);
+        changeEventService.itemChanged(item.getId(), ChangeEvent.Type.CREATED);
+        return save;
     }
 
 
@@ -96,7 +126,9 @@ public class ItemResource {
             throw new BadRequestAlertException("ID in URL and request body must match", "Comment", "idnotmatch");
         }
 
+        item.setUpdateInfo(entityInfoService.currentUpdateInfo());
         ResponseEntity<Void> updateComment = itemClient.update(id, item);
+        changeEventService.itemChanged(id, ChangeEvent.Type.UPDATED);
         return updateComment;
     }
 
@@ -124,26 +156,53 @@ public class ItemResource {
     /**
      * {@code GET  /items} : get all the items.
      *
+     * @param fields the comma separated properties to return, all of them if absent.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of items in body.
      */
     @GetMapping("/pro5/item")
-    public ResponseEntity<List<Item>> getAllItems() {
+    public ResponseEntity<?> getAllItems(@RequestParam(required = false) String fields) {
         log.debug("REST request to get all Items");
-        ResponseEntity<List<Item>> item = itemClient.findAll();
-        return item;
+        SparseFieldset fieldset = SparseFieldset.parse(fields, FIELDS, ENTITY_NAME);
+        ResponseEntity<List<Item>> item = itemClient.findAll(fieldset.toProjection());
+        // the upstream Content-Type would otherwise override the format negotiated with the client
+        return ResponseEntity.status(item.getStatusCode()).body(fieldset.apply(item.getBody()));
+    }
+
+    /**
+     * {@code GET  /pro5/item/changes} : get a page of the items created, updated and deleted since the last sync.
+     *
+     * @param since the {@code until} date of the last sync, absent to get all the items.
+     * @param until the {@code until} date of the previous page, absent for the first page.
+     * @param after the {@code after} id of the previous page, absent for the first page.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the changes in body, or with status
+     * {@code 410 (Gone)} if the deletions since are no longer known and all the items must be loaded again.
+     */
+    @GetMapping("/pro5/item/changes")
+    public ResponseEntity<EntityChangesDTO<Item>> getItemChanges(
+        @RequestParam(required = false) Instant since,
+        @RequestParam(required = false) Instant until,
+        @RequestParam(required = false) String after
+    ) {
+        log.debug("REST request to get the Item changes since : {}, after : {}", since, after);
+        if (since != null && entitySyncService.isExpired(since)) {
+            throw new SyncExpiredException("The item deletions since " + since + " are no longer known, sync without since");
+        }
+        return ResponseEntity.ok(entitySyncService.findItemChanges(since, until, after));
     }
 
     /**
      * {@code GET  /items/:id} : get the "id" item.
      *
      * @param id the id of the item to retrieve.
+     * @param fields the comma separated properties to return, all of them if absent.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the item, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("pro5/item/{id}")
-    public ResponseEntity<Item> getItem(@PathVariable String id) {
+    public ResponseEntity<?> getItem(@PathVariable String id, @RequestParam(required = false) String fields) {
         log.debug("REST request to get Item : {}", id);
-        ResponseEntity<Item> item = itemClient.getById(id);
-        return item;
+        SparseFieldset fieldset = SparseFieldset.parse(fields, FIELDS, ENTITY_NAME);
+        ResponseEntity<Item> item = itemClient.getById(id, fieldset.toProjection());
+        return ResponseEntity.status(item.getStatusCode()).body(fieldset.apply(item.getBody()));
     }
 
     // Delete a category by ID
@@ -152,6 +211,7 @@ public class ItemResource {
        log.debug("REST request to delete Item : {}", id);
 
        ResponseEntity<Void> deleteItem = itemClient.delete(id);
+       changeEventService.itemChanged(id, ChangeEvent.Type.DELETED);
        return deleteItem;
    }
 
@@ -161,18 +221,8 @@ public class ItemResource {
     throws URISyntaxException{
       log.debug("REST request to add item : {} to Post : {}",item,categoryID);
 
-      Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-      String currentPrincipalName = authentication.getName();
-
-      item.setCreateInfo(CreateInfo.builder()
-              .user(new RefType(userRepository.findOneByLogin(currentPrincipalName).get().getId(), RefTo.User))
-              .createdDate(Instant.now())
-              .build());
-
-      item.setUpdateInfo(UpdateInfo.builder()
-              .user(new RefType(userRepository.findOneByLogin(currentPrincipalName).get().getId(), RefTo.User))
-              .lastModifiedDate(Instant.now())
-              .build());
+      item.setCreateInfo(entityInfoService.currentCreateInfo());
+      item.setUpdateInfo(entityInfoService.currentUpdateInfo());
 
       item.setId(new ObjectId().toHexString());
       item.setCategory(new RefType(new ObjectId().toHexString(),RefTo.category));
@@ -180,11 +230,14 @@ public class ItemResource {
       ResponseEntity<Void> addItemToCategory = itemClient.save(item);
       String location = addItemToCategory.getHeaders().get("Location").get(0);
       String itemid = location.substring(location.lastIndexOf("/") + 1);
+      changeEventService.itemChanged(itemid, ChangeEvent.Type.CREATED);
 
-      ResponseEntity<Category> byId = categoryClient.getById(categoryID);
+      ResponseEntity<Category> byId = categoryClient.getById(categoryID, null);
       Category category = byId.getBody();
       category.getItem().add(new RefType(new ObjectId(itemid).toHexString(), RefTo.item));
+      category.setUpdateInfo(entityInfoService.currentUpdateInfo());
       categoryClient.update(categoryID,category);
+      changeEventService.categoryChanged(categoryID, ChangeEvent.Type.UPDATED);
 
 
       return addItemToCategory;
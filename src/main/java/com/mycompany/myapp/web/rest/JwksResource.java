@@ -0,0 +1,42 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.security.jwt.JwtKeyManager;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller publishing the public keys used to sign JWT tokens, so that other services can verify them locally.
+ */
+@RestController
+@RequestMapping("/api")
+public class JwksResource {
+
+    private final JwtKeyManager jwtKeyManager;
+
+    private final long maxAgeInSeconds;
+
+    public JwksResource(JwtKeyManager jwtKeyManager, ApplicationProperties applicationProperties) {
+        this.jwtKeyManager = jwtKeyManager;
+        this.maxAgeInSeconds = applicationProperties.getSecurity().getJwt().getKeyRefreshPeriod().getSeconds();
+    }
+
+    /**
+     * {@code GET  /jwks} : get the JSON Web Key Set of the active signing keys.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the key set in body,
+     * empty when tokens are signed with the shared secret.
+     */
+    @GetMapping("/jwks")
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity
+            .ok()
+            .cacheControl(CacheControl.maxAge(maxAgeInSeconds, TimeUnit.SECONDS).cachePublic())
+            .body(jwtKeyManager.getJwks());
+    }
+}
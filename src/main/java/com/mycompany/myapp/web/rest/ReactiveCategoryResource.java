@@ -0,0 +1,76 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.service.ReactiveCategoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking REST controller reading {@link com.mycompany.myapp.domain.Category}, next to {@link CategoryResource}.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+public class ReactiveCategoryResource {
+
+    private final Logger log = LoggerFactory.getLogger(ReactiveCategoryResource.class);
+
+    private static final String ENTITY_NAME = "category";
+
+    private final ReactiveCategoryService reactiveCategoryService;
+
+    public ReactiveCategoryResource(ReactiveCategoryService reactiveCategoryService) {
+        this.reactiveCategoryService = reactiveCategoryService;
+    }
+
+    /**
+     * {@code GET  /reactive/pro5/category} : get all the categories.
+     *
+     * @param fields the comma separated properties to return, all of them if absent.
+     * @return the {@link Mono} of the list of categories.
+     */
+    @GetMapping("/pro5/category")
+    public Mono<?> getAllCategories(@RequestParam(required = false) String fields) {
+        log.debug("REST request to get all Categories, reactively");
+        SparseFieldset fieldset = SparseFieldset.parse(fields, CategoryResource.FIELDS, ENTITY_NAME);
+        return reactiveCategoryService.findAll(fieldset.toProjection()).collectList().map(fieldset::apply);
+    }
+
+    /**
+     * {@code GET  /reactive/pro5/category/stream} : stream all the categories as newline delimited JSON.
+     *
+     * @param fields the comma separated properties to return, all of them if absent.
+     * @return the {@link Flux} of categories.
+     */
+    @GetMapping(value = "/pro5/category/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<?> streamAllCategories(@RequestParam(required = false) String fields) {
+        log.debug("REST request to stream all Categories");
+        SparseFieldset fieldset = SparseFieldset.parse(fields, CategoryResource.FIELDS, ENTITY_NAME);
+        return reactiveCategoryService.findAll(fieldset.toProjection()).map(fieldset::apply);
+    }
+
+    /**
+     * {@code GET  /reactive/pro5/category/:id} : get the "id" category.
+     *
+     * @param id the id of the category to retrieve.
+     * @param fields the comma separated properties to return, all of them if absent.
+     * @return the {@link Mono} of the {@link ResponseEntity} with status {@code 200 (OK)} and with body the category, or
+     * with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/pro5/category/{id}")
+    public Mono<ResponseEntity<Object>> getCategory(@PathVariable String id, @RequestParam(required = false) String fields) {
+        log.debug("REST request to get Category : {}, reactively", id);
+        SparseFieldset fieldset = SparseFieldset.parse(fields, CategoryResource.FIELDS, ENTITY_NAME);
+        return reactiveCategoryService
+            .findOne(id, fieldset.toProjection())
+            .map(category -> ResponseEntity.ok(fieldset.apply(category)))
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
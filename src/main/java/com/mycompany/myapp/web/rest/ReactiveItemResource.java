@@ -0,0 +1,91 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.service.ReactiveItemService;
+import com.mycompany.myapp.service.dto.ItemDetailsDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking REST controller reading {@link com.mycompany.myapp.domain.Item}, next to {@link ItemResource}.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+public class ReactiveItemResource {
+
+    private final Logger log = LoggerFactory.getLogger(ReactiveItemResource.class);
+
+    private static final String ENTITY_NAME = "item";
+
+    private final ReactiveItemService reactiveItemService;
+
+    public ReactiveItemResource(ReactiveItemService reactiveItemService) {
+        this.reactiveItemService = reactiveItemService;
+    }
+
+    /**
+     * {@code GET  /reactive/pro5/item} : get all the items.
+     *
+     * @param fields the comma separated properties to return, all of them if absent.
+     * @return the {@link Mono} of the list of items.
+     */
+    @GetMapping("/pro5/item")
+    public Mono<?> getAllItems(@RequestParam(required = false) String fields) {
+        log.debug("REST request to get all Items, reactively");
+        SparseFieldset fieldset = SparseFieldset.parse(fields, ItemResource.FIELDS, ENTITY_NAME);
+        return reactiveItemService.findAll(fieldset.toProjection()).collectList().map(fieldset::apply);
+    }
+
+    /**
+     * {@code GET  /reactive/pro5/item/stream} : stream all the items as newline delimited JSON, written as RESTHeart
+     * returns them and as fast as the client reads them.
+     *
+     * @param fields the comma separated properties to return, all of them if absent.
+     * @return the {@link Flux} of items.
+     */
+    @GetMapping(value = "/pro5/item/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<?> streamAllItems(@RequestParam(required = false) String fields) {
+        log.debug("REST request to stream all Items");
+        SparseFieldset fieldset = SparseFieldset.parse(fields, ItemResource.FIELDS, ENTITY_NAME);
+        return reactiveItemService.findAll(fieldset.toProjection()).map(fieldset::apply);
+    }
+
+    /**
+     * {@code GET  /reactive/pro5/item/:id} : get the "id" item.
+     *
+     * @param id the id of the item to retrieve.
+     * @param fields the comma separated properties to return, all of them if absent.
+     * @return the {@link Mono} of the {@link ResponseEntity} with status {@code 200 (OK)} and with body the item, or with
+     * status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/pro5/item/{id}")
+    public Mono<ResponseEntity<Object>> getItem(@PathVariable String id, @RequestParam(required = false) String fields) {
+        log.debug("REST request to get Item : {}, reactively", id);
+        SparseFieldset fieldset = SparseFieldset.parse(fields, ItemResource.FIELDS, ENTITY_NAME);
+        return reactiveItemService
+            .findOne(id, fieldset.toProjection())
+            .map(item -> ResponseEntity.ok(fieldset.apply(item)))
+            .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * {@code GET  /reactive/pro5/item/:id/details} : get the "id" item with its category and creator.
+     *
+     * @param id the id of the item to retrieve.
+     * @return the {@link Mono} of the {@link ResponseEntity} with status {@code 200 (OK)} and with body the item details,
+     * or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/pro5/item/{id}/details")
+    public Mono<ResponseEntity<ItemDetailsDTO>> getItemDetails(@PathVariable String id) {
+        log.debug("REST request to get Item details : {}", id);
+        return reactiveItemService.findDetails(id).map(ResponseEntity::ok).defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,68 @@
+package com.mycompany.myapp.web.rest;
+
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.service.SearchService;
+import com.mycompany.myapp.service.dto.SearchResultDTO;
+import com.mycompany.myapp.service.dto.SuggestionDTO;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller searching the items and the categories, so that clients no longer download them all to filter them.
+ */
+@RestController
+@RequestMapping("/api")
+public class SearchResource {
+
+    private final Logger log = LoggerFactory.getLogger(SearchResource.class);
+
+    private static final String ENTITY_NAME = "search";
+
+    private final SearchService searchService;
+
+    public SearchResource(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * {@code GET  /pro5/search} : search the items by name, and the categories by name and description.
+     *
+     * @param q the words to search.
+     * @param size the number of items and of categories to return at most.
+     * @return the items and the categories matching the words, the most relevant first.
+     */
+    @GetMapping("/pro5/search")
+    public SearchResultDTO search(@RequestParam String q, @RequestParam(defaultValue = "20") int size) {
+        log.debug("REST request to search : {}", q);
+        if (q.isBlank() || size < 1) {
+            throw new BadRequestAlertException("Nothing to search", ENTITY_NAME, "searchempty");
+        }
+        return searchService.search(q, size);
+    }
+
+    /**
+     * {@code GET  /pro5/search/suggest} : complete the beginning of an item or category name, without querying MongoDB.
+     *
+     * @param prefix the beginning of a name, or of one of its words.
+     * @param entityType {@code item} or {@code category} to complete only their names, both if absent.
+     * @param size the number of names to return at most.
+     * @return the names completing the prefix.
+     */
+    @GetMapping("/pro5/search/suggest")
+    public List<SuggestionDTO> suggest(
+        @RequestParam String prefix,
+        @RequestParam(required = false) String entityType,
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        if (entityType != null && !ChangeEvent.ITEM.equals(entityType) && !ChangeEvent.CATEGORY.equals(entityType)) {
+            throw new BadRequestAlertException("Unknown entity type " + entityType, ENTITY_NAME, "entitytypeinvalid");
+        }
+        return searchService.suggest(prefix, entityType, size);
+    }
+}
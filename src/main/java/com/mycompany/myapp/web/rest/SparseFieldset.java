@@ -0,0 +1,95 @@
+package com.mycompany.myapp.web.rest;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+/**
+ * Fields requested with the {@code fields} query parameter of a read endpoint, such as {@code fields=name,price}.
+ * <p>
+ * The fields are turned into a Mongo projection for the upstream query, and into a Jackson filter for the response, so
+ * that neither the database nor the client transfer the other fields. The {@code _id} field is always included.
+ * The filter applies to the types mixed in with {@link MixIn}, see {@link com.mycompany.myapp.config.JacksonConfiguration}.
+ */
+public final class SparseFieldset {
+
+    public static final String FILTER_ID = "sparseFieldset";
+
+    private static final String ID_FIELD = "_id";
+
+    /**
+     * Marks a type as filtered by the {@code fields} query parameter, through a Jackson mix-in.
+     */
+    @JsonFilter(FILTER_ID)
+    public abstract static class MixIn {}
+
+    private static final SparseFieldset ALL = new SparseFieldset(null);
+
+    private final Map<String, String> mongoFieldsByProperty;
+
+    private SparseFieldset(Map<String, String> mongoFieldsByProperty) {
+        this.mongoFieldsByProperty = mongoFieldsByProperty;
+    }
+
+    /**
+     * @param fields the comma separated JSON property names, or Mongo field names, to include, all of them if {@code null}.
+     * @param mongoFieldsByProperty the Mongo field names of the JSON properties that can be selected.
+     * @param entityName the name of the entity, for the error reported on unknown fields.
+     * @return the parsed fieldset.
+     * @throws BadRequestAlertException if a field is unknown.
+     */
+    public static SparseFieldset parse(String fields, Map<String, String> mongoFieldsByProperty, String entityName) {
+        if (fields == null) {
+            return ALL;
+        }
+        Map<String, String> selected = new LinkedHashMap<>();
+        selected.put(ID_FIELD, ID_FIELD);
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty() || ID_FIELD.equals(name)) {
+                continue;
+            }
+            String property = mongoFieldsByProperty.containsKey(name)
+                ? name
+                : mongoFieldsByProperty
+                    .entrySet()
+                    .stream()
+                    .filter(entry -> entry.getValue().equals(name))
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElseThrow(() -> new BadRequestAlertException("Unknown field " + name, entityName, "unknownfield"));
+            selected.put(property, mongoFieldsByProperty.get(property));
+        }
+        return new SparseFieldset(selected);
+    }
+
+    /**
+     * @return the Mongo projection of the selected fields, such as {@code {"_id":1,"name":1}}, or {@code null} for all.
+     */
+    public String toProjection() {
+        if (mongoFieldsByProperty == null) {
+            return null;
+        }
+        return mongoFieldsByProperty.values().stream().map(field -> "\"" + field + "\":1").collect(Collectors.joining(",", "{", "}"));
+    }
+
+    /**
+     * @param body the response body.
+     * @return the body with the Jackson filter keeping only the selected properties, or the body itself for all.
+     */
+    public Object apply(Object body) {
+        if (mongoFieldsByProperty == null || body == null) {
+            return body;
+        }
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(
+            new SimpleFilterProvider().addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(mongoFieldsByProperty.keySet()))
+        );
+        return value;
+    }
+}
@@ -1,17 +1,34 @@
 package com.mycompany.myapp.web.rest;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.LoginMetersService;
+import com.mycompany.myapp.security.LoginAttemptThrottler;
 import com.mycompany.myapp.security.jwt.JWTFilter;
 import com.mycompany.myapp.security.jwt.TokenProvider;
+import com.mycompany.myapp.security.jwt.TokenRevocationService;
+import com.mycompany.myapp.web.rest.errors.TooManyRequestsException;
 import com.mycompany.myapp.web.rest.vm.LoginVM;
+import com.mycompany.myapp.web.rest.vm.RefreshTokenVM;
+import io.jsonwebtoken.Claims;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -21,39 +38,164 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api")
 public class UserJWTController {
 
+    private static final String INVALID_REFRESH_TOKEN = "Invalid refresh token";
+
     private final TokenProvider tokenProvider;
 
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
 
-    public UserJWTController(TokenProvider tokenProvider, AuthenticationManagerBuilder authenticationManagerBuilder) {
+    private final UserDetailsService userDetailsService;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    private final LoginAttemptThrottler loginAttemptThrottler;
+
+    private final LoginMetersService loginMetersService;
+
+    private final ExecutorService passwordHashingExecutor;
+
+    private final boolean refreshTokenEnabled;
+
+    public UserJWTController(
+        TokenProvider tokenProvider,
+        AuthenticationManagerBuilder authenticationManagerBuilder,
+        UserDetailsService userDetailsService,
+        TokenRevocationService tokenRevocationService,
+        LoginAttemptThrottler loginAttemptThrottler,
+        LoginMetersService loginMetersService,
+        @Qualifier("passwordHashingExecutor") ExecutorService passwordHashingExecutor,
+        ApplicationProperties applicationProperties
+    ) {
         this.tokenProvider = tokenProvider;
         this.authenticationManagerBuilder = authenticationManagerBuilder;
+        this.userDetailsService = userDetailsService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.loginAttemptThrottler = loginAttemptThrottler;
+        this.loginMetersService = loginMetersService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.refreshTokenEnabled = applicationProperties.getSecurity().getRefreshToken().isEnabled();
     }
 
+    /**
+     * {@code POST  /authenticate} : authenticate a user.
+     * <p>
+     * Attempts are throttled per login and per IP address, and the password check runs on a dedicated bounded
+     * executor, so that a flood of logins does not starve the request handling threads of the other endpoints.
+     *
+     * @param loginVM the credentials.
+     * @param request the request, to throttle by IP address.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the tokens in body.
+     * @throws TooManyRequestsException {@code 429 (Too Many Requests)} if the attempt is throttled or the executor is
+     * saturated.
+     */
     @PostMapping("/authenticate")
-    public ResponseEntity<JWTToken> authorize(@Valid @RequestBody LoginVM loginVM) {
+    public CompletableFuture<ResponseEntity<JWTToken>> authorize(@Valid @RequestBody LoginVM loginVM, HttpServletRequest request) {
+        Duration retryAfter = loginAttemptThrottler.tryAcquire(loginVM.getUsername(), loginAttemptThrottler.clientAddress(request));
+        if (!retryAfter.isZero()) {
+            loginMetersService.trackLoginThrottled();
+            throw new TooManyRequestsException("Too many authentication attempts", retryAfter);
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> authenticate(loginVM), passwordHashingExecutor);
+        } catch (RejectedExecutionException e) {
+            loginMetersService.trackLoginRejected();
+            throw new TooManyRequestsException("Too many concurrent authentication attempts", Duration.ofSeconds(1));
+        }
+    }
+
+    private ResponseEntity<JWTToken> authenticate(LoginVM loginVM) {
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
             loginVM.getUsername(),
             loginVM.getPassword()
         );
 
-        Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+        Authentication authentication;
+        try {
+            authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        } catch (AuthenticationException e) {
+            loginMetersService.trackLoginFailure();
+            throw e;
+        }
+        loginMetersService.trackLoginSuccess();
+        if (refreshTokenEnabled) {
+            String jwt = tokenProvider.createToken(authentication, false);
+            return tokenResponse(jwt, tokenProvider.createRefreshToken(authentication, loginVM.isRememberMe()));
+        }
         String jwt = tokenProvider.createToken(authentication, loginVM.isRememberMe());
+        return tokenResponse(jwt, null);
+    }
+
+    /**
+     * {@code POST  /authenticate/refresh} : exchange a refresh token for a new access token, without re-checking
+     * the user credentials.
+     * <p>
+     * The refresh token is rotated: the presented one is revoked and a new one expiring at the same date is returned,
+     * so that replaying a stolen refresh token fails once it has been used. The user is loaded again, so that the new
+     * tokens carry the current authorities, and deleted or deactivated users can no longer refresh.
+     *
+     * @param refreshTokenVM the refresh token.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the new tokens in body.
+     * @throws BadCredentialsException {@code 401 (Unauthorized)} if the refresh token is invalid, expired or revoked, or
+     * if its user no longer exists or is no longer activated.
+     */
+    @PostMapping("/authenticate/refresh")
+    public ResponseEntity<JWTToken> refresh(@Valid @RequestBody RefreshTokenVM refreshTokenVM) {
+        Claims claims = tokenProvider
+            .parseRefreshToken(refreshTokenVM.getRefreshToken())
+            .orElseThrow(() -> new BadCredentialsException(INVALID_REFRESH_TOKEN));
+        if (!tokenRevocationService.revoke(claims.getId(), claims.getExpiration().toInstant())) {
+            // concurrently exchanged by another request
+            throw new BadCredentialsException(INVALID_REFRESH_TOKEN);
+        }
+        UserDetails user;
+        try {
+            user = userDetailsService.loadUserByUsername(claims.getSubject());
+        } catch (AuthenticationException e) {
+            throw new BadCredentialsException(INVALID_REFRESH_TOKEN, e);
+        }
+        Authentication authentication = new UsernamePasswordAuthenticationToken(user, "", user.getAuthorities());
+        String jwt = tokenProvider.createToken(authentication, false);
+        return tokenResponse(jwt, tokenProvider.createRefreshToken(authentication, claims.getExpiration()));
+    }
+
+    /**
+     * {@code POST  /authenticate/revoke} : revoke a refresh token, and the access token of the request if any.
+     *
+     * @param refreshTokenVM the refresh token.
+     * @param authorization the {@code Authorization} header of the request.
+     * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
+     */
+    @PostMapping("/authenticate/revoke")
+    public ResponseEntity<Void> revoke(
+        @Valid @RequestBody RefreshTokenVM refreshTokenVM,
+        @RequestHeader(name = JWTFilter.AUTHORIZATION_HEADER, required = false) String authorization
+    ) {
+        tokenProvider.revokeToken(refreshTokenVM.getRefreshToken());
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            tokenProvider.revokeToken(authorization.substring(7));
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<JWTToken> tokenResponse(String jwt, String refreshToken) {
         HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.add(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + jwt);
-        return new ResponseEntity<>(new JWTToken(jwt), httpHeaders, HttpStatus.OK);
+        return new ResponseEntity<>(new JWTToken(jwt, refreshToken), httpHeaders, HttpStatus.OK);
     }
 
     /**
      * Object to return as body in JWT Authentication.
      */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     static class JWTToken {
 
         private String idToken;
 
-        JWTToken(String idToken) {
+        private String refreshToken;
+
+        JWTToken(String idToken, String refreshToken) {
             this.idToken = idToken;
+            this.refreshToken = refreshToken;
         }
 
         @JsonProperty("id_token")
@@ -64,5 +206,14 @@ public class UserJWTController {
         void setIdToken(String idToken) {
             this.idToken = idToken;
         }
+
+        @JsonProperty("refresh_token")
+        String getRefreshToken() {
+            return refreshToken;
+        }
+
+        void setRefreshToken(String refreshToken) {
+            this.refreshToken = refreshToken;
+        }
     }
 }
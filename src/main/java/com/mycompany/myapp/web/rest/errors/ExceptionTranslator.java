@@ -1,6 +1,9 @@
 package com.mycompany.myapp.web.rest.errors;
 
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -14,6 +17,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
 import org.springframework.validation.BindingResult;
@@ -47,6 +51,9 @@ public class ExceptionTranslator implements ProblemHandling, SecurityAdviceTrait
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
+    @Value("${application.feign.circuit-breaker.wait-duration-in-open-state:PT10S}")
+    private Duration circuitBreakerWaitDuration;
+
     private final Environment env;
 
     public ExceptionTranslator(Environment env) {
@@ -158,6 +165,33 @@ public class ExceptionTranslator implements ProblemHandling, SecurityAdviceTrait
         );
     }
 
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleTooManyRequestsException(TooManyRequestsException ex, NativeWebRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000)));
+        return create(ex, request, headers);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleCallNotPermittedException(CallNotPermittedException ex, NativeWebRequest request) {
+        return createServiceUnavailable(ex, request, circuitBreakerWaitDuration);
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleBulkheadFullException(BulkheadFullException ex, NativeWebRequest request) {
+        return createServiceUnavailable(ex, request, Duration.ofSeconds(1));
+    }
+
+    /**
+     * A backend rejected the call without sending it, the client may retry after the given delay.
+     */
+    private ResponseEntity<Problem> createServiceUnavailable(Throwable ex, NativeWebRequest request, Duration retryAfter) {
+        Problem problem = Problem.builder().withStatus(Status.SERVICE_UNAVAILABLE).withDetail(ex.getMessage()).build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfter.toMillis() + 999) / 1000)));
+        return create(ex, problem, request, headers);
+    }
+
     @ExceptionHandler
     public ResponseEntity<Problem> handleConcurrencyFailure(ConcurrencyFailureException ex, NativeWebRequest request) {
         Problem problem = Problem.builder().withStatus(Status.CONFLICT).with(MESSAGE_KEY, ErrorConstants.ERR_CONCURRENCY_FAILURE).build();
@@ -0,0 +1,13 @@
+package com.mycompany.myapp.web.rest.errors;
+
+import org.zalando.problem.AbstractThrowableProblem;
+import org.zalando.problem.Status;
+
+public class SyncExpiredException extends AbstractThrowableProblem {
+
+    private static final long serialVersionUID = 1L;
+
+    public SyncExpiredException(String detail) {
+        super(ErrorConstants.DEFAULT_TYPE, "Sync expired", Status.GONE, detail);
+    }
+}
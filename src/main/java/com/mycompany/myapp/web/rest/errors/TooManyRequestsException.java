@@ -0,0 +1,21 @@
+package com.mycompany.myapp.web.rest.errors;
+
+import java.time.Duration;
+import org.zalando.problem.AbstractThrowableProblem;
+import org.zalando.problem.Status;
+
+public class TooManyRequestsException extends AbstractThrowableProblem {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Duration retryAfter;
+
+    public TooManyRequestsException(String detail, Duration retryAfter) {
+        super(ErrorConstants.DEFAULT_TYPE, "Too many requests", Status.TOO_MANY_REQUESTS, detail);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -4,7 +4,16 @@ import configureStore from 'redux-mock-store';
 import thunk from 'redux-thunk';
 import sinon from 'sinon';
 
-import reducer, { createEntity, deleteEntity, getEntities, getEntity, updateEntity, partialUpdateEntity, reset } from './category.reducer';
+import reducer, {
+  createEntity,
+  deleteEntity,
+  getEntities,
+  getEntity,
+  updateEntity,
+  partialUpdateEntity,
+  reset,
+  entityChanged,
+} from './category.reducer';
 import { EntityState } from 'app/shared/reducers/reducer.utils';
 import { ICategory, defaultValue } from 'app/shared/model/category.model';
 
@@ -151,11 +160,36 @@ describe('Entities reducer tests', () => {
       });
     });
 
+    it('should apply entity changes to the list', () => {
+      const state = { ...initialState, entities: [{ id: 'a' }, { id: 'b' }] };
+      const updated = reducer(state, entityChanged({ type: 'UPDATED', entityType: 'category', id: 'a', entity: { name: 'A' } }));
+      const created = reducer(updated, entityChanged({ type: 'CREATED', entityType: 'category', id: 'c', entity: { name: 'C' } }));
+      const deleted = reducer(created, entityChanged({ type: 'DELETED', entityType: 'category', id: 'b', entity: null }));
+
+      expect(deleted.entities).toEqual([
+        { id: 'a', name: 'A' },
+        { id: 'c', name: 'C' },
+      ]);
+    });
+
+    it('should apply the saved and deleted entities to the list', () => {
+      const state = { ...initialState, entities: [{ id: 'a' }, { id: 'b' }] };
+      const updated = reducer(state, { type: updateEntity.fulfilled.type, payload: { data: { id: 'a', name: 'A' } } });
+      const created = reducer(updated, { type: createEntity.fulfilled.type, payload: { data: { id: 'c', name: 'C' } } });
+      const deleted = reducer(created, { type: deleteEntity.fulfilled.type, payload: {}, meta: { arg: 'b' } });
+
+      expect(deleted.entities).toEqual([
+        { id: 'a', name: 'A' },
+        { id: 'c', name: 'C' },
+      ]);
+    });
+
     it('should delete entity', () => {
       const payload = 'fake payload';
       const toTest = reducer(undefined, {
         type: deleteEntity.fulfilled.type,
         payload,
+        meta: { arg: 42 },
       });
       expect(toTest).toMatchObject({
         updating: false,
@@ -213,9 +247,6 @@ describe('Entities reducer tests', () => {
         {
           type: createEntity.pending.type,
         },
-        {
-          type: getEntities.pending.type,
-        },
         {
           type: createEntity.fulfilled.type,
           payload: resolvedObject,
@@ -224,7 +255,6 @@ describe('Entities reducer tests', () => {
       await store.dispatch(createEntity({ id: 'CBA' }));
       expect(store.getActions()[0]).toMatchObject(expectedActions[0]);
       expect(store.getActions()[1]).toMatchObject(expectedActions[1]);
-      expect(store.getActions()[2]).toMatchObject(expectedActions[2]);
     });
 
     it('dispatches UPDATE_CATEGORY actions', async () => {
@@ -232,9 +262,6 @@ describe('Entities reducer tests', () => {
         {
           type: updateEntity.pending.type,
         },
-        {
-          type: getEntities.pending.type,
-        },
         {
           type: updateEntity.fulfilled.type,
           payload: resolvedObject,
@@ -243,7 +270,6 @@ describe('Entities reducer tests', () => {
       await store.dispatch(updateEntity({ id: 'CBA' }));
       expect(store.getActions()[0]).toMatchObject(expectedActions[0]);
       expect(store.getActions()[1]).toMatchObject(expectedActions[1]);
-      expect(store.getActions()[2]).toMatchObject(expectedActions[2]);
     });
 
     it('dispatches PARTIAL_UPDATE_CATEGORY actions', async () => {
@@ -251,9 +277,6 @@ describe('Entities reducer tests', () => {
         {
           type: partialUpdateEntity.pending.type,
         },
-        {
-          type: getEntities.pending.type,
-        },
         {
           type: partialUpdateEntity.fulfilled.type,
           payload: resolvedObject,
@@ -262,7 +285,6 @@ describe('Entities reducer tests', () => {
       await store.dispatch(partialUpdateEntity({ id: 'ABC' }));
       expect(store.getActions()[0]).toMatchObject(expectedActions[0]);
       expect(store.getActions()[1]).toMatchObject(expectedActions[1]);
-      expect(store.getActions()[2]).toMatchObject(expectedActions[2]);
     });
 
     it('dispatches DELETE_CATEGORY actions', async () => {
@@ -270,9 +292,6 @@ describe('Entities reducer tests', () => {
         {
           type: deleteEntity.pending.type,
         },
-        {
-          type: getEntities.pending.type,
-        },
         {
           type: deleteEntity.fulfilled.type,
           payload: resolvedObject,
@@ -281,7 +300,6 @@ describe('Entities reducer tests', () => {
       await store.dispatch(deleteEntity(42666));
       expect(store.getActions()[0]).toMatchObject(expectedActions[0]);
       expect(store.getActions()[1]).toMatchObject(expectedActions[1]);
-      expect(store.getActions()[2]).toMatchObject(expectedActions[2]);
     });
 
     it('dispatches RESET actions', async () => {
@@ -1,7 +1,8 @@
 import axios from 'axios';
-import { createAsyncThunk, isFulfilled, isPending, isRejected } from '@reduxjs/toolkit';
+import { createAsyncThunk, isFulfilled, isPending, isRejected, PayloadAction } from '@reduxjs/toolkit';
 
 import { cleanEntity } from 'app/shared/util/entity-utils';
+import { IEntityChange, applyEntityChange } from 'app/shared/util/entity-changes';
 import { IQueryParams, createEntitySlice, EntityState, serializeAxiosError } from 'app/shared/reducers/reducer.utils';
 import { IItem, defaultValue } from 'app/shared/model/item.model';
 
@@ -34,9 +35,8 @@ export const getEntity = createAsyncThunk(
 
 export const createEntity = createAsyncThunk(
   'item/create_entity',
-  async (entity: IItem, thunkAPI) => {
+  async (entity: IItem) => {
     const result = await axios.post<IItem>(apiUrl, cleanEntity(entity));
-    thunkAPI.dispatch(getEntities({}));
     return result;
   },
   { serializeError: serializeAxiosError }
@@ -44,9 +44,8 @@ export const createEntity = createAsyncThunk(
 
 export const updateEntity = createAsyncThunk(
   'item/update_entity',
-  async (entity: IItem, thunkAPI) => {
+  async (entity: IItem) => {
     const result = await axios.put<IItem>(`${apiUrl}/${entity.id}`, cleanEntity(entity));
-    thunkAPI.dispatch(getEntities({}));
     return result;
   },
   { serializeError: serializeAxiosError }
@@ -54,9 +53,8 @@ export const updateEntity = createAsyncThunk(
 
 export const partialUpdateEntity = createAsyncThunk(
   'item/partial_update_entity',
-  async (entity: IItem, thunkAPI) => {
+  async (entity: IItem) => {
     const result = await axios.patch<IItem>(`${apiUrl}/${entity.id}`, cleanEntity(entity));
-    thunkAPI.dispatch(getEntities({}));
     return result;
   },
   { serializeError: serializeAxiosError }
@@ -64,10 +62,9 @@ export const partialUpdateEntity = createAsyncThunk(
 
 export const deleteEntity = createAsyncThunk(
   'item/delete_entity',
-  async (id: string | number, thunkAPI) => {
+  async (id: string | number) => {
     const requestUrl = `${apiUrl}/${id}`;
     const result = await axios.delete<IItem>(requestUrl);
-    thunkAPI.dispatch(getEntities({}));
     return result;
   },
   { serializeError: serializeAxiosError }
@@ -78,16 +75,26 @@ export const deleteEntity = createAsyncThunk(
 export const ItemSlice = createEntitySlice({
   name: 'item',
   initialState,
+  reducers: {
+    /**
+     * Apply a change streamed by the server to the list, instead of fetching it again
+     */
+    entityChanged(state, action: PayloadAction<IEntityChange<IItem>>) {
+      applyEntityChange(state.entities, action.payload);
+    },
+  },
   extraReducers(builder) {
     builder
       .addCase(getEntity.fulfilled, (state, action) => {
         state.loading = false;
         state.entity = action.payload.data;
       })
-      .addCase(deleteEntity.fulfilled, state => {
+      .addCase(deleteEntity.fulfilled, (state, action) => {
         state.updating = false;
         state.updateSuccess = true;
         state.entity = {};
+        // the list is not fetched again, the change may also be streamed: applying it twice is harmless
+        applyEntityChange(state.entities, { type: 'DELETED', entityType: 'item', id: String(action.meta.arg) });
       })
       .addMatcher(isFulfilled(getEntities), (state, action) => {
         const { data } = action.payload;
@@ -103,6 +110,14 @@ export const ItemSlice = createEntitySlice({
         state.loading = false;
         state.updateSuccess = true;
         state.entity = action.payload.data;
+        if (action.payload.data?.id) {
+          applyEntityChange(state.entities, {
+            type: 'UPDATED',
+            entityType: 'item',
+            id: action.payload.data.id,
+            entity: action.payload.data,
+          });
+        }
       })
       .addMatcher(isPending(getEntities, getEntity), state => {
         state.errorMessage = null;
@@ -117,7 +132,7 @@ export const ItemSlice = createEntitySlice({
   },
 });
 
-export const { reset } = ItemSlice.actions;
+export const { reset, entityChanged } = ItemSlice.actions;
 
 // Reducer
 export default ItemSlice.reducer;
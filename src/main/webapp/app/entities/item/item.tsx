@@ -8,7 +8,8 @@ import { APP_DATE_FORMAT, APP_LOCAL_DATE_FORMAT } from 'app/config/constants';
 import { useAppDispatch, useAppSelector } from 'app/config/store';
 
 import { IItem } from 'app/shared/model/item.model';
-import { getEntities } from './item.reducer';
+import { subscribeToEntityChanges } from 'app/shared/util/entity-changes';
+import { getEntities, entityChanged } from './item.reducer';
 
 export const Item = (props: RouteComponentProps<{ url: string }>) => {
   const dispatch = useAppDispatch();
@@ -17,7 +18,14 @@ export const Item = (props: RouteComponentProps<{ url: string }>) => {
   const loading = useAppSelector(state => state.item.loading);
 
   useEffect(() => {
-    dispatch(getEntities({}));
+    // the entities are loaded once the stream is open, so that no change made in between is lost
+    return subscribeToEntityChanges<IItem>(
+      'item',
+      () => dispatch(getEntities({})),
+      change => dispatch(entityChanged(change)),
+      // loaded through axios anyway, to report the error as any request does
+      () => dispatch(getEntities({}))
+    );
   }, []);
 
   const handleSyncList = () => {
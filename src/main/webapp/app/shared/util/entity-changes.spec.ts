@@ -0,0 +1,41 @@
+import { parseServerSentEvents, subscribeToEntityChanges } from './entity-changes';
+
+describe('Entity changes', () => {
+  describe('parseServerSentEvents', () => {
+    it('should read the data of the complete events', () => {
+      const { data, rest } = parseServerSentEvents('event:item\ndata:{"id":"a"}\n\n:subscribed\n\nevent:item\ndata: {"id"');
+
+      expect(data).toEqual(['{"id":"a"}']);
+      expect(rest).toEqual('event:item\ndata: {"id"');
+    });
+
+    it('should join the data lines of an event', () => {
+      const { data, rest } = parseServerSentEvents('data: {\r\ndata: "id":"a"}\r\n\r\n');
+
+      expect(data).toEqual(['{\n"id":"a"}']);
+      expect(rest).toEqual('');
+    });
+  });
+
+  describe('subscribeToEntityChanges', () => {
+    const fetch = global.fetch;
+
+    afterEach(() => {
+      global.fetch = fetch;
+    });
+
+    it('should report a refused stream without connecting again', async () => {
+      global.fetch = jest.fn().mockResolvedValue({ ok: false, status: 401 });
+      const onOpen = jest.fn();
+      const onDenied = jest.fn();
+
+      const close = subscribeToEntityChanges('item', onOpen, jest.fn(), onDenied);
+      await new Promise(resolve => setTimeout(resolve, 0));
+      close();
+
+      expect(onDenied).toHaveBeenCalledWith(401);
+      expect(onOpen).not.toHaveBeenCalled();
+      expect(global.fetch).toHaveBeenCalledTimes(1);
+    });
+  });
+});
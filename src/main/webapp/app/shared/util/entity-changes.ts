@@ -0,0 +1,109 @@
+import { Storage } from 'react-jhipster';
+
+export type EntityChangeType = 'CREATED' | 'UPDATED' | 'DELETED';
+
+export interface IEntityChange<T> {
+  type: EntityChangeType;
+  entityType: string;
+  id: string;
+  entity?: T | null;
+}
+
+const RECONNECT_DELAY = 5 * 1000;
+
+/**
+ * Applies a change to a list of entities: replaces or adds the entity, or removes it.
+ */
+export const applyEntityChange = <T extends { id?: string | number }>(entities: T[], { type, id, entity }: IEntityChange<T>) => {
+  const index = entities.findIndex(e => e.id === id);
+  if (type === 'DELETED') {
+    if (index >= 0) {
+      entities.splice(index, 1);
+    }
+  } else if (index >= 0) {
+    entities[index] = { ...entity, id };
+  } else {
+    entities.push({ ...entity, id });
+  }
+};
+
+/**
+ * Reads the data of the complete server-sent events of a chunk of an event stream.
+ * Returns the data of the events, and what is left of the chunk for the next one.
+ */
+export const parseServerSentEvents = (chunk: string): { data: string[]; rest: string } => {
+  const events = chunk.split(/\r?\n\r?\n/);
+  const rest = events.pop();
+  const data = events
+    .map(event =>
+      event
+        .split(/\r?\n/)
+        .filter(line => line.startsWith('data:'))
+        .map(line => line.substring(line.startsWith('data: ') ? 6 : 5))
+        .join('\n')
+    )
+    .filter(eventData => eventData.length > 0);
+  return { data, rest };
+};
+
+/**
+ * Listens to the changes of an entity type streamed by the server, and connects again when the stream ends.
+ * The stream is read with fetch, as an EventSource cannot send the authorization header.
+ * Changes made while disconnected are not replayed: onOpen is called on each connection, the first one included, to
+ * load the entities once the changes are streamed. When the stream is refused with a 401 or a 403, onDenied is called
+ * with the status and the stream is not connected again.
+ *
+ * @returns the callback closing the stream.
+ */
+export const subscribeToEntityChanges = <T>(
+  entityType: string,
+  onOpen: () => void,
+  onChange: (change: IEntityChange<T>) => void,
+  onDenied: (status: number) => void
+): (() => void) => {
+  let controller: AbortController = null;
+  let timer: ReturnType<typeof setTimeout> = null;
+  let closed = false;
+
+  const connect = async () => {
+    controller = new AbortController();
+    const token = Storage.local.get('jhi-authenticationToken') || Storage.session.get('jhi-authenticationToken');
+    const headers: Record<string, string> = { Accept: 'text/event-stream' };
+    if (token) {
+      headers.Authorization = `Bearer ${token}`;
+    }
+    try {
+      const response = await fetch(`${SERVER_API_URL}api/pro5/changes/live?entityType=${entityType}`, {
+        headers,
+        signal: controller.signal,
+      });
+      if (response.status === 401 || response.status === 403) {
+        onDenied(response.status);
+        return;
+      }
+      if (response.ok) {
+        onOpen();
+        const reader = response.body.getReader();
+        const decoder = new TextDecoder();
+        let buffer = '';
+        for (let read = await reader.read(); !read.done; read = await reader.read()) {
+          const { data, rest } = parseServerSentEvents(buffer + decoder.decode(read.value, { stream: true }));
+          buffer = rest;
+          data.forEach(eventData => onChange(JSON.parse(eventData)));
+        }
+      }
+    } catch (e) {
+      // connects again below, unless closed
+    }
+    if (!closed) {
+      timer = setTimeout(connect, RECONNECT_DELAY);
+    }
+  };
+
+  connect();
+  return () => {
+    closed = true;
+    clearTimeout(timer);
+    controller.abort();
+  };
+};
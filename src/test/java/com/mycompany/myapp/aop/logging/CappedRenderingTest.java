@@ -0,0 +1,56 @@
+package com.mycompany.myapp.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CappedRenderingTest {
+
+    @Test
+    void testShortValuesAreRenderedWhole() {
+        assertThat(CappedRendering.of(new Object[] { "login", 42, null }, 256)).hasToString("[login, 42, null]");
+        assertThat(CappedRendering.of(List.of(1, 2), 256)).hasToString("[1, 2]");
+        assertThat(CappedRendering.of(new int[] { 1, 2 }, 256)).hasToString("[1, 2]");
+        assertThat(CappedRendering.of(null, 256)).hasToString("null");
+    }
+
+    @Test
+    void testLongStringIsTruncated() {
+        assertThat(CappedRendering.of("abcdefghij", 4)).hasToString("abcd...");
+    }
+
+    @Test
+    void testElementCountFollowsTheLastCompleteElement() {
+        assertThat(CappedRendering.of(List.of("abc", "def", "ghi"), 9)).hasToString("[abc, def... (3 elements)]");
+    }
+
+    @Test
+    void testElementsBeyondTheMaximumLengthAreNotRendered() {
+        List<Object> elements = new ArrayList<>(Collections.nCopies(1000, "element"));
+        elements.add(
+            new Object() {
+                @Override
+                public String toString() {
+                    throw new AssertionError("should not be rendered");
+                }
+            }
+        );
+
+        assertThat(CappedRendering.of(elements, 20)).hasToString("[element, element, e... (1001 elements)]");
+    }
+
+    @Test
+    void testRenderingIsLazy() {
+        Object value = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("should not be rendered");
+            }
+        };
+
+        CappedRendering.of(value, 256);
+    }
+}
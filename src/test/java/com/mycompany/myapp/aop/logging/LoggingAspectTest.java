@@ -0,0 +1,113 @@
+package com.mycompany.myapp.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.config.LoggingAspectConfiguration;
+import com.mycompany.myapp.repository.CategoryRepository;
+import com.mycompany.myapp.repository.ItemRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.mock.env.MockEnvironment;
+
+class LoggingAspectTest {
+
+    private final LoggingAspect loggingAspect = new LoggingAspect(
+        new MockEnvironment(),
+        Map.of("com.mycompany.myapp.repository", 0.1, "com.mycompany.myapp.repository.ItemRepository", 0.0),
+        1,
+        256
+    );
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ItemRepository.class);
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private Level level;
+
+    @BeforeEach
+    public void setup() {
+        level = logger.getLevel();
+        logger.setLevel(Level.DEBUG);
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    public void teardown() {
+        logger.detachAppender(appender);
+        logger.setLevel(level);
+    }
+
+    @Test
+    void testLongestPrefixSamplingRateApplies() {
+        assertThat(loggingAspect.samplingRate("com.mycompany.myapp.repository.ItemRepository")).isZero();
+        assertThat(loggingAspect.samplingRate("com.mycompany.myapp.repository.UserRepository")).isEqualTo(0.1);
+        assertThat(loggingAspect.samplingRate("com.mycompany.myapp.repository.ItemRepositoryCustom")).isEqualTo(0.1);
+    }
+
+    @Test
+    void testDefaultSamplingRateApplies() {
+        assertThat(loggingAspect.samplingRate("com.mycompany.myapp.service.ItemService")).isEqualTo(1);
+        assertThat(loggingAspect.samplingRate("com.mycompany.myapp.repositoryx.Other")).isEqualTo(1);
+    }
+
+    @Test
+    void testInheritedRepositoryMethodsAreLoggedAsTheRepository() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getLoggingAspect().setDefaultSamplingRate(0);
+        applicationProperties.getLoggingAspect().setSamplingRates(Map.of("com.mycompany.myapp.repository.ItemRepository", 1.0));
+
+        proxy(mock(ItemRepository.class), advisor(applicationProperties)).findAll();
+
+        assertThat(appender.list)
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .containsExactly("Enter: findAll() with argument[s] = []", "Exit: findAll() with result = []");
+    }
+
+    @Test
+    void testInheritedRepositoryMethodsAreSampledAsTheRepository() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getLoggingAspect().setSamplingRates(Map.of("com.mycompany.myapp.repository.ItemRepository", 0.0));
+
+        proxy(mock(ItemRepository.class), advisor(applicationProperties)).findAll();
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void testExcludedTypesAreNotAdvised() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getLoggingAspect().setExcludedTypes(List.of("com.mycompany.myapp.repository.ItemRepository"));
+        Advisor advisor = advisor(applicationProperties);
+
+        assertThat(AopUtils.canApply(advisor, mock(ItemRepository.class).getClass())).isFalse();
+        assertThat(AopUtils.canApply(advisor, mock(CategoryRepository.class).getClass())).isTrue();
+        proxy(mock(ItemRepository.class), advisor).findAll();
+        assertThat(appender.list).isEmpty();
+    }
+
+    private Advisor advisor(ApplicationProperties applicationProperties) {
+        return new LoggingAspectConfiguration().loggingAspectAdvisor(new MockEnvironment(), applicationProperties);
+    }
+
+    private <T> T proxy(T target, Advisor advisor) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addAdvisor(advisor);
+        @SuppressWarnings("unchecked")
+        T proxy = (T) factory.getProxy();
+        return proxy;
+    }
+}
@@ -0,0 +1,105 @@
+package com.mycompany.myapp.aop.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.feign.ItemClient;
+import com.mycompany.myapp.repository.CategoryRepository;
+import com.mycompany.myapp.repository.ItemRepository;
+import com.mycompany.myapp.service.ChangeEventService;
+import com.mycompany.myapp.service.EntityInfoService;
+import com.mycompany.myapp.service.ItemService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+
+class TimingAspectTest {
+
+    private MeterRegistry registry;
+
+    private ItemRepository itemRepository;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        itemRepository = mock(ItemRepository.class);
+    }
+
+    @Test
+    void testServiceCallsAreTimed() {
+        when(itemRepository.findById("1")).thenReturn(Optional.of(new Item()));
+        ItemService itemService = proxy(newItemService());
+
+        itemService.findOne("1");
+        itemService.findOne("1");
+
+        assertThat(timer("ItemService", "findOne", "success").count()).isEqualTo(2);
+    }
+
+    @Test
+    void testFeignClientCallsAreLeftToFeignMicrometer() {
+        ItemClient itemClient = proxy(
+            (ItemClient) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { ItemClient.class },
+                (proxy, method, args) -> ResponseEntity.ok(List.of())
+            )
+        );
+
+        itemClient.findAll(null);
+
+        assertThat(registry.find(TimingAspect.METER_NAME).timers()).isEmpty();
+    }
+
+    @Test
+    void testFailuresAreTimedWithTheirException() {
+        when(itemRepository.findAll()).thenThrow(new IllegalStateException());
+        ItemService itemService = proxy(newItemService());
+
+        assertThatThrownBy(itemService::findAll).isInstanceOf(IllegalStateException.class);
+
+        assertThat(registry.get(TimingAspect.METER_NAME).tag("outcome", "error").tag("exception", "IllegalStateException").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    void testDeniedTimersAreSkipped() {
+        registry.config().meterFilter(MeterFilter.denyNameStartsWith(TimingAspect.METER_NAME));
+        when(itemRepository.findById("1")).thenReturn(Optional.of(new Item()));
+        ItemService itemService = proxy(newItemService());
+
+        assertThat(itemService.findOne("1")).isPresent();
+
+        assertThat(registry.find(TimingAspect.METER_NAME).timers()).isEmpty();
+    }
+
+    private Timer timer(String className, String method, String outcome) {
+        return registry.get(TimingAspect.METER_NAME).tag("class", className).tag("method", method).tag("outcome", outcome).timer();
+    }
+
+    private ItemService newItemService() {
+        return new ItemService(
+            itemRepository,
+            mock(CategoryRepository.class),
+            mock(ChangeEventService.class),
+            mock(EntityInfoService.class)
+        );
+    }
+
+    private <T> T proxy(T target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new TimingAspect(registry));
+        return factory.getProxy();
+    }
+}
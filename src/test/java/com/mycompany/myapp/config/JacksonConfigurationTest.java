@@ -0,0 +1,69 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.domain.CreateInfo;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.domain.RefType;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+class JacksonConfigurationTest {
+
+    private final JacksonConfiguration jacksonConfiguration = new JacksonConfiguration();
+
+    private final ObjectMapper objectMapper = new Jackson2ObjectMapperBuilder().build();
+
+    @Test
+    void testSmileRoundTripIsSmallerThanJson() throws Exception {
+        AbstractJackson2HttpMessageConverter converter = jacksonConfiguration.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+
+        assertRoundTripIsSmallerThanJson(converter, new MediaType("application", "x-jackson-smile"));
+    }
+
+    @Test
+    void testCborRoundTripIsSmallerThanJson() throws Exception {
+        AbstractJackson2HttpMessageConverter converter = jacksonConfiguration.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+
+        assertRoundTripIsSmallerThanJson(converter, MediaType.APPLICATION_CBOR);
+    }
+
+    private void assertRoundTripIsSmallerThanJson(AbstractJackson2HttpMessageConverter converter, MediaType mediaType) throws Exception {
+        List<Item> items = items();
+        JavaType type = objectMapper.getTypeFactory().constructCollectionType(List.class, Item.class);
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(items, type, mediaType, output);
+
+        assertThat(output.getHeaders().getContentType()).isEqualTo(mediaType);
+        assertThat(output.getBodyAsBytes()).hasSizeLessThan(objectMapper.writerFor(type).writeValueAsBytes(items).length);
+        @SuppressWarnings("unchecked")
+        List<Item> read = (List<Item>) converter.read(type, null, new MockHttpInputMessage(output.getBodyAsBytes()));
+        assertThat(objectMapper.writerFor(type).writeValueAsString(read)).isEqualTo(objectMapper.writerFor(type).writeValueAsString(items));
+    }
+
+    private static List<Item> items() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Item item = new Item();
+            item.setId(String.format("5f1d7d8e9c1b2a3f4e5d%04x", i));
+            item.setName("item " + i);
+            item.setPrice(String.valueOf(i));
+            item.setCategory(new RefType("5f1d7d8e9c1b2a3f4e5d6c7b", RefType.RefTo.category));
+            item.setCreateInfo(
+                new CreateInfo(new RefType("5f1d7d8e9c1b2a3f4e5d6c7c", RefType.RefTo.User), Instant.ofEpochMilli(1646370367890L + i))
+            );
+            items.add(item);
+        }
+        return items;
+    }
+}
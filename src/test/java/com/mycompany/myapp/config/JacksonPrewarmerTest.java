@@ -0,0 +1,24 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import org.junit.jupiter.api.Test;
+
+class JacksonPrewarmerTest {
+
+    @Test
+    void testSerializersAreCachedAtStartup() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertThat(cachedSerializersCount(objectMapper)).isZero();
+
+        new JacksonPrewarmer(objectMapper).afterSingletonsInstantiated();
+
+        assertThat(cachedSerializersCount(objectMapper)).isGreaterThan(10);
+    }
+
+    private static int cachedSerializersCount(ObjectMapper objectMapper) {
+        return ((DefaultSerializerProvider) objectMapper.getSerializerProvider()).cachedSerializersCount();
+    }
+}
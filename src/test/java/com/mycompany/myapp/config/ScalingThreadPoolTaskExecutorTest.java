@@ -0,0 +1,124 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+class ScalingThreadPoolTaskExecutorTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ScalingThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void releaseTasks() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    void testPoolGrowsToItsMaximumSizeBeforeQueueing() throws Exception {
+        executor = executor(ApplicationProperties.Async.RejectionPolicy.ABORT, 1, 3, 10);
+        CountDownLatch started = new CountDownLatch(3);
+
+        for (int i = 0; i < 4; i++) {
+            executor.execute(blocking(started));
+        }
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getPoolSize()).isEqualTo(3);
+        assertThat(executor.getThreadPoolExecutor().getQueue()).hasSize(1);
+        assertThat(registry.get("executor.queued").tag("name", "test").gauge().value()).isEqualTo(1);
+        assertThat(registry.get("executor.active").tag("name", "test").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void testIdleThreadsTakeTasksFromTheQueue() throws Exception {
+        executor = executor(ApplicationProperties.Async.RejectionPolicy.ABORT, 1, 3, 10);
+        CountDownLatch done = new CountDownLatch(3);
+
+        for (int i = 0; i < 3; i++) {
+            executor.execute(done::countDown);
+            assertThat(waitForIdle()).isTrue();
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getPoolSize()).isEqualTo(1);
+        assertThat(registry.get("executor.idle").tag("name", "test").timer().count()).isEqualTo(3);
+        assertThat(registry.get("executor").tag("name", "test").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    void testTasksPastTheQueueAreRejectedAndCounted() throws Exception {
+        executor = executor(ApplicationProperties.Async.RejectionPolicy.ABORT, 1, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(blocking(started));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(blocking(started));
+
+        assertThatThrownBy(() -> executor.execute(blocking(started))).isInstanceOf(TaskRejectedException.class);
+        assertThat(registry.get("executor.rejected").tags("name", "test", "policy", "ABORT").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testCallerRunsPolicyRunsTasksOnTheSubmittingThread() throws Exception {
+        executor = executor(ApplicationProperties.Async.RejectionPolicy.CALLER_RUNS, 1, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(blocking(started));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(blocking(started));
+
+        AtomicReference<Thread> runner = new AtomicReference<>();
+        executor.execute(() -> runner.set(Thread.currentThread()));
+
+        assertThat(runner).hasValue(Thread.currentThread());
+        assertThat(registry.get("executor.rejected").tags("name", "test", "policy", "CALLER_RUNS").counter().count()).isEqualTo(1);
+    }
+
+    private ScalingThreadPoolTaskExecutor executor(
+        ApplicationProperties.Async.RejectionPolicy rejectionPolicy,
+        int coreSize,
+        int maxSize,
+        int queueCapacity
+    ) {
+        ScalingThreadPoolTaskExecutor scalingExecutor = new ScalingThreadPoolTaskExecutor("test", rejectionPolicy, registry);
+        scalingExecutor.setCorePoolSize(coreSize);
+        scalingExecutor.setMaxPoolSize(maxSize);
+        scalingExecutor.setQueueCapacity(queueCapacity);
+        scalingExecutor.setThreadNamePrefix("test-");
+        scalingExecutor.initialize();
+        return scalingExecutor;
+    }
+
+    private Runnable blocking(CountDownLatch started) {
+        return () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private boolean waitForIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getActiveCount() > 0 || !executor.getThreadPoolExecutor().getQueue().isEmpty()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+}
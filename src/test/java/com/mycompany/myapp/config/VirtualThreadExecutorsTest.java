@@ -0,0 +1,33 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadExecutorsTest {
+
+    @Test
+    void testExecutorStartsNamedVirtualThreadsWhenSupported() throws Exception {
+        Optional<ExecutorService> executor = VirtualThreadExecutors.newThreadPerTaskExecutor("test-virtual-");
+
+        if (Runtime.version().feature() < 21) {
+            // Before Java 21, virtual threads are either missing or a preview feature that is not enabled for the tests
+            assertThat(executor).isEmpty();
+            return;
+        }
+        assertThat(executor).isPresent();
+        try {
+            String threadName = executor.get().submit(() -> Thread.currentThread().getName()).get();
+            Method isVirtual = Thread.class.getMethod("isVirtual");
+            boolean virtual = executor.get().submit(() -> (Boolean) isVirtual.invoke(Thread.currentThread())).get();
+
+            assertThat(threadName).isEqualTo("test-virtual-0");
+            assertThat(virtual).isTrue();
+        } finally {
+            executor.get().shutdown();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+class VirtualThreadsConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withPropertyValues("application.virtual-threads.enabled=true")
+        .withBean(TaskExecutionProperties.class)
+        .withUserConfiguration(VirtualThreadsConfiguration.class);
+
+    @Test
+    void testExecutorsAreRegisteredToBeShutDown() {
+        contextRunner.run(context -> {
+            for (String name : List.of("requestVirtualThreadExecutor", "asyncVirtualThreadExecutor")) {
+                assertThat(context.getSourceApplicationContext().getBeanFactory().getBeanDefinition(name).getDestroyMethodName())
+                    .isEqualTo("shutdown");
+            }
+        });
+    }
+
+    @Test
+    void testVirtualThreadExecutorsAreShutDownWithTheContext() {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads need Java 21");
+        List<ExecutorService> executors = new ArrayList<>();
+
+        contextRunner.run(context -> {
+            executors.add(context.getBean("requestVirtualThreadExecutor", ExecutorService.class));
+            executors.add(context.getBean("asyncVirtualThreadExecutor", ExecutorService.class));
+            assertThat(executors).noneMatch(ExecutorService::isShutdown);
+        });
+
+        assertThat(executors).allMatch(ExecutorService::isShutdown);
+    }
+
+    @Test
+    void testAsyncTasksRunOnTheVirtualThreadExecutor() throws Exception {
+        ExecutorService virtualThreadExecutor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("test-virtual-"));
+        try {
+            Executor taskExecutor = new AsyncConfiguration(
+                new TaskExecutionProperties(),
+                new ApplicationProperties(),
+                new SimpleMeterRegistry(),
+                new StaticListableBeanFactory(Map.of("asyncVirtualThreadExecutor", virtualThreadExecutor))
+                    .getBeanProvider(ExecutorService.class)
+            )
+                .getAsyncExecutor();
+
+            CompletableFuture<String> threadName = new CompletableFuture<>();
+            taskExecutor.execute(() -> threadName.complete(Thread.currentThread().getName()));
+
+            assertThat(threadName.get(10, TimeUnit.SECONDS)).isEqualTo("test-virtual-1");
+        } finally {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.mycompany.myapp.config.dbmigrations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.service.EntitySyncService;
+import java.time.Instant;
+import java.util.Date;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Integration tests for {@link EntityInfoFieldsMigration}, on documents stored with the legacy field names.
+ */
+@IntegrationTest
+class EntityInfoFieldsMigrationIT {
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private EntitySyncService entitySyncService;
+
+    @Test
+    void testLegacyItemFieldsAreRenamed() {
+        Instant since = Instant.now().minusSeconds(60);
+        String id = insertLegacy("item", since.plusSeconds(10));
+
+        new EntityInfoFieldsMigration(mongoTemplate).changeSet();
+
+        Document migrated = findRaw("item", id);
+        assertThat(migrated).containsKeys("create_info", "update_info").doesNotContainKeys("createInfo", "updateInfo");
+        assertThat(entitySyncService.findItemChanges(since, null, null).getUpdated()).extracting(Item::getId).contains(id);
+    }
+
+    @Test
+    void testLegacyCategoryFieldsAreRenamed() {
+        Instant since = Instant.now().minusSeconds(60);
+        String id = insertLegacy("category", since.plusSeconds(10));
+
+        new EntityInfoFieldsMigration(mongoTemplate).changeSet();
+
+        Document migrated = findRaw("category", id);
+        assertThat(migrated).containsKeys("create_info", "update_info").doesNotContainKeys("createInfo", "updateInfo");
+        assertThat(entitySyncService.findCategoryChanges(since, null, null).getUpdated()).extracting(Category::getId).contains(id);
+    }
+
+    private String insertLegacy(String collection, Instant modified) {
+        ObjectId id = new ObjectId();
+        mongoTemplate.insert(
+            new Document("_id", id)
+                .append("name", "legacy " + collection)
+                .append("createInfo", new Document("created_date", Date.from(modified)))
+                .append("updateInfo", new Document("last_modified_date", Date.from(modified))),
+            collection
+        );
+        return id.toHexString();
+    }
+
+    private Document findRaw(String collection, String id) {
+        return mongoTemplate.findOne(Query.query(Criteria.where("_id").is(new ObjectId(id))), Document.class, collection);
+    }
+}
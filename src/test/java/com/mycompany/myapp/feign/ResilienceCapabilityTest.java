@@ -0,0 +1,137 @@
+package com.mycompany.myapp.feign;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.Target;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ResilienceCapabilityTest {
+
+    private static final String NAME = "restheart-item";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(
+        CircuitBreakerConfig.custom().slidingWindowSize(4).minimumNumberOfCalls(4).failureRateThreshold(50).build()
+    );
+
+    private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).build());
+
+    private final ResilienceCapability capability = new ResilienceCapability(circuitBreakerRegistry, bulkheadRegistry);
+
+    @Test
+    void testServerErrorsOpenTheCircuit() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Client client = enrich((request, options) -> {
+            calls.incrementAndGet();
+            return response(request, 503);
+        });
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(client.execute(request(), new Request.Options()).status()).isEqualTo(503);
+        }
+
+        assertThat(circuitBreakerRegistry.circuitBreaker(NAME).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.execute(request(), new Request.Options())).isInstanceOf(CallNotPermittedException.class);
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void testClientErrorsAndIoErrors() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Client client = enrich((request, options) -> {
+            if (calls.incrementAndGet() % 2 == 0) {
+                throw new SocketTimeoutException("Read timed out");
+            }
+            return response(request, 404);
+        });
+
+        assertThat(client.execute(request(), new Request.Options()).status()).isEqualTo(404);
+        assertThatThrownBy(() -> client.execute(request(), new Request.Options())).isInstanceOf(SocketTimeoutException.class);
+
+        CircuitBreaker.Metrics metrics = circuitBreakerRegistry.circuitBreaker(NAME).getMetrics();
+        assertThat(metrics.getNumberOfSuccessfulCalls()).isEqualTo(1);
+        assertThat(metrics.getNumberOfFailedCalls()).isEqualTo(1);
+        assertThat(bulkheadRegistry.bulkhead(NAME).getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void testFullBulkheadRejectsCalls() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Client client = enrich((request, options) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response(request, 200);
+        });
+        Thread inFlight = new Thread(() -> {
+            try {
+                client.execute(request(), new Request.Options());
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        inFlight.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> client.execute(request(), new Request.Options())).isInstanceOf(BulkheadFullException.class);
+
+        release.countDown();
+        inFlight.join();
+        assertThat(client.execute(request(), new Request.Options()).status()).isEqualTo(200);
+    }
+
+    @Test
+    void testRetryerOnlyRetriesGet() {
+        Retryer retryer = new IdempotentRetryer(1, 1, 2).clone();
+        retryer.continueOrPropagate(retryable(Request.HttpMethod.GET));
+        assertThatThrownBy(() -> retryer.continueOrPropagate(retryable(Request.HttpMethod.GET))).isInstanceOf(RetryableException.class);
+
+        Retryer postRetryer = new IdempotentRetryer(1, 1, 2).clone();
+        assertThatThrownBy(() -> postRetryer.continueOrPropagate(retryable(Request.HttpMethod.POST)))
+            .isInstanceOf(RetryableException.class);
+    }
+
+    private Client enrich(Client client) {
+        return capability.enrich(client);
+    }
+
+    private static Request request() {
+        RequestTemplate template = new RequestTemplate()
+            .method(Request.HttpMethod.GET)
+            .uri("/items")
+            .target("http://localhost:8080")
+            .feignTarget(new Target.HardCodedTarget<>(ItemClient.class, NAME, "http://localhost:8080"));
+        return template.resolve(Map.of()).request();
+    }
+
+    private static Response response(Request request, int status) {
+        return Response.builder().request(request).status(status).headers(Map.of()).build();
+    }
+
+    private static RetryableException retryable(Request.HttpMethod method) {
+        return new RetryableException(-1, "Connection refused", method, null, request());
+    }
+}
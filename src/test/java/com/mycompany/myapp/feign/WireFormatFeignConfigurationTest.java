@@ -0,0 +1,55 @@
+package com.mycompany.myapp.feign;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import feign.RequestTemplate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+class WireFormatFeignConfigurationTest {
+
+    private final HttpMessageConverters messageConverters = new HttpMessageConverters(
+        false,
+        List.of(
+            new MappingJackson2HttpMessageConverter(),
+            new MappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.smile().build())
+        )
+    );
+
+    @Test
+    void testJsonLeavesHeadersUnset() throws Exception {
+        WireFormatFeignConfiguration configuration = new WireFormatFeignConfiguration("json");
+        RequestTemplate template = new RequestTemplate();
+
+        configuration.feignEncoder(() -> messageConverters).encode(Map.of("name", "item"), Map.class, template);
+        configuration.wireFormatRequestInterceptor().apply(template);
+
+        assertThat(template.headers().get(HttpHeaders.CONTENT_TYPE)).containsExactly("application/json");
+        assertThat(template.headers()).doesNotContainKey(HttpHeaders.ACCEPT);
+    }
+
+    @Test
+    void testSmileIsSentAndPreferred() throws Exception {
+        WireFormatFeignConfiguration configuration = new WireFormatFeignConfiguration("smile");
+        RequestTemplate template = new RequestTemplate();
+
+        configuration.feignEncoder(() -> messageConverters).encode(Map.of("name", "item"), Map.class, template);
+        configuration.wireFormatRequestInterceptor().apply(template);
+
+        assertThat(template.headers().get(HttpHeaders.CONTENT_TYPE)).containsExactly("application/x-jackson-smile");
+        assertThat(template.body()).startsWith(':', ')', '\n');
+        assertThat(template.headers().get(HttpHeaders.ACCEPT)).containsExactly("application/x-jackson-smile, application/json;q=0.9");
+    }
+
+    @Test
+    void testUnknownFormatIsRejected() {
+        assertThatThrownBy(() -> new WireFormatFeignConfiguration("xml")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
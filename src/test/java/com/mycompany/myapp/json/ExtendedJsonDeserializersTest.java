@@ -0,0 +1,65 @@
+package com.mycompany.myapp.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.mycompany.myapp.domain.CreateInfo;
+import com.mycompany.myapp.domain.RefType;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class ExtendedJsonDeserializersTest {
+
+    private static final String OID = "5f1d7d8e9c1b2a3f4e5d6c7b";
+
+    private static final Instant DATE = Instant.parse("2022-03-04T05:06:07.890Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testObjectIdForms() throws Exception {
+        assertThat(readRefId("{\"$oid\":\"" + OID + "\"}")).isEqualTo(OID);
+        assertThat(readRefId("\"" + OID + "\"")).isEqualTo(OID);
+        assertThat(readRefId("42")).isEqualTo("42");
+        assertThat(readRefId("{\"other\":{\"nested\":[1,2]},\"$oid\":\"" + OID + "\"}")).isEqualTo(OID);
+        assertThat(readRefId("{}")).isNull();
+        assertThat(readRefId("null")).isNull();
+    }
+
+    @Test
+    void testObjectIdLeavesFollowingFieldsReadable() throws Exception {
+        RefType refType = objectMapper.readValue("{\"_id\":{\"$oid\":\"" + OID + "\",\"x\":{}},\"_ref\":\"item\"}", RefType.class);
+
+        assertThat(refType.getId()).isEqualTo(OID);
+        assertThat(refType.getRef()).isEqualTo("item");
+    }
+
+    @Test
+    void testDateForms() throws Exception {
+        long millis = DATE.toEpochMilli();
+        assertThat(readCreatedDate("{\"$date\":" + millis + "}")).isEqualTo(DATE);
+        assertThat(readCreatedDate("{\"$date\":\"2022-03-04T05:06:07.890Z\"}")).isEqualTo(DATE);
+        assertThat(readCreatedDate("{\"$date\":{\"$numberLong\":\"" + millis + "\"}}")).isEqualTo(DATE);
+        assertThat(readCreatedDate(String.valueOf(millis))).isEqualTo(DATE);
+        assertThat(readCreatedDate("\"" + millis + "\"")).isEqualTo(DATE);
+        assertThat(readCreatedDate("\"2022-03-04T05:06:07.890Z\"")).isEqualTo(DATE);
+        assertThat(readCreatedDate("{}")).isNull();
+        assertThat(readCreatedDate("null")).isNull();
+    }
+
+    @Test
+    void testInvalidDateIsRejected() {
+        assertThatExceptionOfType(MismatchedInputException.class).isThrownBy(() -> readCreatedDate("\"yesterday\""));
+        assertThatExceptionOfType(MismatchedInputException.class).isThrownBy(() -> readCreatedDate("[1]"));
+    }
+
+    private String readRefId(String id) throws Exception {
+        return objectMapper.readValue("{\"_id\":" + id + ",\"_ref\":\"item\"}", RefType.class).getId();
+    }
+
+    private Instant readCreatedDate(String date) throws Exception {
+        return objectMapper.readValue("{\"created_date\":" + date + "}", CreateInfo.class).getCreatedDate();
+    }
+}
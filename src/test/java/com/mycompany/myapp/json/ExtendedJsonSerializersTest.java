@@ -0,0 +1,57 @@
+package com.mycompany.myapp.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.domain.CreateInfo;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.domain.RefType;
+import com.mycompany.myapp.domain.UpdateInfo;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+class ExtendedJsonSerializersTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testIdAndDateAreWrittenAsExtendedJson() throws Exception {
+        CreateInfo createInfo = new CreateInfo(
+            new RefType("5f1d7d8e9c1b2a3f4e5d6c7b", RefType.RefTo.User),
+            Instant.ofEpochMilli(1646370367890L)
+        );
+
+        assertThat(objectMapper.writeValueAsString(createInfo))
+            .isEqualTo(
+                "{\"user\":{\"_id\":{\"$oid\":\"5f1d7d8e9c1b2a3f4e5d6c7b\"},\"_ref\":\"User\"},\"created_date\":{\"$date\":1646370367890}}"
+            );
+    }
+
+    @Test
+    void testRoundTrip() throws Exception {
+        CreateInfo createInfo = new CreateInfo(new RefType("5f1d7d8e9c1b2a3f4e5d6c7b", RefType.RefTo.item), Instant.now());
+
+        assertThat(objectMapper.readValue(objectMapper.writeValueAsString(createInfo), CreateInfo.class))
+            .isEqualTo(
+                new CreateInfo(
+                    new RefType("5f1d7d8e9c1b2a3f4e5d6c7b", RefType.RefTo.item),
+                    Instant.ofEpochMilli(createInfo.getCreatedDate().toEpochMilli())
+                )
+            );
+    }
+
+    @Test
+    void testEntityInfoIsWrittenWithTheStoredFieldNames() throws Exception {
+        Item item = new Item().name("a");
+        item.setCreateInfo(new CreateInfo(null, Instant.ofEpochMilli(1646370367890L)));
+        item.setUpdateInfo(new UpdateInfo(null, Instant.ofEpochMilli(1646370367890L)));
+
+        assertThat(objectMapper.writeValueAsString(item))
+            .contains("\"create_info\":{\"created_date\":{\"$date\":1646370367890}}")
+            .contains("\"update_info\":{\"last_modified_date\":{\"$date\":1646370367890}}")
+            .doesNotContain("createInfo")
+            .doesNotContain("updateInfo");
+        Item legacy = objectMapper.readValue("{\"name\":\"a\",\"createInfo\":{\"created_date\":{\"$date\":1646370367890}}}", Item.class);
+        assertThat(legacy.getCreateInfo().getCreatedDate()).isEqualTo(Instant.ofEpochMilli(1646370367890L));
+    }
+}
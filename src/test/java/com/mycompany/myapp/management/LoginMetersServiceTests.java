@@ -0,0 +1,43 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LoginMetersServiceTests {
+
+    private static final String LOGIN_ATTEMPTS_METER_EXPECTED_NAME = "security.authentication.login-attempts";
+
+    private MeterRegistry meterRegistry;
+
+    private LoginMetersService loginMetersService;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        loginMetersService = new LoginMetersService(meterRegistry);
+    }
+
+    @Test
+    void testLoginAttemptsCountersByOutcomeAreCreated() {
+        assertThat(meterRegistry.find(LOGIN_ATTEMPTS_METER_EXPECTED_NAME).counters()).hasSize(4);
+    }
+
+    @Test
+    void testCountMethodsShouldBeBoundToCorrectCounters() {
+        loginMetersService.trackLoginSuccess();
+        loginMetersService.trackLoginFailure();
+        loginMetersService.trackLoginFailure();
+        loginMetersService.trackLoginThrottled();
+        loginMetersService.trackLoginRejected();
+
+        assertThat(meterRegistry.get(LOGIN_ATTEMPTS_METER_EXPECTED_NAME).tag("outcome", "success").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(LOGIN_ATTEMPTS_METER_EXPECTED_NAME).tag("outcome", "failure").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(LOGIN_ATTEMPTS_METER_EXPECTED_NAME).tag("outcome", "throttled").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(LOGIN_ATTEMPTS_METER_EXPECTED_NAME).tag("outcome", "rejected").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,51 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MongoConnectionPoolWaitListenerTests {
+
+    private final ServerId serverId = new ServerId(new ClusterId(), new ServerAddress("localhost", 27017));
+
+    private MeterRegistry meterRegistry;
+
+    private MongoConnectionPoolWaitListener listener;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        listener = new MongoConnectionPoolWaitListener(meterRegistry);
+    }
+
+    @Test
+    void testCheckOutsAreTimedByOutcome() {
+        listener.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(serverId));
+        listener.connectionCheckedOut(new ConnectionCheckedOutEvent(new ConnectionId(serverId)));
+        listener.connectionCheckOutStarted(new ConnectionCheckOutStartedEvent(serverId));
+        listener.connectionCheckOutFailed(new ConnectionCheckOutFailedEvent(serverId, ConnectionCheckOutFailedEvent.Reason.TIMEOUT));
+
+        assertThat(meterRegistry.get(MongoConnectionPoolWaitListener.METER_NAME).tag("outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MongoConnectionPoolWaitListener.METER_NAME).tag("outcome", "failure").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MongoConnectionPoolWaitListener.METER_NAME).tag("server.address", "localhost:27017").timers())
+            .hasSize(2);
+    }
+
+    @Test
+    void testCheckOutsNotStartedOnTheThreadAreIgnored() {
+        listener.connectionCheckedOut(new ConnectionCheckedOutEvent(new ConnectionId(serverId)));
+
+        assertThat(meterRegistry.find(MongoConnectionPoolWaitListener.METER_NAME).timers()).isEmpty();
+    }
+}
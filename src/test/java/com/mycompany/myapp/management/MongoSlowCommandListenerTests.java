@@ -0,0 +1,65 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+class MongoSlowCommandListenerTests {
+
+    private final ConnectionDescription connection = new ConnectionDescription(
+        new ServerId(new ClusterId(), new ServerAddress("localhost", 27017))
+    );
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(MongoSlowCommandListener.class);
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    private final MongoSlowCommandListener listener = new MongoSlowCommandListener(Duration.ofMillis(100));
+
+    @BeforeEach
+    public void setup() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    public void teardown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    void testOnlySlowCommandsAreLogged() {
+        listener.commandStarted(started(1, "find", "{\"find\": \"item\", \"filter\": {}}"));
+        listener.commandStarted(started(2, "getMore", "{\"getMore\": 42, \"collection\": \"category\"}"));
+        listener.commandSucceeded(succeeded(1, "find", 5));
+        listener.commandSucceeded(succeeded(2, "getMore", 250));
+
+        assertThat(appender.list)
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .containsExactly("Slow MongoDB command getMore on pro5.category succeeded in 250 ms");
+    }
+
+    private CommandStartedEvent started(int requestId, String commandName, String command) {
+        return new CommandStartedEvent(requestId, connection, "pro5", commandName, BsonDocument.parse(command));
+    }
+
+    private CommandSucceededEvent succeeded(int requestId, String commandName, long elapsedMillis) {
+        long elapsedNanos = TimeUnit.MILLISECONDS.toNanos(elapsedMillis);
+        return new CommandSucceededEvent(requestId, connection, commandName, new BsonDocument(), elapsedNanos);
+    }
+}
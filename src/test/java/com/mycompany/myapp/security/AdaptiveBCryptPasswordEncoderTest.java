@@ -0,0 +1,74 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testStrengthIsCappedByMaximum() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(4, 6, Duration.ofHours(1), meterRegistry);
+
+        assertThat(encoder.getStrength()).isEqualTo(6);
+        assertThat(encoder.encode("password")).startsWith("$2a$06$");
+    }
+
+    @Test
+    void testStrengthIsFlooredByMinimum() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(4, 6, Duration.ZERO, meterRegistry);
+
+        assertThat(encoder.getStrength()).isEqualTo(4);
+    }
+
+    @Test
+    void testInvalidStrengthRangeIsRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new AdaptiveBCryptPasswordEncoder(6, 4, Duration.ZERO, meterRegistry));
+    }
+
+    @Test
+    void testWeakerHashMatchesAndNeedsUpgrade() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5, 5, Duration.ZERO, meterRegistry);
+        String weakerHash = new BCryptPasswordEncoder(4).encode("password");
+
+        assertThat(encoder.matches("password", weakerHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(weakerHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("password"))).isFalse();
+        assertThat(encoder.upgradeEncoding("not-a-bcrypt-hash")).isFalse();
+    }
+
+    @Test
+    void testStrongerHashIsKept() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(4, 4, Duration.ZERO, meterRegistry);
+        String strongerHash = new BCryptPasswordEncoder(5).encode("password");
+
+        assertThat(encoder.matches("password", strongerHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(strongerHash)).isFalse();
+    }
+
+    @Test
+    void testHashingIsTimed() {
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(4, 4, Duration.ZERO, meterRegistry);
+
+        encoder.matches("password", encoder.encode("password"));
+
+        assertThat(meterRegistry.get(AdaptiveBCryptPasswordEncoder.HASHING_METER_NAME).tag("operation", "encode").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get(AdaptiveBCryptPasswordEncoder.HASHING_METER_NAME).tag("operation", "matches").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get(AdaptiveBCryptPasswordEncoder.STRENGTH_METER_NAME).gauge().value()).isEqualTo(4);
+    }
+}
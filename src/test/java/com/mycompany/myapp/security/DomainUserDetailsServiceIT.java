@@ -11,6 +11,8 @@ import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
@@ -33,9 +35,15 @@ class DomainUserDetailsServiceIT {
     @Autowired
     private UserDetailsService domainUserDetailsService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @BeforeEach
     public void init() {
         userRepository.deleteAll();
+        cacheManager.getCache(UserRepository.USERS_BY_LOGIN_CACHE).clear();
+        cacheManager.getCache(UserRepository.USERS_BY_EMAIL_CACHE).clear();
+        cacheManager.getCache(DomainUserDetailsService.USER_DETAILS_CACHE).clear();
 
         User userOne = new User();
         userOne.setLogin(USER_ONE_LOGIN);
@@ -108,4 +116,33 @@ class DomainUserDetailsServiceIT {
         assertThatExceptionOfType(UserNotActivatedException.class)
             .isThrownBy(() -> domainUserDetailsService.loadUserByUsername(USER_THREE_LOGIN));
     }
+
+    @Test
+    void assertThatUpgradedPasswordIsStored() {
+        UserDetails userDetails = domainUserDetailsService.loadUserByUsername(USER_ONE_LOGIN);
+
+        UserDetails upgraded = ((DomainUserDetailsService) domainUserDetailsService).updatePassword(userDetails, "upgraded-hash");
+
+        assertThat(upgraded.getPassword()).isEqualTo("upgraded-hash");
+        assertThat(userRepository.findOneByLogin(USER_ONE_LOGIN)).get().extracting(User::getPassword).isEqualTo("upgraded-hash");
+    }
+
+    @Test
+    void assertThatUserDetailsAreCached() {
+        UserDetails userDetails = domainUserDetailsService.loadUserByUsername(USER_ONE_LOGIN);
+        userRepository.deleteAll();
+
+        UserDetails cachedUserDetails = domainUserDetailsService.loadUserByUsername(USER_ONE_LOGIN.toUpperCase(Locale.ENGLISH));
+
+        assertThat(cachedUserDetails.getUsername()).isEqualTo(USER_ONE_LOGIN);
+        assertThat(cachedUserDetails).isNotSameAs(userDetails);
+    }
+
+    @Test
+    void assertThatErasingCredentialsDoesNotAffectCachedUserDetails() {
+        UserDetails userDetails = domainUserDetailsService.loadUserByUsername(USER_ONE_EMAIL);
+        ((CredentialsContainer) userDetails).eraseCredentials();
+
+        assertThat(domainUserDetailsService.loadUserByUsername(USER_ONE_EMAIL).getPassword()).isNotNull();
+    }
 }
@@ -0,0 +1,194 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.mycompany.myapp.config.ApplicationProperties;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class LoginAttemptThrottlerTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private ApplicationProperties applicationProperties;
+
+    @BeforeEach
+    public void setup() {
+        applicationProperties = new ApplicationProperties();
+        ApplicationProperties.Security.LoginThrottling properties = applicationProperties.getSecurity().getLoginThrottling();
+        properties.setAttemptsPerLogin(3);
+        properties.setAttemptsPerIp(5);
+        properties.setPeriod(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void testLoginIsThrottledAfterItsAttempts() {
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(applicationProperties, clock);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(throttler.tryAcquire("user", "10.0.0." + i)).isZero();
+        }
+
+        assertThat(throttler.tryAcquire("USER", "10.0.0.10")).isEqualTo(Duration.ofSeconds(20));
+        assertThat(throttler.tryAcquire("other", "10.0.0.10")).isZero();
+    }
+
+    @Test
+    void testIpAddressIsThrottledAfterItsAttempts() {
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(applicationProperties, clock);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(throttler.tryAcquire("user" + i, "10.0.0.1")).isZero();
+        }
+
+        assertThat(throttler.tryAcquire("user", "10.0.0.1")).isPositive();
+        assertThat(throttler.tryAcquire("user", "10.0.0.2")).isZero();
+    }
+
+    @Test
+    void testThrottledLoginDoesNotCountAgainstIpAddress() {
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(applicationProperties, clock);
+
+        for (int i = 0; i < 10; i++) {
+            throttler.tryAcquire("user", "10.0.0.1");
+        }
+
+        assertThat(throttler.tryAcquire("other", "10.0.0.1")).isZero();
+    }
+
+    @Test
+    void testBucketsRefillOverThePeriod() {
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(applicationProperties, clock);
+        for (int i = 0; i < 3; i++) {
+            throttler.tryAcquire("user", "10.0.0.1");
+        }
+
+        clock.advance(Duration.ofSeconds(20));
+
+        assertThat(throttler.tryAcquire("user", "10.0.0.1")).isZero();
+        assertThat(throttler.tryAcquire("user", "10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void testDisabledThrottlerAllowsEverything() {
+        applicationProperties.getSecurity().getLoginThrottling().setEnabled(false);
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(applicationProperties, clock);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(throttler.tryAcquire("user", "10.0.0.1")).isZero();
+        }
+    }
+
+    @Test
+    void testKeysPastTheLimitAreNotThrottled() {
+        applicationProperties.getSecurity().getLoginThrottling().setMaxTrackedKeys(1);
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(applicationProperties, clock);
+        throttler.tryAcquire("user", "10.0.0.1");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(throttler.tryAcquire("other", "10.0.0.2")).isZero();
+        }
+    }
+
+    @Test
+    void testKeysPastTheLimitAreWarnedOncePerPeriod() {
+        applicationProperties.getSecurity().getLoginThrottling().setMaxTrackedKeys(1);
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(applicationProperties, clock);
+        Logger logger = (Logger) LoggerFactory.getLogger(LoginAttemptThrottler.class);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        try {
+            throttler.tryAcquire("user", "10.0.0.1");
+            for (int i = 0; i < 10; i++) {
+                throttler.tryAcquire("other" + i, "10.0.0.1");
+            }
+            assertThat(appender.list).hasSize(1);
+
+            clock.advance(Duration.ofMinutes(1));
+            throttler.tryAcquire("other", "10.0.0.1");
+            assertThat(appender.list).hasSize(2);
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
+    @Test
+    void testForwardedForIsIgnoredFromUntrustedClients() {
+        applicationProperties.getSecurity().getLoginThrottling().setTrustedProxies(List.of("10.0.0.1"));
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(applicationProperties, clock);
+
+        assertThat(throttler.clientAddress(request("192.168.1.1", "203.0.113.7"))).isEqualTo("192.168.1.1");
+        assertThat(throttler.clientAddress(request("192.168.1.1", null))).isEqualTo("192.168.1.1");
+    }
+
+    @Test
+    void testForwardedForIsReadFromTrustedProxies() {
+        applicationProperties.getSecurity().getLoginThrottling().setTrustedProxies(List.of("10.0.0.0/8"));
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(applicationProperties, clock);
+
+        assertThat(throttler.clientAddress(request("10.0.0.1", "198.51.100.1, 203.0.113.7, 10.0.0.2"))).isEqualTo("203.0.113.7");
+        assertThat(throttler.clientAddress(request("10.0.0.1", "unknown"))).isEqualTo("unknown");
+        assertThat(throttler.clientAddress(request("10.0.0.1", "10.0.0.3"))).isEqualTo("10.0.0.3");
+        assertThat(throttler.clientAddress(request("10.0.0.1", null))).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    void testIdleBucketsAreEvicted() {
+        applicationProperties.getSecurity().getLoginThrottling().setMaxTrackedKeys(1);
+        LoginAttemptThrottler throttler = new LoginAttemptThrottler(applicationProperties, clock);
+        throttler.tryAcquire("user", "10.0.0.1");
+
+        clock.advance(Duration.ofMinutes(1));
+        throttler.evictIdleBuckets();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(throttler.tryAcquire("other", "10.0.0.2")).isZero();
+        }
+        assertThat(throttler.tryAcquire("other", "10.0.0.2")).isPositive();
+    }
+
+    private static MockHttpServletRequest request(String remoteAddress, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2022-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
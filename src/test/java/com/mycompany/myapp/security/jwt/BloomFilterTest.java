@@ -0,0 +1,38 @@
+package com.mycompany.myapp.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    void testInsertedValuesAreAlwaysFound() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+
+        IntStream.range(0, 1000).forEach(i -> filter.put("token-" + i));
+
+        assertThat(IntStream.range(0, 1000).allMatch(i -> filter.mightContain("token-" + i))).isTrue();
+        assertThat(filter.isSaturated()).isFalse();
+    }
+
+    @Test
+    void testFalsePositiveRateIsBounded() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> filter.put("token-" + i));
+
+        long falsePositives = IntStream.range(0, 10_000).filter(i -> filter.mightContain("other-" + i)).count();
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    void testIsSaturatedAfterExpectedInsertions() {
+        BloomFilter filter = BloomFilter.create(10, 0.01);
+
+        IntStream.range(0, 11).forEach(i -> filter.put("token-" + i));
+
+        assertThat(filter.isSaturated()).isTrue();
+    }
+}
@@ -0,0 +1,190 @@
+package com.mycompany.myapp.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.JwtSigningKey;
+import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.repository.JwtSigningKeyRepository;
+import com.mycompany.myapp.repository.RevokedTokenRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import tech.jhipster.config.JHipsterProperties;
+
+class JwtKeyManagerTest {
+
+    private static final String BASE64_SECRET =
+        "fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8";
+
+    private final List<JwtSigningKey> storedKeys = new ArrayList<>();
+
+    private JHipsterProperties jHipsterProperties;
+
+    private JwtSigningKeyRepository jwtSigningKeyRepository;
+
+    @BeforeEach
+    public void setup() {
+        jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getSecurity().getAuthentication().getJwt().setBase64Secret(BASE64_SECRET);
+
+        jwtSigningKeyRepository = mock(JwtSigningKeyRepository.class);
+        when(jwtSigningKeyRepository.save(any(JwtSigningKey.class)))
+            .thenAnswer(invocation -> {
+                storedKeys.add(invocation.getArgument(0));
+                return invocation.getArgument(0);
+            });
+        when(jwtSigningKeyRepository.findAllByAlgorithmAndExpiryDateAfterOrderByCreatedDateDesc(anyString(), any(Instant.class)))
+            .thenAnswer(invocation ->
+                storedKeys
+                    .stream()
+                    .filter(key -> key.getAlgorithm().equals(invocation.getArgument(0)))
+                    .sorted(Comparator.comparing(JwtSigningKey::getCreatedDate).reversed())
+                    .collect(Collectors.toList())
+            );
+    }
+
+    @Test
+    void testRsaTokenCarriesKidAndIsValid() {
+        JwtKeyManager jwtKeyManager = keyManager("RS256");
+        TokenProvider tokenProvider = tokenProvider(jwtKeyManager);
+
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+        String kid = Jwts
+            .parserBuilder()
+            .setSigningKey(jwtKeyManager.getSigningKey().getPublicKey())
+            .build()
+            .parseClaimsJws(token)
+            .getHeader()
+            .getKeyId();
+        assertThat(kid).isEqualTo(jwtKeyManager.getSigningKey().getKid());
+    }
+
+    @Test
+    void testEcTokenIsValid() {
+        TokenProvider tokenProvider = tokenProvider(keyManager("ES256"));
+
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+        assertThat(tokenProvider.getAuthentication(token).getName()).isEqualTo("anonymous");
+    }
+
+    @Test
+    void testTokenSignedWithRotatedKeyStaysValid() {
+        JwtKeyManager jwtKeyManager = keyManager("RS256");
+        TokenProvider tokenProvider = tokenProvider(jwtKeyManager);
+        String token = tokenProvider.createToken(createAuthentication(), false);
+        String oldKid = jwtKeyManager.getSigningKey().getKid();
+
+        storedKeys.forEach(key -> key.setCreatedDate(key.getCreatedDate().minus(Duration.ofDays(2))));
+        jwtKeyManager.refreshKeys();
+
+        assertThat(storedKeys).hasSize(2);
+        assertThat(jwtKeyManager.getVerificationKey(oldKid)).isNotNull();
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+    }
+
+    @Test
+    void testKeyIsKeptUntilTheLastTokenItSignsExpires() {
+        jHipsterProperties.getSecurity().getAuthentication().getJwt().setTokenValidityInSeconds(3600);
+        jHipsterProperties.getSecurity().getAuthentication().getJwt().setTokenValidityInSecondsForRememberMe(7200);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getSecurity().getJwt().setAlgorithm("RS256");
+        applicationProperties.getSecurity().getJwt().setKeyRotationPeriod(Duration.ofHours(12));
+        applicationProperties.getSecurity().getJwt().setKeyRefreshPeriod(Duration.ofMinutes(5));
+        applicationProperties.getSecurity().getRefreshToken().setTokenValidity(Duration.ofDays(1));
+
+        new JwtKeyManager(applicationProperties, jHipsterProperties, jwtSigningKeyRepository).init();
+
+        JwtSigningKey key = storedKeys.get(0);
+        assertThat(Duration.between(key.getCreatedDate(), key.getExpiryDate()))
+            .isEqualTo(Duration.ofHours(12).plusMinutes(10).plusDays(1));
+    }
+
+    @Test
+    void testTokenSignedWithUnknownKeyIsInvalid() {
+        String token = tokenProvider(keyManager("RS256")).createToken(createAuthentication(), false);
+        storedKeys.clear();
+
+        TokenProvider otherTokenProvider = tokenProvider(keyManager("RS256"));
+
+        assertThat(otherTokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    void testHmacTokenStaysValidAfterSwitchingToAsymmetricKeys() {
+        ApplicationProperties hmacProperties = new ApplicationProperties();
+        String token = tokenProvider(new JwtKeyManager(hmacProperties, jHipsterProperties, jwtSigningKeyRepository))
+            .createToken(createAuthentication(), false);
+
+        assertThat(tokenProvider(keyManager("RS256")).validateToken(token)).isTrue();
+    }
+
+    @Test
+    void testJwksContainsPublicKeys() {
+        JwtKeyManager jwtKeyManager = keyManager("ES256");
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) jwtKeyManager.getJwks().get("keys");
+
+        assertThat(keys).hasSize(1);
+        assertThat(keys.get(0))
+            .containsEntry("kid", jwtKeyManager.getSigningKey().getKid())
+            .containsEntry("kty", "EC")
+            .containsEntry("alg", "ES256")
+            .containsKeys("x", "y")
+            .doesNotContainKey("d");
+    }
+
+    @Test
+    void testHmacModeHasNoKeys() {
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(new ApplicationProperties(), jHipsterProperties, jwtSigningKeyRepository);
+        jwtKeyManager.init();
+
+        assertThat(jwtKeyManager.isAsymmetric()).isFalse();
+        assertThat(jwtKeyManager.getJwks()).containsEntry("keys", Collections.emptyList());
+        assertThat(storedKeys).isEmpty();
+    }
+
+    private JwtKeyManager keyManager(String algorithm) {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getSecurity().getJwt().setAlgorithm(algorithm);
+        JwtKeyManager jwtKeyManager = new JwtKeyManager(applicationProperties, jHipsterProperties, jwtSigningKeyRepository);
+        jwtKeyManager.init();
+        return jwtKeyManager;
+    }
+
+    private TokenProvider tokenProvider(JwtKeyManager jwtKeyManager) {
+        return new TokenProvider(
+            jHipsterProperties,
+            new ApplicationProperties(),
+            new SecurityMetersService(new SimpleMeterRegistry()),
+            jwtKeyManager,
+            new TokenRevocationService(mock(RevokedTokenRepository.class))
+        );
+    }
+
+    private Authentication createAuthentication() {
+        return new UsernamePasswordAuthenticationToken(
+            "anonymous",
+            "anonymous",
+            Collections.singletonList(new SimpleGrantedAuthority(AuthoritiesConstants.ANONYMOUS))
+        );
+    }
+}
@@ -1,8 +1,12 @@
 package com.mycompany.myapp.security.jwt;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.repository.JwtSigningKeyRepository;
+import com.mycompany.myapp.repository.RevokedTokenRepository;
 import com.mycompany.myapp.security.AuthoritiesConstants;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -43,7 +47,13 @@ class TokenProviderSecurityMetersTests {
 
         SecurityMetersService securityMetersService = new SecurityMetersService(meterRegistry);
 
-        tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService);
+        tokenProvider = new TokenProvider(
+            jHipsterProperties,
+            new ApplicationProperties(),
+            securityMetersService,
+            hmacKeyManager(jHipsterProperties),
+            new TokenRevocationService(mock(RevokedTokenRepository.class))
+        );
         Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
 
         ReflectionTestUtils.setField(tokenProvider, "key", key);
@@ -155,4 +165,8 @@ class TokenProviderSecurityMetersTests {
     private double aggregate(Collection<Counter> counters) {
         return counters.stream().mapToDouble(Counter::count).sum();
     }
+
+    private static JwtKeyManager hmacKeyManager(JHipsterProperties jHipsterProperties) {
+        return new JwtKeyManager(new ApplicationProperties(), jHipsterProperties, mock(JwtSigningKeyRepository.class));
+    }
 }
@@ -1,8 +1,14 @@
 package com.mycompany.myapp.security.jwt;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.repository.JwtSigningKeyRepository;
+import com.mycompany.myapp.repository.RevokedTokenRepository;
 import com.mycompany.myapp.security.AuthoritiesConstants;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -27,6 +33,7 @@ class TokenProviderTest {
 
     private Key key;
     private TokenProvider tokenProvider;
+    private RevokedTokenRepository revokedTokenRepository;
 
     @BeforeEach
     public void setup() {
@@ -36,7 +43,14 @@ class TokenProviderTest {
 
         SecurityMetersService securityMetersService = new SecurityMetersService(new SimpleMeterRegistry());
 
-        tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService);
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        tokenProvider = new TokenProvider(
+            jHipsterProperties,
+            new ApplicationProperties(),
+            securityMetersService,
+            hmacKeyManager(jHipsterProperties),
+            new TokenRevocationService(revokedTokenRepository)
+        );
         key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret));
 
         ReflectionTestUtils.setField(tokenProvider, "key", key);
@@ -88,6 +102,30 @@ class TokenProviderTest {
         assertThat(isTokenValid).isFalse();
     }
 
+    @Test
+    void testReturnFalseWhenRefreshTokenIsUsedAsAccessToken() {
+        String refreshToken = tokenProvider.createRefreshToken(createAuthentication(), false);
+
+        assertThat(tokenProvider.validateToken(refreshToken)).isFalse();
+        assertThat(tokenProvider.parseRefreshToken(refreshToken)).isPresent();
+    }
+
+    @Test
+    void testAccessTokenIsNotAcceptedAsRefreshToken() {
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        assertThat(tokenProvider.parseRefreshToken(token)).isEmpty();
+    }
+
+    @Test
+    void testReturnFalseWhenJWTisRevoked() {
+        String token = tokenProvider.createToken(createAuthentication(), false);
+        when(revokedTokenRepository.existsById(anyString())).thenReturn(true);
+
+        assertThat(tokenProvider.revokeToken(token)).isTrue();
+        assertThat(tokenProvider.validateToken(token)).isFalse();
+    }
+
     @Test
     void testKeyIsSetFromSecretWhenSecretIsNotEmpty() {
         final String secret = "NwskoUmKHZtzGRKJKVjsJF7BtQMMxNWi";
@@ -96,7 +134,13 @@ class TokenProviderTest {
 
         SecurityMetersService securityMetersService = new SecurityMetersService(new SimpleMeterRegistry());
 
-        TokenProvider tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService);
+        TokenProvider tokenProvider = new TokenProvider(
+            jHipsterProperties,
+            new ApplicationProperties(),
+            securityMetersService,
+            hmacKeyManager(jHipsterProperties),
+            new TokenRevocationService(mock(RevokedTokenRepository.class))
+        );
 
         Key key = (Key) ReflectionTestUtils.getField(tokenProvider, "key");
         assertThat(key).isNotNull().isEqualTo(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)));
@@ -110,7 +154,13 @@ class TokenProviderTest {
 
         SecurityMetersService securityMetersService = new SecurityMetersService(new SimpleMeterRegistry());
 
-        TokenProvider tokenProvider = new TokenProvider(jHipsterProperties, securityMetersService);
+        TokenProvider tokenProvider = new TokenProvider(
+            jHipsterProperties,
+            new ApplicationProperties(),
+            securityMetersService,
+            hmacKeyManager(jHipsterProperties),
+            new TokenRevocationService(mock(RevokedTokenRepository.class))
+        );
 
         Key key = (Key) ReflectionTestUtils.getField(tokenProvider, "key");
         assertThat(key).isNotNull().isEqualTo(Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret)));
@@ -138,4 +188,8 @@ class TokenProviderTest {
             .setExpiration(new Date(new Date().getTime() + ONE_MINUTE))
             .compact();
     }
+
+    private static JwtKeyManager hmacKeyManager(JHipsterProperties jHipsterProperties) {
+        return new JwtKeyManager(new ApplicationProperties(), jHipsterProperties, mock(JwtSigningKeyRepository.class));
+    }
 }
@@ -0,0 +1,67 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.service.dto.CatalogHitDTO;
+import com.mycompany.myapp.service.dto.EntityChangeDTO;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+class CatalogIndexServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    private final EntityChangeStreamService entityChangeStreamService = mock(EntityChangeStreamService.class);
+
+    private CatalogIndexService catalogIndexService;
+
+    private Consumer<EntityChangeDTO> listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(mongoTemplate.find(any(Query.class), eq(Item.class)))
+            .thenReturn(List.of(new Item().id("1").name("Green apple").price("2.5"), new Item().id("2").name("Apple pie").price("60")));
+        catalogIndexService = new CatalogIndexService(mongoTemplate, entityChangeStreamService, new ApplicationProperties());
+        catalogIndexService.init();
+        ArgumentCaptor<Consumer<EntityChangeDTO>> captor = ArgumentCaptor.forClass(Consumer.class);
+        verify(entityChangeStreamService).subscribe(captor.capture());
+        listener = captor.getValue();
+    }
+
+    @Test
+    void testChangesAreIndexed() {
+        listener.accept(new EntityChangeDTO(ChangeEvent.Type.CREATED, ChangeEvent.ITEM, "3", new Item().id("3").name("Apple juice")));
+        listener.accept(new EntityChangeDTO(ChangeEvent.Type.DELETED, ChangeEvent.ITEM, "1", null));
+
+        assertThat(catalogIndexService.query("apple", null, null, 0, 10).getHits())
+            .extracting(CatalogHitDTO::getId)
+            .containsExactlyInAnyOrder("2", "3");
+    }
+
+    @Test
+    void testPagesPastTheEndAreEmpty() {
+        assertThat(catalogIndexService.query("apple", null, null, Integer.MAX_VALUE / 10, 20).getHits()).isEmpty();
+        assertThat(catalogIndexService.query("apple", null, null, Integer.MAX_VALUE / 10, 20).getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void testInvalidPagesAreRejected() {
+        assertThatThrownBy(() -> catalogIndexService.query("apple", null, null, -1, 20)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> catalogIndexService.query("apple", null, null, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
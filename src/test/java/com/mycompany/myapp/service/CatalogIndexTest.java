@@ -0,0 +1,62 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import com.mycompany.myapp.service.dto.CatalogHitDTO;
+import com.mycompany.myapp.service.dto.CatalogQueryResultDTO;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CatalogIndexTest {
+
+    private CatalogIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CatalogIndex(List.of(BigDecimal.valueOf(10), BigDecimal.valueOf(50)));
+        index.put("1", "Green apple", "2.5", "fruit");
+        index.put("2", "Apple juice", "12", "drinks");
+        index.put("3", "Apple pie", "60", "bakery");
+        index.put("4", "Orange juice", "9", "drinks");
+        index.put("5", "Gift card", "free", null);
+    }
+
+    @Test
+    void testHitsContainAllTheWords() {
+        CatalogQueryResultDTO result = index.query("apple JUICE", null, null, 0, 10);
+
+        assertThat(result.getTotal()).isEqualTo(1);
+        assertThat(result.getHits()).extracting(CatalogHitDTO::getId).containsExactly("2");
+        assertThat(index.query("banana", null, null, 0, 10).getTotal()).isZero();
+        assertThat(index.query(null, null, null, 0, 10).getTotal()).isEqualTo(5);
+    }
+
+    @Test
+    void testFacetsAreCountedWithoutTheirOwnFilter() {
+        CatalogQueryResultDTO result = index.query("apple", "drinks", null, 0, 10);
+
+        assertThat(result.getHits()).extracting(CatalogHitDTO::getId).containsExactly("2");
+        assertThat(result.getCategories()).containsExactly(entry("fruit", 1), entry("drinks", 1), entry("bakery", 1));
+        assertThat(result.getPriceBuckets()).containsExactly(entry("*-10", 0), entry("10-50", 1), entry("50-*", 0));
+
+        CatalogQueryResultDTO cheap = index.query(null, null, "*-10", 0, 10);
+        assertThat(cheap.getHits()).extracting(CatalogHitDTO::getId).containsExactly("1", "4");
+        assertThat(cheap.getCategories()).containsOnly(entry("fruit", 1), entry("drinks", 1));
+    }
+
+    @Test
+    void testItemsAreReplacedRemovedAndPaged() {
+        index.put("2", "Apple cider", "4", "drinks");
+        index.remove("1");
+        index.put("6", "Apple tart", "30", "bakery");
+
+        assertThat(index.query("juice", null, null, 0, 10).getHits()).extracting(CatalogHitDTO::getId).containsExactly("4");
+        CatalogQueryResultDTO page = index.query("apple", null, null, 1, 1);
+        assertThat(page.getTotal()).isEqualTo(3);
+        assertThat(page.getHits()).hasSize(1);
+        assertThat(index.size()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,82 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.CreateInfo;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.domain.RefType;
+import com.mycompany.myapp.repository.CategoryRepository;
+import com.mycompany.myapp.repository.ItemRepository;
+import com.mycompany.myapp.service.dto.CategoryStatsDTO;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Integration tests for {@link CatalogStatsService}, with items written through RESTHeart and through the repository.
+ */
+@IntegrationTest
+class CatalogStatsServiceIT {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private CatalogStatsService catalogStatsService;
+
+    @Autowired
+    private EntityChangeStreamService entityChangeStreamService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void awaitWatching() throws InterruptedException {
+        assertThat(entityChangeStreamService.awaitWatching(TIMEOUT)).isTrue();
+    }
+
+    @Test
+    void testStatsCountTheItemsAndAreEvictedOnWrites() throws Exception {
+        Category category = categoryRepository.save(new Category().name("stats category"));
+        Instant created = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Item restheartItem = new Item().id(new ObjectId().toHexString()).name("restheart item").price("10");
+        restheartItem.setCategory(new RefType(category.getId(), RefType.RefTo.category));
+        restheartItem.setCreateInfo(new CreateInfo(null, created));
+        mongoTemplate.insert(Document.parse(objectMapper.writeValueAsString(restheartItem)), "item");
+
+        CategoryStatsDTO stats = catalogStatsService.findOne(category.getId()).orElseThrow();
+        assertThat(stats.getItemCount()).isEqualTo(1);
+        assertThat(stats.getRecentItemCount()).isEqualTo(1);
+        assertThat(stats.getLastAddedDate()).isEqualTo(created);
+        assertThat(stats.getAvgPrice()).isEqualTo(10.0);
+
+        Item item = new Item().name("repository item").price("20");
+        item.setCategory(new RefType(category.getId(), RefType.RefTo.category));
+        itemRepository.save(item);
+
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (catalogStatsService.findOne(category.getId()).orElseThrow().getItemCount() == 1 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        stats = catalogStatsService.findOne(category.getId()).orElseThrow();
+        assertThat(stats.getItemCount()).isEqualTo(2);
+        assertThat(stats.getAvgPrice()).isEqualTo(15.0);
+    }
+}
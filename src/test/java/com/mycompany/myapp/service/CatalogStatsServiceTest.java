@@ -0,0 +1,116 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.service.dto.CategoryStatsDTO;
+import com.mycompany.myapp.service.dto.EntityChangeDTO;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+
+class CatalogStatsServiceTest {
+
+    private static final String FRUITS = "5f1d7f3b2c8e4a0012345678";
+
+    private static final String TOOLS = "5f1d7f3b2c8e4a0012345679";
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    private final EntityChangeStreamService entityChangeStreamService = mock(EntityChangeStreamService.class);
+
+    private final CacheManager cacheManager = new ConcurrentMapCacheManager(CatalogStatsService.CATEGORY_STATS_CACHE);
+
+    private CatalogStatsService catalogStatsService;
+
+    @BeforeEach
+    void setUp() {
+        catalogStatsService = new CatalogStatsService(mongoTemplate, entityChangeStreamService, cacheManager, new ApplicationProperties());
+    }
+
+    @Test
+    void testCategoriesWithoutItemsHaveZeroCounts() {
+        Instant lastAdded = Instant.parse("2024-05-01T10:00:00Z");
+        Document fruits = new Document("_id", new ObjectId(FRUITS))
+            .append("itemCount", 3)
+            .append("minPrice", 1.5)
+            .append("maxPrice", 4.0)
+            .append("avgPrice", 2.5)
+            .append("recentItemCount", 1)
+            .append("lastAddedDate", Date.from(lastAdded));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("item"), eq(Document.class)))
+            .thenReturn(new AggregationResults<>(List.of(fruits), new Document()));
+        when(mongoTemplate.find(any(Query.class), eq(Category.class)))
+            .thenReturn(List.of(new Category().id(FRUITS).name("Fruits"), new Category().id(TOOLS).name("Tools")));
+
+        List<CategoryStatsDTO> stats = catalogStatsService.findAll();
+
+        assertThat(stats).extracting(CategoryStatsDTO::getName).containsExactly("Fruits", "Tools");
+        CategoryStatsDTO fruitStats = stats.get(0);
+        assertThat(fruitStats.getCategoryId()).isEqualTo(FRUITS);
+        assertThat(fruitStats.getItemCount()).isEqualTo(3);
+        assertThat(fruitStats.getMinPrice()).isEqualTo(1.5);
+        assertThat(fruitStats.getMaxPrice()).isEqualTo(4.0);
+        assertThat(fruitStats.getAvgPrice()).isEqualTo(2.5);
+        assertThat(fruitStats.getRecentItemCount()).isEqualTo(1);
+        assertThat(fruitStats.getLastAddedDate()).isEqualTo(lastAdded);
+        CategoryStatsDTO toolStats = stats.get(1);
+        assertThat(toolStats.getCategoryId()).isEqualTo(TOOLS);
+        assertThat(toolStats.getItemCount()).isZero();
+        assertThat(toolStats.getAvgPrice()).isNull();
+    }
+
+    @Test
+    void testStatsOfACategoryAreAggregatedOverItsItemsOnly() {
+        when(mongoTemplate.findOne(any(Query.class), eq(Category.class))).thenReturn(new Category().id(FRUITS).name("Fruits"));
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq("item"), eq(Document.class)))
+            .thenReturn(new AggregationResults<>(List.of(), new Document()));
+
+        Optional<CategoryStatsDTO> stats = catalogStatsService.findOne(FRUITS);
+
+        assertThat(stats).get().extracting(CategoryStatsDTO::getName, CategoryStatsDTO::getItemCount).containsExactly("Fruits", 0L);
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate).aggregate(aggregation.capture(), eq("item"), eq(Document.class));
+        List<Document> pipeline = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT);
+        assertThat(pipeline.get(0).get("$match", Document.class)).containsEntry("category._id", new ObjectId(FRUITS));
+        assertThat(pipeline.get(1).get("$group", Document.class)).containsKeys("itemCount", "minPrice", "recentItemCount");
+    }
+
+    @Test
+    void testUnknownCategoryHasNoStats() {
+        assertThat(catalogStatsService.findOne(TOOLS)).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testChangesEvictTheStats() {
+        cacheManager.getCache(CatalogStatsService.CATEGORY_STATS_CACHE).put("all", List.of());
+        ArgumentCaptor<Consumer<EntityChangeDTO>> listener = ArgumentCaptor.forClass(Consumer.class);
+        catalogStatsService.init();
+        verify(entityChangeStreamService).subscribe(listener.capture());
+
+        listener.getValue().accept(new EntityChangeDTO(ChangeEvent.Type.UPDATED, ChangeEvent.ITEM, "a", null));
+
+        assertThat(cacheManager.getCache(CatalogStatsService.CATEGORY_STATS_CACHE).get("all")).isNull();
+    }
+}
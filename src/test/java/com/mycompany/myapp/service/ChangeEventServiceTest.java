@@ -0,0 +1,188 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.domain.Tombstone;
+import com.mycompany.myapp.repository.ChangeEventRepository;
+import com.mycompany.myapp.repository.TombstoneRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+class ChangeEventServiceTest {
+
+    private final ChangeEventRepository changeEventRepository = mock(ChangeEventRepository.class);
+
+    private final TombstoneRepository tombstoneRepository = mock(TombstoneRepository.class);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    private final List<ChangeEvent> outbox = new ArrayList<>();
+
+    private final ApplicationProperties applicationProperties = new ApplicationProperties();
+
+    private ChangeEventService changeEventService;
+
+    @BeforeEach
+    void setUp() {
+        applicationProperties.getChangeFeed().setGapTimeout(Duration.ofSeconds(5));
+        when(changeEventRepository.findBySequenceGreaterThanOrderBySequenceAsc(anyLong(), any(Pageable.class)))
+            .thenAnswer(invocation -> {
+                long since = invocation.getArgument(0);
+                return outbox.stream().filter(event -> event.getSequence() > since).collect(Collectors.toList());
+            });
+        when(changeEventRepository.findFirstByOrderBySequenceDesc()).thenReturn(Optional.empty());
+        changeEventService =
+            new ChangeEventService(changeEventRepository, tombstoneRepository, mongoTemplate, applicationProperties, Runnable::run);
+        changeEventService.init();
+    }
+
+    @Test
+    void testChangesAreReadUpToTheFirstRecentGap() {
+        Instant now = Instant.now();
+        outbox.add(new ChangeEvent(1L, ChangeEvent.ITEM, "a", ChangeEvent.Type.CREATED, now));
+        outbox.add(new ChangeEvent(3L, ChangeEvent.ITEM, "b", ChangeEvent.Type.CREATED, now));
+
+        assertThat(changeEventService.findSince(0)).extracting(ChangeEvent::getSequence).containsExactly(1L);
+        assertThat(changeEventService.findSince(1)).isEmpty();
+    }
+
+    @Test
+    void testOldGapsAreSkipped() {
+        Instant old = Instant.now().minusSeconds(10);
+        outbox.add(new ChangeEvent(1L, ChangeEvent.ITEM, "a", ChangeEvent.Type.CREATED, old));
+        outbox.add(new ChangeEvent(3L, ChangeEvent.ITEM, "b", ChangeEvent.Type.CREATED, old));
+        outbox.add(new ChangeEvent(4L, ChangeEvent.ITEM, "b", ChangeEvent.Type.UPDATED, Instant.now()));
+
+        assertThat(changeEventService.findSince(0)).extracting(ChangeEvent::getSequence).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    void testRecordedChangesAreNumberedAndDispatchedOnce() {
+        when(
+            mongoTemplate.findAndModify(
+                any(Query.class),
+                any(UpdateDefinition.class),
+                any(FindAndModifyOptions.class),
+                eq(Document.class),
+                eq("jhi_sequence")
+            )
+        )
+            .thenReturn(new Document("value", 1L), new Document("value", 2L));
+        when(changeEventRepository.insert(any(ChangeEvent.class)))
+            .thenAnswer(invocation -> {
+                outbox.add(invocation.getArgument(0));
+                return invocation.getArgument(0);
+            });
+        List<List<ChangeEvent>> dispatched = new ArrayList<>();
+        Runnable unsubscribe = changeEventService.subscribe(dispatched::add);
+
+        changeEventService.itemChanged("a", ChangeEvent.Type.UPDATED);
+        changeEventService.dispatch();
+        unsubscribe.run();
+        changeEventService.categoryChanged("b", ChangeEvent.Type.DELETED);
+
+        ArgumentCaptor<ChangeEvent> inserted = ArgumentCaptor.forClass(ChangeEvent.class);
+        verify(changeEventRepository, times(2)).insert(inserted.capture());
+        assertThat(inserted.getAllValues().get(1).getSequence()).isEqualTo(2L);
+        assertThat(inserted.getAllValues().get(1).getEntityType()).isEqualTo(ChangeEvent.CATEGORY);
+        assertThat(dispatched).hasSize(1);
+        assertThat(dispatched.get(0)).singleElement().extracting(ChangeEvent::getEntityId).isEqualTo("a");
+        ArgumentCaptor<Tombstone> tombstone = ArgumentCaptor.forClass(Tombstone.class);
+        verify(tombstoneRepository).save(tombstone.capture());
+        assertThat(tombstone.getValue().getId()).isEqualTo("category:b");
+        assertThat(tombstone.getValue().getDeletedDate()).isEqualTo(inserted.getAllValues().get(1).getCreatedDate());
+    }
+
+    @Test
+    void testSubscribersFromASequenceNumberReadTheChangesAlreadyDispatched() {
+        Instant now = Instant.now();
+        outbox.add(new ChangeEvent(1L, ChangeEvent.ITEM, "a", ChangeEvent.Type.CREATED, now));
+        outbox.add(new ChangeEvent(2L, ChangeEvent.ITEM, "b", ChangeEvent.Type.CREATED, now));
+        outbox.add(new ChangeEvent(3L, ChangeEvent.ITEM, "c", ChangeEvent.Type.CREATED, now));
+        changeEventService.dispatch();
+        List<ChangeEvent> delivered = new ArrayList<>();
+
+        changeEventService.subscribe(1L, delivered::addAll);
+        outbox.add(new ChangeEvent(4L, ChangeEvent.ITEM, "d", ChangeEvent.Type.CREATED, now));
+        changeEventService.dispatch();
+
+        assertThat(delivered).extracting(ChangeEvent::getSequence).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void testSlowSubscribersReadTheDroppedChangesFromTheOutbox() {
+        List<Runnable> tasks = new ArrayList<>();
+        applicationProperties.getChangeFeed().setSubscriberQueueSize(1);
+        ChangeEventService queuedService = new ChangeEventService(
+            changeEventRepository,
+            tombstoneRepository,
+            mongoTemplate,
+            applicationProperties,
+            tasks::add
+        );
+        queuedService.init();
+        List<ChangeEvent> delivered = new ArrayList<>();
+        queuedService.subscribe(delivered::addAll);
+        Instant now = Instant.now();
+
+        outbox.add(new ChangeEvent(1L, ChangeEvent.ITEM, "a", ChangeEvent.Type.CREATED, now));
+        queuedService.dispatch();
+        outbox.add(new ChangeEvent(2L, ChangeEvent.ITEM, "b", ChangeEvent.Type.CREATED, now));
+        queuedService.dispatch();
+        outbox.add(new ChangeEvent(3L, ChangeEvent.ITEM, "c", ChangeEvent.Type.CREATED, now));
+        queuedService.dispatch();
+        assertThat(tasks).hasSize(1);
+        tasks.get(0).run();
+
+        assertThat(delivered).extracting(ChangeEvent::getSequence).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void testDispatchRequestsAreCoalesced() {
+        List<Runnable> tasks = new ArrayList<>();
+        ChangeEventService queuedService = new ChangeEventService(
+            changeEventRepository,
+            tombstoneRepository,
+            mongoTemplate,
+            applicationProperties,
+            tasks::add
+        );
+        when(
+            mongoTemplate.findAndModify(
+                any(Query.class),
+                any(UpdateDefinition.class),
+                any(FindAndModifyOptions.class),
+                eq(Document.class),
+                eq("jhi_sequence")
+            )
+        )
+            .thenReturn(new Document("value", 1L), new Document("value", 2L));
+
+        queuedService.itemChanged("a", ChangeEvent.Type.UPDATED);
+        queuedService.itemChanged("b", ChangeEvent.Type.UPDATED);
+
+        assertThat(tasks).hasSize(1);
+    }
+}
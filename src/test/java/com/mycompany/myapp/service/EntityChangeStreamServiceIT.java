@@ -0,0 +1,94 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.repository.CategoryRepository;
+import com.mycompany.myapp.repository.ItemRepository;
+import com.mycompany.myapp.service.dto.EntityChangeDTO;
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for {@link EntityChangeStreamService}, reading the change streams of the test replica set.
+ */
+@IntegrationTest
+class EntityChangeStreamServiceIT {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private EntityChangeStreamService entityChangeStreamService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private final BlockingQueue<EntityChangeDTO> changes = new LinkedBlockingQueue<>();
+
+    private Runnable unsubscribe;
+
+    @BeforeEach
+    void subscribe() throws InterruptedException {
+        unsubscribe = entityChangeStreamService.subscribe(changes::add);
+        assertThat(entityChangeStreamService.awaitWatching(TIMEOUT)).isTrue();
+    }
+
+    @AfterEach
+    void unsubscribe() {
+        unsubscribe.run();
+    }
+
+    @Test
+    void testItemWritesArePublishedWithTheItem() throws InterruptedException {
+        Item item = itemRepository.save(new Item().name("change stream item").price("12.5"));
+
+        EntityChangeDTO created = awaitChange(item.getId());
+        assertThat(created.getType()).isEqualTo(ChangeEvent.Type.CREATED);
+        assertThat(created.getEntityType()).isEqualTo(ChangeEvent.ITEM);
+        assertThat(((Item) created.getEntity()).getName()).isEqualTo("change stream item");
+
+        itemRepository.save(item.name("renamed item"));
+        EntityChangeDTO updated = awaitChange(item.getId());
+        assertThat(updated.getType()).isEqualTo(ChangeEvent.Type.UPDATED);
+        assertThat(((Item) updated.getEntity()).getName()).isEqualTo("renamed item");
+
+        itemRepository.deleteById(item.getId());
+        EntityChangeDTO deleted = awaitChange(item.getId());
+        assertThat(deleted.getType()).isEqualTo(ChangeEvent.Type.DELETED);
+        assertThat(deleted.getEntity()).isNull();
+    }
+
+    @Test
+    void testCategoryWritesArePublished() throws InterruptedException {
+        Category category = categoryRepository.save(new Category().name("change stream category"));
+
+        EntityChangeDTO created = awaitChange(category.getId());
+        assertThat(created.getType()).isEqualTo(ChangeEvent.Type.CREATED);
+        assertThat(created.getEntityType()).isEqualTo(ChangeEvent.CATEGORY);
+
+        categoryRepository.deleteById(category.getId());
+        assertThat(awaitChange(category.getId()).getType()).isEqualTo(ChangeEvent.Type.DELETED);
+    }
+
+    private EntityChangeDTO awaitChange(String id) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        EntityChangeDTO change;
+        do {
+            change = changes.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } while (change != null && !id.equals(change.getId()));
+        assertThat(change).as("change of %s", id).isNotNull();
+        return change;
+    }
+}
@@ -0,0 +1,194 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.repository.CategoryRepository;
+import com.mycompany.myapp.repository.ItemRepository;
+import com.mycompany.myapp.service.dto.EntityChangeDTO;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Subscription;
+import org.springframework.util.ErrorHandler;
+
+class EntityChangeStreamServiceTest {
+
+    private final MessageListenerContainer container = mock(MessageListenerContainer.class);
+
+    private final ChangeEventService changeEventService = mock(ChangeEventService.class);
+
+    private final ItemRepository itemRepository = mock(ItemRepository.class);
+
+    private final List<ChangeStreamRequest<Object>> requests = new ArrayList<>();
+
+    private final List<ErrorHandler> errorHandlers = new ArrayList<>();
+
+    private final List<EntityChangeDTO> changes = new ArrayList<>();
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private ApplicationProperties applicationProperties;
+
+    private EntityChangeStreamService entityChangeStreamService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(container.register(any(), any(), any()))
+            .thenAnswer(invocation -> {
+                requests.add(invocation.getArgument(0));
+                errorHandlers.add(invocation.getArgument(2));
+                return mock(Subscription.class);
+            });
+        applicationProperties = new ApplicationProperties();
+        entityChangeStreamService =
+            new EntityChangeStreamService(
+                container,
+                changeEventService,
+                itemRepository,
+                mock(CategoryRepository.class),
+                applicationProperties,
+                tasks::add
+            );
+        entityChangeStreamService.init();
+        entityChangeStreamService.subscribe(changes::add);
+    }
+
+    @Test
+    void testChangeStreamsArePublishedWithTheEntities() {
+        assertThat(requests).extracting(request -> request.getRequestOptions().getCollectionName()).containsExactly("item", "category");
+        Item item = new Item();
+        ObjectId id = new ObjectId();
+
+        requests.get(0).getMessageListener().onMessage(message(OperationType.UPDATE, id, item));
+        requests.get(0).getMessageListener().onMessage(message(OperationType.DELETE, id, null));
+
+        assertThat(changes).extracting(EntityChangeDTO::getType).containsExactly(ChangeEvent.Type.UPDATED, ChangeEvent.Type.DELETED);
+        assertThat(changes).extracting(EntityChangeDTO::getEntityType).containsOnly(ChangeEvent.ITEM);
+        assertThat(changes).extracting(EntityChangeDTO::getId).containsOnly(id.toHexString());
+        assertThat(changes.get(0).getEntity()).isSameAs(item);
+        assertThat(changes.get(1).getEntity()).isNull();
+    }
+
+    @Test
+    void testFailedChangeStreamsAreResumed() {
+        requests.get(0).getMessageListener().onMessage(message(OperationType.INSERT, new ObjectId(), new Item()));
+        errorHandlers.get(0).handleError(new IllegalStateException("Connection reset"));
+
+        entityChangeStreamService.rewatch();
+
+        assertThat(requests).hasSize(3);
+        assertThat(requests.get(2).getRequestOptions().getCollectionName()).isEqualTo("item");
+        assertThat(requests.get(2).getRequestOptions().getChangeStreamOptions().getResumeToken())
+            .contains(new BsonDocument("_data", new BsonString("token")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testOutboxIsReadWithoutReplicaSet() {
+        ArgumentCaptor<Consumer<List<ChangeEvent>>> listener = ArgumentCaptor.forClass(Consumer.class);
+        when(changeEventService.subscribe(listener.capture())).thenReturn(() -> {});
+        Item item = new Item();
+        when(itemRepository.findById("a")).thenReturn(Optional.of(item));
+        MongoCommandException notSupported = new MongoCommandException(
+            new BsonDocument("code", new BsonInt32(40573)).append("errmsg", new BsonString("only supported on replica sets")),
+            new ServerAddress()
+        );
+
+        errorHandlers.get(0).handleError(notSupported);
+        errorHandlers.get(1).handleError(notSupported);
+        listener
+            .getValue()
+            .accept(
+                List.of(
+                    new ChangeEvent(1L, ChangeEvent.ITEM, "a", ChangeEvent.Type.CREATED, Instant.now()),
+                    new ChangeEvent(2L, ChangeEvent.ITEM, "b", ChangeEvent.Type.DELETED, Instant.now())
+                )
+            );
+
+        verify(changeEventService, times(1)).subscribe(any());
+        verify(container, times(2)).remove(any());
+        assertThat(changes).extracting(EntityChangeDTO::getId).containsExactly("a", "b");
+        assertThat(changes.get(0).getEntity()).isSameAs(item);
+        entityChangeStreamService.rewatch();
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    void testQueuedListenersAreCalledByTasks() {
+        List<EntityChangeDTO> queued = new ArrayList<>();
+        entityChangeStreamService.subscribeQueued(queued::add, () -> {});
+
+        requests.get(0).getMessageListener().onMessage(message(OperationType.INSERT, new ObjectId(), new Item()));
+        requests.get(0).getMessageListener().onMessage(message(OperationType.UPDATE, new ObjectId(), new Item()));
+
+        assertThat(changes).hasSize(2);
+        assertThat(queued).isEmpty();
+        assertThat(tasks).hasSize(1);
+        tasks.remove(0).run();
+        assertThat(queued).extracting(EntityChangeDTO::getType).containsExactly(ChangeEvent.Type.CREATED, ChangeEvent.Type.UPDATED);
+    }
+
+    @Test
+    void testQueuedListenersFallingBehindAreRemoved() {
+        applicationProperties.getChangeFeed().setSubscriberQueueSize(2);
+        List<EntityChangeDTO> queued = new ArrayList<>();
+        List<Boolean> overflowed = new ArrayList<>();
+        entityChangeStreamService.subscribeQueued(queued::add, () -> overflowed.add(true));
+
+        for (int i = 0; i < 4; i++) {
+            requests.get(0).getMessageListener().onMessage(message(OperationType.INSERT, new ObjectId(), new Item()));
+        }
+        tasks.forEach(Runnable::run);
+
+        assertThat(changes).hasSize(4);
+        assertThat(queued).isEmpty();
+        assertThat(overflowed).containsExactly(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Message<ChangeStreamDocument<Document>, Object> message(OperationType operationType, ObjectId id, Object body) {
+        ChangeStreamDocument<Document> raw = new ChangeStreamDocument<>(
+            operationType,
+            new BsonDocument("_data", new BsonString("token")),
+            null,
+            null,
+            null,
+            new BsonDocument("_id", new BsonObjectId(id)),
+            null,
+            null,
+            null,
+            null
+        );
+        Message<ChangeStreamDocument<Document>, Object> message = mock(Message.class);
+        when(message.getRaw()).thenReturn(raw);
+        when(message.getBody()).thenReturn(body);
+        return message;
+    }
+}
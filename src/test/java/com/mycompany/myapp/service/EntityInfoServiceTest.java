@@ -0,0 +1,56 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.domain.RefType;
+import com.mycompany.myapp.domain.UpdateInfo;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.UserRepository;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class EntityInfoServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final EntityInfoService entityInfoService = new EntityInfoService(userRepository);
+
+    @BeforeEach
+    @AfterEach
+    void cleanup() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testEntitiesAreStampedWithTheCurrentUser() {
+        User user = new User();
+        user.setId("user-1");
+        when(userRepository.findOneByLogin("editor")).thenReturn(Optional.of(user));
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(new UsernamePasswordAuthenticationToken("editor", "editor"));
+        SecurityContextHolder.setContext(securityContext);
+        Instant before = Instant.now();
+
+        UpdateInfo updateInfo = entityInfoService.currentUpdateInfo();
+
+        assertThat(updateInfo.getUser().getId()).isEqualTo("user-1");
+        assertThat(updateInfo.getUser().getRef()).isEqualTo(RefType.RefTo.User.name());
+        assertThat(updateInfo.getLastModifiedDate()).isBetween(before, Instant.now());
+        assertThat(entityInfoService.currentCreateInfo().getUser().getId()).isEqualTo("user-1");
+    }
+
+    @Test
+    void testEntitiesWrittenWithoutUserAreNotAttributed() {
+        assertThat(entityInfoService.currentUpdateInfo().getUser()).isNull();
+        assertThat(entityInfoService.currentUpdateInfo().getLastModifiedDate()).isNotNull();
+        assertThat(entityInfoService.currentCreateInfo().getUser()).isNull();
+    }
+}
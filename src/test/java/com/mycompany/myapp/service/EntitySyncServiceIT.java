@@ -0,0 +1,59 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Category;
+import com.mycompany.myapp.domain.CreateInfo;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.domain.UpdateInfo;
+import com.mycompany.myapp.service.dto.EntityChangesDTO;
+import java.time.Instant;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Integration tests for {@link EntitySyncService}, with entities stored as RESTHeart stores the JSON the Feign clients
+ * send.
+ */
+@IntegrationTest
+class EntitySyncServiceIT {
+
+    @Autowired
+    private EntitySyncService entitySyncService;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void testItemsWrittenThroughRestheartAreSynced() throws Exception {
+        Instant since = Instant.now().minusSeconds(60);
+        Item item = new Item().id(new ObjectId().toHexString()).name("synced item");
+        item.setCreateInfo(new CreateInfo(null, since.plusSeconds(10)));
+        item.setUpdateInfo(new UpdateInfo(null, since.plusSeconds(10)));
+        mongoTemplate.insert(Document.parse(objectMapper.writeValueAsString(item)), "item");
+
+        EntityChangesDTO<Item> changes = entitySyncService.findItemChanges(since, null, null);
+
+        assertThat(changes.getUpdated()).extracting(Item::getId).contains(item.getId());
+    }
+
+    @Test
+    void testCategoriesWrittenThroughRestheartAreSynced() throws Exception {
+        Instant since = Instant.now().minusSeconds(60);
+        Category category = new Category().id(new ObjectId().toHexString()).name("synced category");
+        category.setUpdateInfo(new UpdateInfo(null, since.plusSeconds(10)));
+        mongoTemplate.insert(Document.parse(objectMapper.writeValueAsString(category)), "category");
+
+        EntityChangesDTO<Category> changes = entitySyncService.findCategoryChanges(since, null, null);
+
+        assertThat(changes.getUpdated()).extracting(Category::getId).contains(category.getId());
+    }
+}
@@ -0,0 +1,127 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.domain.Tombstone;
+import com.mycompany.myapp.repository.TombstoneRepository;
+import com.mycompany.myapp.service.dto.EntityChangesDTO;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+class EntitySyncServiceTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    private final TombstoneRepository tombstoneRepository = mock(TombstoneRepository.class);
+
+    private EntitySyncService entitySyncService;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getChangeFeed().setSyncSettleTime(Duration.ofSeconds(5));
+        applicationProperties.getChangeFeed().setSyncPageSize(2);
+        entitySyncService = new EntitySyncService(mongoTemplate, tombstoneRepository, applicationProperties);
+    }
+
+    @Test
+    void testChangesAreReadUpToTheSettleTime() {
+        Instant since = Instant.now().minusSeconds(60);
+        Item item = new Item().id("a");
+        when(mongoTemplate.find(any(Query.class), eq(Item.class))).thenReturn(List.of(item));
+        when(
+            tombstoneRepository.findByEntityTypeAndDeletedDateGreaterThanEqualAndDeletedDateLessThan(
+                eq(ChangeEvent.ITEM),
+                eq(since),
+                any(),
+                any()
+            )
+        )
+            .thenReturn(List.of(new Tombstone(ChangeEvent.ITEM, "b", since.plusSeconds(1))));
+        Instant before = Instant.now();
+
+        EntityChangesDTO<Item> changes = entitySyncService.findItemChanges(since, null, null);
+
+        assertThat(changes.getSince()).isEqualTo(since);
+        assertThat(changes.getUntil()).isBetween(before.minusSeconds(5), Instant.now().minusSeconds(5));
+        assertThat(changes.getUpdated()).containsExactly(item);
+        assertThat(changes.getDeleted()).containsExactly("b");
+        assertThat(changes.getAfter()).isNull();
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Item.class));
+        Document lastModifiedDate = query.getValue().getQueryObject().get("updateInfo.lastModifiedDate", Document.class);
+        assertThat(lastModifiedDate).containsEntry("$gte", since).containsEntry("$lt", changes.getUntil());
+    }
+
+    @Test
+    void testRecentChangesAreLeftToTheNextSync() {
+        Instant since = Instant.now().minusSeconds(1);
+
+        EntityChangesDTO<Item> changes = entitySyncService.findItemChanges(since, null, null);
+
+        assertThat(changes.getUntil()).isEqualTo(since);
+        assertThat(changes.getUpdated()).isEmpty();
+        verifyNoInteractions(mongoTemplate, tombstoneRepository);
+    }
+
+    @Test
+    void testChangesArePagedByIdUpToTheLowestLastId() {
+        Instant since = Instant.now().minusSeconds(60);
+        Instant until = Instant.now().minusSeconds(5);
+        when(mongoTemplate.find(any(Query.class), eq(Item.class))).thenReturn(List.of(new Item().id("c"), new Item().id("e")));
+        when(
+            tombstoneRepository.findByEntityTypeAndDeletedDateGreaterThanEqualAndDeletedDateLessThanAndEntityIdGreaterThan(
+                eq(ChangeEvent.ITEM),
+                eq(since),
+                eq(until),
+                eq("b"),
+                any()
+            )
+        )
+            .thenReturn(List.of(new Tombstone(ChangeEvent.ITEM, "d", since), new Tombstone(ChangeEvent.ITEM, "d2", since)));
+
+        EntityChangesDTO<Item> changes = entitySyncService.findItemChanges(since, until, "b");
+
+        assertThat(changes.getUntil()).isEqualTo(until);
+        assertThat(changes.getUpdated()).extracting(Item::getId).containsExactly("c");
+        assertThat(changes.getDeleted()).containsExactly("d", "d2");
+        assertThat(changes.getAfter()).isEqualTo("d2");
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Item.class));
+        assertThat(query.getValue().getLimit()).isEqualTo(2);
+        assertThat(query.getValue().getQueryObject().get("_id", Document.class)).containsEntry("$gt", "b");
+    }
+
+    @Test
+    void testSyncWithoutSinceReadsAllTheEntities() {
+        when(mongoTemplate.find(any(Query.class), eq(Item.class))).thenReturn(List.of(new Item().id("a")));
+
+        EntityChangesDTO<Item> changes = entitySyncService.findItemChanges(null, null, null);
+
+        assertThat(changes.getUpdated()).hasSize(1);
+        assertThat(changes.getDeleted()).isEmpty();
+        assertThat(changes.getAfter()).isNull();
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Item.class));
+        assertThat(query.getValue().getQueryObject()).isEmpty();
+        verifyNoInteractions(tombstoneRepository);
+        assertThat(entitySyncService.isExpired(Instant.now().minus(Tombstone.RETENTION).minusSeconds(1))).isTrue();
+        assertThat(entitySyncService.isExpired(Instant.now().minus(Duration.ofDays(1)))).isFalse();
+    }
+}
@@ -0,0 +1,179 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.MailMessage;
+import com.mycompany.myapp.repository.MailMessageRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.objenesis.ObjenesisStd;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import tech.jhipster.config.JHipsterProperties;
+
+class MailOutboxServiceTest {
+
+    private final MailMessageRepository mailMessageRepository = mock(MailMessageRepository.class);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+    private final JavaMailSender javaMailSender = mock(JavaMailSender.class);
+
+    private final ApplicationProperties applicationProperties = new ApplicationProperties();
+
+    private final List<List<MimeMessage>> batches = new ArrayList<>();
+
+    private final Map<String, Exception> failures = new HashMap<>();
+
+    private boolean connectionRefused;
+
+    private MailSendException sendFailure;
+
+    private MailOutboxService mailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getMail().setFrom("test@localhost");
+        applicationProperties.getMail().setBatchSize(2);
+        applicationProperties.getMail().setMaxAttempts(3);
+        applicationProperties.getMail().setInitialBackoff(Duration.ofSeconds(30));
+        applicationProperties.getMail().setMaxBackoff(Duration.ofSeconds(45));
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        doAnswer(invocation -> send(Arrays.stream(invocation.getArguments()).toArray(MimeMessage[]::new)))
+            .when(javaMailSender)
+            .send(ArgumentMatchers.<MimeMessage[]>any());
+        mailOutboxService =
+            new MailOutboxService(
+                mailMessageRepository,
+                mongoTemplate,
+                javaMailSender,
+                jHipsterProperties,
+                applicationProperties,
+                Runnable::run
+            );
+    }
+
+    @Test
+    void testEnqueueSendsTheOutboxInBatches() throws Exception {
+        MailMessage first = mailMessage("first@example.com", 0);
+        MailMessage second = mailMessage("second@example.com", 0);
+        MailMessage third = mailMessage("third@example.com", 0);
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), eq(MailMessage.class)))
+            .thenReturn(first, second, third, null);
+
+        mailOutboxService.enqueue(first);
+
+        verify(mailMessageRepository).save(first);
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).hasSize(2);
+        assertThat(batches.get(1)).hasSize(1);
+        MimeMessage mimeMessage = batches.get(0).get(0);
+        assertThat(mimeMessage.getAllRecipients()[0]).hasToString("first@example.com");
+        assertThat(mimeMessage.getFrom()[0]).hasToString("test@localhost");
+        assertThat(mimeMessage.getSubject()).isEqualTo("subject");
+        verify(mailMessageRepository).delete(first);
+        verify(mailMessageRepository).delete(second);
+        verify(mailMessageRepository).delete(third);
+    }
+
+    @Test
+    void testFailedEmailsAreRetriedWithBackoff() {
+        MailMessage sent = mailMessage("sent@example.com", 0);
+        MailMessage failed = mailMessage("failed@example.com", 1);
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), eq(MailMessage.class)))
+            .thenReturn(sent, failed, null);
+        failures.put("failed@example.com", new MessagingException("Mailbox unavailable"));
+        Instant before = Instant.now();
+
+        mailOutboxService.deliver();
+
+        verify(mailMessageRepository).delete(sent);
+        verify(mailMessageRepository).save(failed);
+        assertThat(failed.getAttempts()).isEqualTo(2);
+        assertThat(failed.getLastError()).isEqualTo("Mailbox unavailable");
+        assertThat(failed.getNextAttemptDate()).isBetween(before.plusSeconds(45), Instant.now().plusSeconds(45));
+    }
+
+    @Test
+    void testEmailsAreDroppedAfterTheMaxAttempts() {
+        MailMessage retried = mailMessage("retried@example.com", 0);
+        MailMessage dropped = mailMessage("dropped@example.com", 2);
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), eq(MailMessage.class)))
+            .thenReturn(retried, dropped, null);
+        connectionRefused = true;
+        Instant before = Instant.now();
+
+        mailOutboxService.deliver();
+
+        verify(mailMessageRepository).save(retried);
+        assertThat(retried.getNextAttemptDate()).isBetween(before.plusSeconds(30), Instant.now().plusSeconds(30));
+        verify(mailMessageRepository).delete(dropped);
+        verify(mailMessageRepository, never()).save(dropped);
+    }
+
+    @Test
+    void testFailuresWithoutFailedMessagesFailTheWholeBatch() {
+        MailMessage mailMessage = mailMessage("failed@example.com", 0);
+        when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), eq(MailMessage.class)))
+            .thenReturn(mailMessage, (MailMessage) null);
+        // as built by mocking frameworks, without running its constructor
+        sendFailure = new ObjenesisStd().newInstance(MailSendException.class);
+        assertThat(sendFailure.getFailedMessages()).isNull();
+
+        mailOutboxService.deliver();
+
+        verify(mailMessageRepository).save(mailMessage);
+        assertThat(mailMessage.getAttempts()).isEqualTo(1);
+    }
+
+    private Void send(MimeMessage[] mimeMessages) throws MessagingException {
+        batches.add(List.of(mimeMessages));
+        if (connectionRefused) {
+            throw new MailSendException("Connection refused");
+        }
+        if (sendFailure != null) {
+            throw sendFailure;
+        }
+        Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        for (MimeMessage mimeMessage : mimeMessages) {
+            Exception failure = failures.get(mimeMessage.getAllRecipients()[0].toString());
+            if (failure != null) {
+                failedMessages.put(mimeMessage, failure);
+            }
+        }
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+        return null;
+    }
+
+    private static MailMessage mailMessage(String to, int attempts) {
+        MailMessage mailMessage = new MailMessage(to, "subject", "content", false, false, Instant.now());
+        mailMessage.setAttempts(attempts);
+        return mailMessage;
+    }
+}
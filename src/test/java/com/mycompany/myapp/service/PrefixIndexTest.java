@@ -0,0 +1,41 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.service.dto.SuggestionDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PrefixIndexTest {
+
+    private PrefixIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PrefixIndex(ChangeEvent.ITEM);
+        index.put("1", "Apple juice");
+        index.put("2", "Crème brûlée");
+        index.put("3", "Green apple");
+        index.put("4", "Apricot");
+    }
+
+    @Test
+    void testPrefixesMatchTheWordsOfTheNames() {
+        assertThat(index.find("ap", 10)).extracting(SuggestionDTO::getId).containsExactly("3", "1", "4");
+        assertThat(index.find("APPLE J", 10)).extracting(SuggestionDTO::getName).containsExactly("Apple juice");
+        assertThat(index.find("brule", 10)).extracting(SuggestionDTO::getName).containsExactly("Crème brûlée");
+        assertThat(index.find("ap", 2)).hasSize(2);
+        assertThat(index.find("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void testNamesAreReplacedAndRemoved() {
+        index.put("1", "Orange juice");
+        index.remove("3");
+
+        assertThat(index.find("ap", 10)).extracting(SuggestionDTO::getId).containsExactly("4");
+        assertThat(index.find("juice", 10)).singleElement().extracting(SuggestionDTO::getName).isEqualTo("Orange juice");
+        assertThat(index.size()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,103 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.reactive.ReactiveUserRepository;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ReactiveItemServiceTest {
+
+    private static final String ITEM_ID = "5f1a2b3c4d5e6f7a8b9c0d1e";
+
+    private static final String CATEGORY_ID = "5f1a2b3c4d5e6f7a8b9c0d1f";
+
+    private static final String USER_ID = "5f1a2b3c4d5e6f7a8b9c0d20";
+
+    private final List<URI> requests = new CopyOnWriteArrayList<>();
+
+    private final ReactiveUserRepository reactiveUserRepository = mock(ReactiveUserRepository.class);
+
+    private ReactiveItemService reactiveItemService;
+
+    @BeforeEach
+    public void setup() {
+        WebClient webClient = WebClient
+            .builder()
+            .baseUrl("http://restheart")
+            .exchangeFunction(request -> {
+                requests.add(request.url());
+                switch (request.url().getPath()) {
+                    case "/pro5/item":
+                        return json("[{\"_id\":{\"$oid\":\"" + ITEM_ID + "\"},\"name\":\"a\"},{\"name\":\"b\"}]");
+                    case "/pro5/item/" + ITEM_ID:
+                        return json(
+                            "{\"_id\":{\"$oid\":\"" +
+                            ITEM_ID +
+                            "\"},\"name\":\"a\",\"category\":{\"_id\":{\"$oid\":\"" +
+                            CATEGORY_ID +
+                            "\"},\"_ref\":\"category\"},\"createInfo\":{\"user\":{\"_id\":{\"$oid\":\"" +
+                            USER_ID +
+                            "\"},\"_ref\":\"User\"}}}"
+                        );
+                    case "/pro5/category/" + CATEGORY_ID:
+                        return json("{\"_id\":{\"$oid\":\"" + CATEGORY_ID + "\"},\"name\":\"tools\"}");
+                    default:
+                        return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+                }
+            })
+            .build();
+        User user = new User();
+        user.setId(USER_ID);
+        user.setLogin("creator");
+        when(reactiveUserRepository.findById(USER_ID)).thenReturn(Mono.just(user));
+        reactiveItemService = new ReactiveItemService(webClient, new ReactiveCategoryService(webClient), reactiveUserRepository);
+    }
+
+    @Test
+    void testFindAllStreamsTheArrayAndEncodesTheProjection() {
+        StepVerifier
+            .create(reactiveItemService.findAll("{\"_id\":1,\"name\":1}"))
+            .assertNext(item -> assertThat(item.getName()).isEqualTo("a"))
+            .assertNext(item -> assertThat(item.getName()).isEqualTo("b"))
+            .verifyComplete();
+
+        assertThat(requests.get(0).getRawQuery()).isEqualTo("keys=%7B%22_id%22%3A1%2C%22name%22%3A1%7D");
+    }
+
+    @Test
+    void testFindDetailsResolvesTheCategoryAndCreator() {
+        StepVerifier
+            .create(reactiveItemService.findDetails(ITEM_ID))
+            .assertNext(details -> {
+                assertThat(details.getItem().getId()).isEqualTo(ITEM_ID);
+                assertThat(details.getCategory().getName()).isEqualTo("tools");
+                assertThat(details.getCreatedBy().getLogin()).isEqualTo("creator");
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    void testMissingItemIsEmpty() {
+        StepVerifier.create(reactiveItemService.findDetails("missing")).verifyComplete();
+    }
+
+    private static Mono<ClientResponse> json(String body) {
+        return Mono.just(
+            ClientResponse.create(HttpStatus.OK).header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE).body(body).build()
+        );
+    }
+}
@@ -0,0 +1,63 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.ChangeEvent;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.repository.ItemRepository;
+import com.mycompany.myapp.service.dto.SuggestionDTO;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Integration tests for the type-ahead of {@link SearchService}, kept up to date from the writes.
+ */
+@IntegrationTest
+class SearchServiceIT {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private EntityChangeStreamService entityChangeStreamService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @BeforeEach
+    void awaitWatching() throws InterruptedException {
+        assertThat(entityChangeStreamService.awaitWatching(TIMEOUT)).isTrue();
+    }
+
+    @Test
+    void testWritesAreSuggested() throws InterruptedException {
+        Item item = itemRepository.save(new Item().name("Zanzibar clove"));
+        assertThat(awaitSuggested("zanzi", item.getId(), true)).isTrue();
+
+        itemRepository.save(item.name("Quokka plush"));
+        assertThat(awaitSuggested("quokk", item.getId(), true)).isTrue();
+        assertThat(isSuggested("zanzi", item.getId())).isFalse();
+
+        itemRepository.deleteById(item.getId());
+        assertThat(awaitSuggested("quokk", item.getId(), false)).isFalse();
+    }
+
+    private boolean awaitSuggested(String prefix, String id, boolean expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        boolean suggested = isSuggested(prefix, id);
+        while (suggested != expected && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            suggested = isSuggested(prefix, id);
+        }
+        return suggested;
+    }
+
+    private boolean isSuggested(String prefix, String id) {
+        return searchService.suggest(prefix, ChangeEvent.ITEM, 10).stream().map(SuggestionDTO::getId).anyMatch(id::equals);
+    }
+}
@@ -0,0 +1,121 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.mycompany.myapp.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration tests for the {@link ReactiveCategoryResource} REST controller, with RESTHeart stubbed by
+ * {@link RestheartStub}. The requests start asynchronously and complete on their dispatch.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ReactiveCategoryResourceIT {
+
+    private static final String CATEGORY_ID = "5f1a2b3c4d5e6f7a8b9c0d1f";
+
+    private static final String ENTITY_API_URL = "/api/reactive/pro5/category";
+    private static final String ENTITY_API_URL_ID = ENTITY_API_URL + "/{id}";
+
+    @Autowired
+    private MockMvc restCategoryMockMvc;
+
+    @DynamicPropertySource
+    static void restheartProperties(DynamicPropertyRegistry registry) {
+        registry.add("application.restheart.url", RestheartStub::url);
+    }
+
+    @BeforeEach
+    public void initTest() {
+        RestheartStub.respond(
+            "/pro5/category",
+            "[{\"_id\":{\"$oid\":\"" + CATEGORY_ID + "\"},\"name\":\"AAAAAAAAAA\"},{\"name\":\"BBBBBBBBBB\"}]"
+        );
+        RestheartStub.respond("/pro5/category/" + CATEGORY_ID, "{\"_id\":{\"$oid\":\"" + CATEGORY_ID + "\"},\"name\":\"AAAAAAAAAA\"}");
+    }
+
+    @AfterEach
+    public void cleanup() {
+        RestheartStub.reset();
+    }
+
+    @Test
+    void getAllCategories() throws Exception {
+        MvcResult result = restCategoryMockMvc.perform(get(ENTITY_API_URL)).andExpect(request().asyncStarted()).andReturn();
+
+        restCategoryMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].name").value(hasItem("AAAAAAAAAA")))
+            .andExpect(jsonPath("$.[*].name").value(hasItem("BBBBBBBBBB")));
+    }
+
+    @Test
+    void streamAllCategories() throws Exception {
+        MvcResult result = restCategoryMockMvc
+            .perform(get(ENTITY_API_URL + "/stream").accept(MediaType.APPLICATION_NDJSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        restCategoryMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(containsString("\"name\":\"AAAAAAAAAA\"")))
+            .andExpect(content().string(containsString("\"name\":\"BBBBBBBBBB\"")));
+    }
+
+    @Test
+    void getCategory() throws Exception {
+        MvcResult result = restCategoryMockMvc
+            .perform(get(ENTITY_API_URL_ID, CATEGORY_ID))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        restCategoryMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.name").value("AAAAAAAAAA"));
+    }
+
+    @Test
+    void getCategoryWithFields() throws Exception {
+        MvcResult result = restCategoryMockMvc
+            .perform(get(ENTITY_API_URL_ID + "?fields=name", CATEGORY_ID))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        restCategoryMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value("AAAAAAAAAA"))
+            .andExpect(jsonPath("$.item").doesNotExist());
+    }
+
+    @Test
+    void getNonExistingCategory() throws Exception {
+        MvcResult result = restCategoryMockMvc
+            .perform(get(ENTITY_API_URL_ID, "5f1a2b3c4d5e6f7a8b9c0d99"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        restCategoryMockMvc.perform(asyncDispatch(result)).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,63 @@
+package com.mycompany.myapp.web.rest;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RESTHeart stand-in for the integration tests of the reactive API, answering on a random local port with the JSON
+ * registered by path, and with a {@code 404 (Not Found)} otherwise.
+ */
+public final class RestheartStub {
+
+    private static final Map<String, String> responses = new ConcurrentHashMap<>();
+
+    private static HttpServer server;
+
+    private RestheartStub() {}
+
+    /**
+     * @return the base URL of the stub, started on the first call.
+     */
+    public static synchronized String url() {
+        if (server == null) {
+            try {
+                server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            server.createContext(
+                "/",
+                exchange -> {
+                    String json = responses.get(exchange.getRequestURI().getPath());
+                    if (json == null) {
+                        exchange.sendResponseHeaders(404, -1);
+                    } else {
+                        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+                        exchange.getResponseHeaders().add("Content-Type", "application/json");
+                        exchange.sendResponseHeaders(200, body.length);
+                        try (OutputStream out = exchange.getResponseBody()) {
+                            out.write(body);
+                        }
+                    }
+                    exchange.close();
+                }
+            );
+            server.start();
+        }
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public static void respond(String path, String json) {
+        responses.put(path, json);
+    }
+
+    public static void reset() {
+        responses.clear();
+    }
+}
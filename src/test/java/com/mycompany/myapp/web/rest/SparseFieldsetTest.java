@@ -0,0 +1,68 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.config.JacksonConfiguration;
+import com.mycompany.myapp.domain.Item;
+import com.mycompany.myapp.domain.RefType;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+class SparseFieldsetTest {
+
+    private static final Map<String, String> FIELDS = Map.of("name", "name", "price", "price", "createInfo", "create_info");
+
+    private ObjectMapper objectMapper;
+
+    private Item item;
+
+    @BeforeEach
+    void setup() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new JacksonConfiguration().sparseFieldsetCustomizer().customize(builder);
+        objectMapper = builder.build();
+        item = new Item();
+        item.setId("5f1d7d8e9c1b2a3f4e5d6c7b");
+        item.setName("item");
+        item.setPrice("10");
+        item.setCategory(new RefType("5f1d7d8e9c1b2a3f4e5d6c7c", RefType.RefTo.category));
+    }
+
+    @Test
+    void testAllFieldsWhenAbsent() throws Exception {
+        SparseFieldset fieldset = SparseFieldset.parse(null, FIELDS, "item");
+
+        assertThat(fieldset.toProjection()).isNull();
+        assertThat(fieldset.apply(item)).isSameAs(item);
+        assertThat(objectMapper.writeValueAsString(item)).contains("\"price\"", "\"category\"");
+    }
+
+    @Test
+    void testProjectionUsesMongoFieldNames() {
+        SparseFieldset fieldset = SparseFieldset.parse("name, createInfo,create_info", FIELDS, "item");
+
+        assertThat(fieldset.toProjection()).isEqualTo("{\"_id\":1,\"name\":1,\"create_info\":1}");
+    }
+
+    @Test
+    void testFilterKeepsSelectedProperties() throws Exception {
+        MappingJacksonValue value = (MappingJacksonValue) SparseFieldset.parse("name", FIELDS, "item").apply(List.of(item));
+
+        assertThat(objectMapper.writer(value.getFilters()).writeValueAsString(value.getValue()))
+            .isEqualTo("[{\"name\":\"item\",\"_id\":{\"$oid\":\"5f1d7d8e9c1b2a3f4e5d6c7b\"}}]");
+    }
+
+    @Test
+    void testUnknownFieldIsRejected() {
+        assertThatThrownBy(() -> SparseFieldset.parse("name,password", FIELDS, "item"))
+            .isInstanceOf(BadRequestAlertException.class)
+            .hasMessage("Unknown field password");
+    }
+}
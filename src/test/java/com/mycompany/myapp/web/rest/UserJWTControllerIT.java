@@ -1,24 +1,40 @@
 package com.mycompany.myapp.web.rest;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Authority;
 import com.mycompany.myapp.domain.User;
 import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.security.jwt.TokenProvider;
 import com.mycompany.myapp.web.rest.vm.LoginVM;
+import com.mycompany.myapp.web.rest.vm.RefreshTokenVM;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 /**
  * Integration tests for the {@link UserJWTController} REST controller.
@@ -36,6 +52,9 @@ class UserJWTControllerIT {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private TokenProvider tokenProvider;
+
     @Test
     void testAuthorize() throws Exception {
         User user = new User();
@@ -50,7 +69,7 @@ class UserJWTControllerIT {
         login.setUsername("user-jwt-controller");
         login.setPassword("test");
         mockMvc
-            .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(login)))
+            .perform(asyncDispatch(authenticate(login)))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id_token").isString())
             .andExpect(jsonPath("$.id_token").isNotEmpty())
@@ -73,7 +92,7 @@ class UserJWTControllerIT {
         login.setPassword("test");
         login.setRememberMe(true);
         mockMvc
-            .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(login)))
+            .perform(asyncDispatch(authenticate(login)))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id_token").isString())
             .andExpect(jsonPath("$.id_token").isNotEmpty())
@@ -87,9 +106,103 @@ class UserJWTControllerIT {
         login.setUsername("wrong-user");
         login.setPassword("wrong password");
         mockMvc
-            .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(login)))
+            .perform(asyncDispatch(authenticate(login)))
             .andExpect(status().isUnauthorized())
             .andExpect(jsonPath("$.id_token").doesNotExist())
             .andExpect(header().doesNotExist("Authorization"));
     }
+
+    @Test
+    void testAuthorizeIsThrottled() throws Exception {
+        LoginVM login = new LoginVM();
+        login.setUsername("throttled-user");
+        login.setPassword("wrong password");
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(asyncDispatch(authenticate(login))).andExpect(status().isUnauthorized());
+        }
+        mockMvc
+            .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(login)))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"))
+            .andExpect(header().doesNotExist("Authorization"));
+    }
+
+    @Test
+    void testRefreshIssuesTheCurrentAuthorities() throws Exception {
+        User user = new User();
+        user.setLogin("user-jwt-controller-refresh");
+        user.setEmail("user-jwt-controller-refresh@example.com");
+        user.setActivated(true);
+        user.setPassword(passwordEncoder.encode("test"));
+        user.setAuthorities(Set.of(authority(AuthoritiesConstants.USER)));
+        userRepository.save(user);
+        // issued while the user was still an administrator
+        String refreshToken = refreshToken(user.getLogin(), AuthoritiesConstants.ADMIN, AuthoritiesConstants.USER);
+
+        MvcResult result = mockMvc
+            .perform(post("/api/authenticate/refresh").contentType(MediaType.APPLICATION_JSON).content(refreshTokenBody(refreshToken)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.refresh_token").isNotEmpty())
+            .andReturn();
+
+        String idToken = new ObjectMapper().readTree(result.getResponse().getContentAsString()).get("id_token").asText();
+        assertThat(tokenProvider.getAuthentication(idToken).getAuthorities())
+            .extracting(GrantedAuthority::getAuthority)
+            .containsExactly(AuthoritiesConstants.USER);
+    }
+
+    @Test
+    void testRefreshFailsForDeactivatedUser() throws Exception {
+        User user = new User();
+        user.setLogin("user-jwt-controller-deactivated");
+        user.setEmail("user-jwt-controller-deactivated@example.com");
+        user.setActivated(true);
+        user.setPassword(passwordEncoder.encode("test"));
+        userRepository.save(user);
+        String refreshToken = refreshToken(user.getLogin(), AuthoritiesConstants.USER);
+        user.setActivated(false);
+        userRepository.save(user);
+
+        mockMvc
+            .perform(post("/api/authenticate/refresh").contentType(MediaType.APPLICATION_JSON).content(refreshTokenBody(refreshToken)))
+            .andExpect(status().isUnauthorized())
+            .andExpect(jsonPath("$.id_token").doesNotExist());
+    }
+
+    @Test
+    void testRefreshFailsForDeletedUser() throws Exception {
+        String refreshToken = refreshToken("user-jwt-controller-deleted", AuthoritiesConstants.USER);
+
+        mockMvc
+            .perform(post("/api/authenticate/refresh").contentType(MediaType.APPLICATION_JSON).content(refreshTokenBody(refreshToken)))
+            .andExpect(status().isUnauthorized())
+            .andExpect(jsonPath("$.id_token").doesNotExist());
+    }
+
+    private String refreshToken(String login, String... authorities) {
+        List<SimpleGrantedAuthority> grantedAuthorities = Arrays
+            .stream(authorities)
+            .map(SimpleGrantedAuthority::new)
+            .collect(Collectors.toList());
+        return tokenProvider.createRefreshToken(new UsernamePasswordAuthenticationToken(login, "", grantedAuthorities), false);
+    }
+
+    private static byte[] refreshTokenBody(String refreshToken) throws Exception {
+        RefreshTokenVM refreshTokenVM = new RefreshTokenVM();
+        refreshTokenVM.setRefreshToken(refreshToken);
+        return TestUtil.convertObjectToJsonBytes(refreshTokenVM);
+    }
+
+    private static Authority authority(String name) {
+        Authority authority = new Authority();
+        authority.setName(name);
+        return authority;
+    }
+
+    private MvcResult authenticate(LoginVM login) throws Exception {
+        return mockMvc
+            .perform(post("/api/authenticate").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(login)))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    }
 }
@@ -0,0 +1,53 @@
+const zlib = require('zlib');
+const { Compilation, sources } = require('webpack');
+
+const PLUGIN_NAME = 'PrecompressPlugin';
+
+/**
+ * Emits Brotli (.br) and gzip (.gz) variants of the static assets next to them, at the highest compression levels since it
+ * happens once at build time. StaticResourcesWebConfiguration serves them to the browsers accepting these encodings.
+ */
+class PrecompressPlugin {
+  constructor({ test = /\.(js|css|svg|json)$/, threshold = 1024, minRatio = 0.8 } = {}) {
+    this.test = test;
+    this.threshold = threshold;
+    this.minRatio = minRatio;
+  }
+
+  apply(compiler) {
+    compiler.hooks.thisCompilation.tap(PLUGIN_NAME, compilation => {
+      compilation.hooks.processAssets.tap({ name: PLUGIN_NAME, stage: Compilation.PROCESS_ASSETS_STAGE_OPTIMIZE_TRANSFER }, assets => {
+        Object.keys(assets)
+          .filter(name => this.test.test(name))
+          .forEach(name => {
+            const content = assets[name].buffer();
+            if (content.length < this.threshold) {
+              return;
+            }
+            this.emit(
+              compilation,
+              `${name}.br`,
+              content,
+              zlib.brotliCompressSync(content, {
+                params: {
+                  [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+                  [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length,
+                },
+              })
+            );
+            this.emit(compilation, `${name}.gz`, content, zlib.gzipSync(content, { level: zlib.constants.Z_BEST_COMPRESSION }));
+          });
+      });
+    });
+  }
+
+  emit(compilation, name, content, compressed) {
+    // variants that barely shrink are not worth a separate file
+    if (compressed.length / content.length > this.minRatio || compilation.getAsset(name)) {
+      return;
+    }
+    compilation.emitAsset(name, new sources.RawSource(compressed), { compressed: true });
+  }
+}
+
+module.exports = PrecompressPlugin;
@@ -7,6 +7,7 @@ const CssMinimizerPlugin = require('css-minimizer-webpack-plugin');
 const sass = require('sass');
 
 const utils = require('./utils.js');
+const PrecompressPlugin = require('./precompress-plugin.js');
 const commonConfig = require('./webpack.common.js');
 
 const ENV = 'production';
@@ -100,10 +101,11 @@ module.exports = async () =>
         minimize: true,
         debug: false,
       }),
+      new PrecompressPlugin(),
       new WorkboxPlugin.GenerateSW({
         clientsClaim: true,
         skipWaiting: true,
-        exclude: [/swagger-ui/],
+        exclude: [/swagger-ui/, /\.(br|gz)$/],
       }),
     ],
   });